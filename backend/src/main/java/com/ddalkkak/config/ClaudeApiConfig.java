@@ -8,6 +8,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ClaudeApiConfig {
 
+    @Value("${claude.api.base-url:https://api.anthropic.com}")
+    private String baseUrl;
+
     @Value("${claude.api.key}")
     private String apiKey;
 
@@ -19,4 +22,10 @@ public class ClaudeApiConfig {
 
     @Value("${claude.api.max-tokens}")
     private int maxTokens;
+
+    @Value("${claude.api.narration-max-tokens:800}")
+    private int narrationMaxTokens;
+
+    @Value("${claude.api.prompt-cache.enabled:true}")
+    private boolean promptCacheEnabled;
 }
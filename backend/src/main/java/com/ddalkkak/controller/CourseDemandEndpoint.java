@@ -0,0 +1,81 @@
+package com.ddalkkak.controller;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+import com.ddalkkak.service.CourseCacheKeyGenerator;
+import com.ddalkkak.service.CourseCachePrewarmScheduler;
+import com.ddalkkak.service.CourseCacheService;
+import com.ddalkkak.service.CourseDemandTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코스 수요 상위 조합 및 사전 생성 상태 (GET /actuator/coursedemand)
+ */
+@Component
+@Endpoint(id = "coursedemand")
+public class CourseDemandEndpoint {
+
+    private final CourseDemandTracker demandTracker;
+    private final CourseCacheService cacheService;
+    private final CourseCacheKeyGenerator cacheKeyGenerator;
+    private final CourseCachePrewarmScheduler prewarmScheduler;
+
+    public CourseDemandEndpoint(
+            CourseDemandTracker demandTracker,
+            CourseCacheService cacheService,
+            CourseCacheKeyGenerator cacheKeyGenerator,
+            @Autowired(required = false) CourseCachePrewarmScheduler prewarmScheduler) {
+        this.demandTracker = demandTracker;
+        this.cacheService = cacheService;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.prewarmScheduler = prewarmScheduler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> demand() {
+        Map<String, CourseCachePrewarmScheduler.WarmStatus> warmStatuses = prewarmScheduler != null
+                ? prewarmScheduler.getWarmStatuses()
+                : Map.of();
+        long now = System.currentTimeMillis();
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (CourseDemandTracker.DemandEntry demand : demandTracker.topDemands()) {
+            CourseCacheEntry entry = cacheService.peekEntry(demand.request());
+            CourseCachePrewarmScheduler.WarmStatus warmStatus = warmStatuses.get(demand.cacheKey());
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("cacheKey", demand.cacheKey());
+            item.put("region", cacheKeyGenerator.normalizeRegion(demand.request().getRegion()));
+            item.put("dateType", demand.request().getDateType());
+            item.put("budgetBand", cacheKeyGenerator.bandLabel(demand.request().getBudget()));
+            item.put("estimatedCount", demand.estimatedCount());
+            item.put("cached", entry != null);
+            if (entry != null && entry.getHardExpiresAt() != null) {
+                item.put("expiresInSeconds", Math.max(0, (entry.getHardExpiresAt() - now) / 1000));
+            }
+            if (warmStatus != null) {
+                item.put("lastWarmResult", warmStatus.result());
+                item.put("lastWarmCheckedAt", warmStatus.checkedAt());
+            }
+            top.add(item);
+        }
+
+        Map<String, Object> prewarm = new LinkedHashMap<>();
+        prewarm.put("enabled", prewarmScheduler != null);
+        if (prewarmScheduler != null && prewarmScheduler.getLastRun() != null) {
+            prewarm.put("lastRun", prewarmScheduler.getLastRun());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("top", top);
+        result.put("prewarm", prewarm);
+        return result;
+    }
+}
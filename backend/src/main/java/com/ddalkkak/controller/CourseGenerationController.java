@@ -2,14 +2,20 @@ package com.ddalkkak.controller;
 
 import com.ddalkkak.dto.CourseGenerationRequest;
 import com.ddalkkak.dto.CourseGenerationResponse;
+import com.ddalkkak.dto.CourseStreamEvent;
 import com.ddalkkak.service.CourseGenerationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -18,21 +24,45 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Course Generation", description = "데이트 코스 생성 API")
 public class CourseGenerationController {
 
+    private static final String EXECUTION_BLOCKING = "blocking";
+
     private final CourseGenerationService courseGenerationService;
 
+    @Value("${course.generation.execution:reactive}")
+    private String executionMode;
+
     @PostMapping("/generate")
     @Operation(summary = "데이트 코스 생성", description = "사용자 입력(지역, 유형, 예산)을 기반으로 AI가 데이트 코스 3개를 생성합니다")
-    public ResponseEntity<CourseGenerationResponse> generateCourses(
+    public Mono<ResponseEntity<CourseGenerationResponse>> generateCourses(
         @Valid @RequestBody CourseGenerationRequest request
     ) {
         log.info("Received course generation request: region={}, dateType={}, budget={}",
             request.getRegion(), request.getDateType(), request.getBudget());
 
-        CourseGenerationResponse response = courseGenerationService.generateCourses(request);
+        // blocking: 요청 스레드(플랫폼 또는 가상 스레드)에서 기존 블로킹 파이프라인 실행
+        Mono<CourseGenerationResponse> result = EXECUTION_BLOCKING.equals(executionMode)
+            ? Mono.fromCallable(() -> courseGenerationService.generateCourses(request))
+            : courseGenerationService.generateCoursesReactive(request);
+
+        return result
+            .doOnNext(response -> log.info("Course generation completed: requestId={}, coursesCount={}",
+                response.getRequestId(), response.getCourses().size()))
+            .map(ResponseEntity::ok);
+    }
 
-        log.info("Course generation completed: requestId={}, coursesCount={}",
-            response.getRequestId(), response.getCourses().size());
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "데이트 코스 생성 (스트리밍)",
+        description = "코스가 하나 완성될 때마다 SSE `course` 이벤트로 전송하고, 마지막에 `complete` 이벤트를 전송합니다")
+    public Flux<ServerSentEvent<CourseStreamEvent>> streamCourses(
+        @Valid @RequestBody CourseGenerationRequest request
+    ) {
+        log.info("Received course streaming request: region={}, dateType={}, budget={}",
+            request.getRegion(), request.getDateType(), request.getBudget());
 
-        return ResponseEntity.ok(response);
+        return courseGenerationService.streamCourses(request)
+            .map(event -> ServerSentEvent.<CourseStreamEvent>builder()
+                .event(event.getType())
+                .data(event)
+                .build());
     }
 }
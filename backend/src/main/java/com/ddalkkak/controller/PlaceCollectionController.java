@@ -1,16 +1,24 @@
 package com.ddalkkak.controller;
 
+import com.ddalkkak.domain.BatchJob;
+import com.ddalkkak.dto.BatchJobProgressResponse;
+import com.ddalkkak.service.BatchJobService;
 import com.ddalkkak.service.PlaceCollectionBatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Place Collection Controller
@@ -24,24 +32,37 @@ import java.util.Map;
 public class PlaceCollectionController {
 
     private final PlaceCollectionBatchService placeCollectionBatchService;
+    private final BatchJobService batchJobService;
 
     /**
      * 장소 수집 + AI 큐레이션 배치 실행
      */
     @PostMapping("/batch")
     @Operation(summary = "장소 수집 및 AI 큐레이션 배치 실행",
-            description = "Kakao API로 500곳 수집 + Claude API로 AI 큐레이션 (Phase 1 + Phase 2)")
+            description = "Kakao API로 500곳 수집 + Claude API로 AI 큐레이션 (Phase 1 + Phase 2). "
+                    + "진행 상황은 jobId로 GET /jobs/{id}에서 조회")
     public ResponseEntity<Map<String, String>> runCollectionBatch() {
         log.info("Starting place collection batch...");
 
         try {
+            Optional<BatchJob> runningJob = batchJobService.findRunningCollectionJob();
+            if (runningJob.isPresent()) {
+                return alreadyRunning(runningJob);
+            }
+
+            BatchJob job = placeCollectionBatchService.startCollectionJob();
             // @Async 비동기 실행
-            placeCollectionBatchService.collectAndCuratePlaces();
+            placeCollectionBatchService.runCollectionJob(job.getId());
 
             return ResponseEntity.ok(Map.of(
                     "status", "started",
+                    "jobId", String.valueOf(job.getId()),
                     "message", "Place collection and curation batch started successfully"
             ));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청/인스턴스가 먼저 작업을 생성한 경우 (RUNNING 작업 unique index)
+            log.warn("Place collection batch was started concurrently: {}", e.getMessage());
+            return alreadyRunning(batchJobService.findRunningCollectionJob());
         } catch (Exception e) {
             log.error("Failed to start batch", e);
             return ResponseEntity.internalServerError().body(Map.of(
@@ -51,6 +72,26 @@ public class PlaceCollectionController {
         }
     }
 
+    private ResponseEntity<Map<String, String>> alreadyRunning(Optional<BatchJob> runningJob) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "status", "running",
+                "jobId", runningJob.map(job -> String.valueOf(job.getId())).orElse(""),
+                "message", "Place collection batch is already running"
+        ));
+    }
+
+    /**
+     * 장소 수집 배치 진행 상황 조회
+     */
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "장소 수집 배치 진행 상황 조회",
+            description = "단계, 검색/큐레이션 처리 수, 분당 처리 속도, 남은 예상 시간")
+    public ResponseEntity<BatchJobProgressResponse> getJobProgress(@PathVariable Long id) {
+        return batchJobService.getProgress(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * 기존 장소 재큐레이션 (AI 분석만 재실행)
      */
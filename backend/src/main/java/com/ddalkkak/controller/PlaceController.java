@@ -0,0 +1,83 @@
+package com.ddalkkak.controller;
+
+import com.ddalkkak.dto.NearbyPlacesResponse;
+import com.ddalkkak.dto.PlaceFilterResponse;
+import com.ddalkkak.service.PlaceFilterIndex;
+import com.ddalkkak.service.PlaceFilterService;
+import com.ddalkkak.service.PlaceNearbyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Place Controller
+ * 큐레이션된 장소 조회
+ */
+@RestController
+@RequestMapping("/api/v1/places")
+@RequiredArgsConstructor
+@Tag(name = "Place", description = "큐레이션된 장소 조회 API")
+public class PlaceController {
+
+    private final PlaceNearbyService placeNearbyService;
+    private final PlaceFilterService placeFilterService;
+
+    /**
+     * 주변 장소 검색 (가까운 순)
+     */
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 장소 검색",
+            description = "중심 좌표에서 반경 안의 큐레이션된 장소를 데이트 적합도로 거른 뒤 가까운 순으로 반환")
+    public ResponseEntity<NearbyPlacesResponse> findNearby(
+            @Parameter(description = "중심 위도", example = "37.5563")
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+            @Parameter(description = "중심 경도", example = "126.9244")
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double lng,
+            @Parameter(description = "반경 (m, 최대 5000)", example = "1000")
+            @RequestParam(defaultValue = "1000") @Min(1) @Max(5000) int radius,
+            @Parameter(description = "최소 데이트 적합도 (0-10)", example = "7")
+            @RequestParam(defaultValue = "0") @Min(0) @Max(10) int minScore,
+            @Parameter(description = "최대 결과 수 (최대 200)", example = "50")
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
+        return ResponseEntity.ok(placeNearbyService.findNearby(lat, lng, radius, minScore, limit));
+    }
+
+    /**
+     * 분위기 태그/가격대/시간대/지역/적합도 조합 필터 (항목별 건수 포함)
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "장소 조건 필터",
+            description = "분위기 태그는 모두 포함(AND), 제외 태그는 하나도 포함하지 않음, "
+                    + "가격대/시간대/지역은 값 중 하나(OR). 항목별 건수는 조건에 맞는 장소 기준")
+    public ResponseEntity<PlaceFilterResponse> filter(
+            @Parameter(description = "모두 포함할 분위기 태그", example = "로맨틱,조용한")
+            @RequestParam(required = false, defaultValue = "") List<String> moodTags,
+            @Parameter(description = "제외할 분위기 태그", example = "활기찬")
+            @RequestParam(required = false, defaultValue = "") List<String> excludeMoodTags,
+            @Parameter(description = "가격대 (하나 이상 일치)", example = "₩₩")
+            @RequestParam(required = false, defaultValue = "") List<String> priceRanges,
+            @Parameter(description = "추천 시간대 (하나 이상 일치)", example = "저녁")
+            @RequestParam(required = false, defaultValue = "") List<String> bestTimes,
+            @Parameter(description = "지역 (하나 이상 일치)", example = "홍대")
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @Parameter(description = "최소 데이트 적합도 (0-10)", example = "7")
+            @RequestParam(defaultValue = "0") @Min(0) @Max(10) int minScore,
+            @Parameter(description = "최대 결과 수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        PlaceFilterIndex.Filter filter = new PlaceFilterIndex.Filter(
+                moodTags, excludeMoodTags, priceRanges, bestTimes, regions, minScore);
+        return ResponseEntity.ok(placeFilterService.filter(filter, limit));
+    }
+}
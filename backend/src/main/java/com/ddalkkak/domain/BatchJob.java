@@ -0,0 +1,140 @@
+package com.ddalkkak.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * BatchJob Entity
+ * 장소 수집 배치 실행 단위 (진행 상황/체크포인트 기준, 재시작 시 이어서 실행)
+ */
+@Entity
+@Table(name = "batch_jobs")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJob {
+
+    public enum JobType {
+        PLACE_COLLECTION
+    }
+
+    public enum Status {
+        RUNNING,   // 실행 중 (heartbeat가 끊기면 재개 대상)
+        COMPLETED, // 완료
+        FAILED     // 오류로 중단
+    }
+
+    public enum Phase {
+        SEARCH,   // Kakao 검색 + 장소 저장 (batch_job_checkpoints)
+        CURATION, // Claude 큐레이션 (curation_cursor)
+        DONE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 30)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Phase phase;
+
+    // Curation progress
+    @Column(name = "curation_total")
+    private Integer curationTotal;
+
+    @Column(name = "curation_processed", nullable = false)
+    private int curationProcessed;
+
+    @Column(name = "curation_succeeded", nullable = false)
+    private int curationSucceeded;
+
+    @Column(name = "curation_cursor")
+    private Long curationCursor;
+
+    @Column(name = "curation_started_at")
+    private LocalDateTime curationStartedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Metadata
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void heartbeat() {
+        this.heartbeatAt = LocalDateTime.now();
+    }
+
+    /**
+     * 검색 단계 종료, 큐레이션 단계 시작
+     */
+    public void startCuration(int curationTotal) {
+        this.phase = Phase.CURATION;
+        this.curationTotal = curationTotal;
+        this.curationStartedAt = LocalDateTime.now();
+        heartbeat();
+    }
+
+    /**
+     * 큐레이션 한 페이지 반영 완료 (cursor 이하 장소는 재개 시 건너뜀)
+     */
+    public void recordCuration(long cursor, int processed, int succeeded) {
+        this.curationCursor = cursor;
+        this.curationProcessed += processed;
+        this.curationSucceeded += succeeded;
+        heartbeat();
+    }
+
+    public void markCompleted() {
+        this.status = Status.COMPLETED;
+        this.phase = Phase.DONE;
+        this.completedAt = LocalDateTime.now();
+        heartbeat();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = Status.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+        this.completedAt = LocalDateTime.now();
+        heartbeat();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ddalkkak.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * BatchJobCheckpoint Entity
+ * 수집 배치의 지역 × 키워드별 Kakao 검색 진행 상황 (저장이 끝난 마지막 페이지)
+ */
+@Entity
+@Table(name = "batch_job_checkpoints")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false, length = 50)
+    private String region;
+
+    @Column(nullable = false, length = 50)
+    private String keyword;
+
+    // 빈틈 없이 저장된 마지막 페이지 (0: 시작 전)
+    @Column(name = "last_page", nullable = false)
+    private int lastPage;
+
+    // 1페이지 응답 후 확정
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "collected_count", nullable = false)
+    private int collectedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    // Metadata
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재개 시 처음 조회할 페이지
+     */
+    public int nextPage() {
+        return lastPage + 1;
+    }
+
+    /**
+     * 페이지 저장 완료 기록
+     * - 다음 순서의 페이지일 때만 진행 (앞 페이지가 실패했으면 재개 시 그 페이지부터 다시 조회)
+     *
+     * @return 체크포인트가 진행되었는지
+     */
+    public boolean advance(int page, int totalPages, int collected) {
+        this.totalPages = totalPages;
+        this.collectedCount += collected;
+        if (page != lastPage + 1) {
+            return false;
+        }
+        this.lastPage = page;
+        this.completed = page >= totalPages;
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ddalkkak.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CurationBatch Entity
+ * Claude Message Batches API로 제출한 장소 큐레이션 배치 (재시작 시 폴링 재개용)
+ */
+@Entity
+@Table(name = "curation_batches")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurationBatch {
+
+    public enum Status {
+        IN_PROGRESS, // 제출됨, 처리 대기/진행 중
+        APPLIED,     // 결과를 places에 반영 완료
+        FAILED       // 조회 불가 등으로 중단
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "anthropic_batch_id", unique = true, nullable = false, length = 100)
+    private String anthropicBatchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "request_count", nullable = false)
+    private Integer requestCount;
+
+    @Column(name = "succeeded_count")
+    private Integer succeededCount;
+
+    @Column(name = "errored_count")
+    private Integer erroredCount;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Metadata
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 결과 반영 완료
+     */
+    public void markApplied(int succeededCount, int erroredCount) {
+        this.status = Status.APPLIED;
+        this.succeededCount = succeededCount;
+        this.erroredCount = erroredCount;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void markFailed() {
+        this.status = Status.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ddalkkak.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 격자 셀 (0.01도 ≈ 서울 기준 위도 1.1km × 경도 0.9km)
+ * - 셀 id = (위도 인덱스 << 32) | (경도 인덱스 하위 32비트), 인덱스 = floor(도 × 100)
+ * - V8 마이그레이션의 SQL 계산식과 같은 값
+ * - 반경 검색은 원을 덮는 셀 목록으로 후보를 좁힌 뒤 실제 거리로 거름
+ */
+public final class GridCell {
+
+    public static final int CELLS_PER_DEGREE = 100;
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    private GridCell() {
+    }
+
+    public static long of(double latitude, double longitude) {
+        return encode(index(latitude), index(longitude));
+    }
+
+    /**
+     * 중심에서 반경 안의 모든 지점을 포함하는 셀 목록 (원을 감싸는 사각형 범위)
+     */
+    public static List<Long> covering(double latitude, double longitude, double radiusMeters) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude)));
+
+        long minLat = index(latitude - latDelta);
+        long maxLat = index(latitude + latDelta);
+        long minLng = index(longitude - lngDelta);
+        long maxLng = index(longitude + lngDelta);
+
+        List<Long> cells = new ArrayList<>((int) ((maxLat - minLat + 1) * (maxLng - minLng + 1)));
+        for (long lat = minLat; lat <= maxLat; lat++) {
+            for (long lng = minLng; lng <= maxLng; lng++) {
+                cells.add(encode(lat, lng));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 두 지점 사이 거리 (haversine, m)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.sqrt(h));
+    }
+
+    private static long index(double degrees) {
+        return (long) Math.floor(degrees * CELLS_PER_DEGREE);
+    }
+
+    private static long encode(long latIndex, long lngIndex) {
+        return (latIndex << 32) | (lngIndex & 0xFFFFFFFFL);
+    }
+}
@@ -6,6 +6,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
 /**
@@ -59,6 +63,14 @@ public class Place {
     @Column(nullable = false)
     private String region; // 홍대, 강남, 성수, 연남, 이태원
 
+    // 카카오 원본 필드 fingerprint (재수집 시 변경 여부를 컬럼 하나로 비교)
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
+    // 반경 검색용 격자 셀 (GridCell.of(latitude, longitude))
+    @Column(name = "grid_cell")
+    private Long gridCell;
+
     // AI Curation Fields (Claude API)
     @Column(name = "date_score")
     private Integer dateScore; // 1-10
@@ -96,6 +108,34 @@ public class Place {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 카카오 원본 필드 fingerprint 계산
+     * - MD5(필드를 0x1F로 연결, null은 빈 문자열, 좌표는 1e-7도 단위 정수)의 앞 8바이트
+     * - V6 마이그레이션의 SQL 계산식과 같은 값 (round(float8)와 같은 rint 반올림)
+     */
+    public long computeContentFingerprint() {
+        String content = String.join("\u001f",
+                nullToEmpty(name),
+                nullToEmpty(addressName),
+                nullToEmpty(roadAddressName),
+                nullToEmpty(categoryName),
+                nullToEmpty(categoryGroupCode),
+                Long.toString((long) Math.rint(latitude * 1e7)),
+                Long.toString((long) Math.rint(longitude * 1e7)),
+                nullToEmpty(placeUrl),
+                nullToEmpty(phone));
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(content.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
     /**
      * AI 큐레이션 데이터 업데이트
      */
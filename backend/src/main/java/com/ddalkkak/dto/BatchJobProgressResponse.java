@@ -0,0 +1,93 @@
+package com.ddalkkak.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 수집 배치 진행 상황")
+public class BatchJobProgressResponse {
+
+    @Schema(description = "작업 ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "상태", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "단계 (SEARCH, CURATION, DONE)", example = "CURATION")
+    private String phase;
+
+    @Schema(description = "시작 시각", example = "2025-10-13T14:30:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "경과 시간 (초)", example = "420")
+    private long elapsedSeconds;
+
+    @Schema(description = "Kakao 검색 진행 상황")
+    private SearchProgress search;
+
+    @Schema(description = "Claude 큐레이션 진행 상황")
+    private CurationProgress curation;
+
+    @Schema(description = "남은 예상 시간 (초, 진행 중이고 추정 가능할 때만)", example = "180")
+    private Long etaSeconds;
+
+    @Schema(description = "오류 메시지 (FAILED)")
+    private String errorMessage;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Kakao 검색 진행 상황 (지역 × 키워드)")
+    public static class SearchProgress {
+
+        @Schema(description = "전체 검색 수", example = "25")
+        private int totalSearches;
+
+        @Schema(description = "완료된 검색 수", example = "25")
+        private int completedSearches;
+
+        @Schema(description = "저장 완료된 페이지 수", example = "70")
+        private int pagesFetched;
+
+        @Schema(description = "남은 페이지 수 (1페이지 전이면 1로 추정)", example = "0")
+        private int pagesRemaining;
+
+        @Schema(description = "저장한 장소 수", example = "500")
+        private int collectedPlaces;
+
+        @Schema(description = "분당 페이지 처리 수", example = "120.0")
+        private double pagesPerMinute;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Claude 큐레이션 진행 상황")
+    public static class CurationProgress {
+
+        @Schema(description = "큐레이션 대상 장소 수 (단계 시작 시점 미큐레이션 장소)", example = "480")
+        private int total;
+
+        @Schema(description = "처리한 장소 수", example = "300")
+        private int processed;
+
+        @Schema(description = "결과를 반영(sync)하거나 배치로 제출(batch)한 장소 수", example = "295")
+        private int succeeded;
+
+        @Schema(description = "분당 처리 장소 수", example = "100.0")
+        private double placesPerMinute;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ddalkkak.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스 캐시 저장 단위
+ * 같은 예산 밴드의 다른 예산 요청에 재사용할 수 있도록 생성 당시 예산을 함께 저장
+ * soft expiry 이후에는 stale 값을 응답하면서 백그라운드로 갱신 (hard expiry = 캐시 TTL)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCacheEntry {
+
+    private CourseGenerationResponse response;
+
+    private Integer budget; // 응답 생성에 사용된 예산 (원)
+
+    private Long softExpiresAt; // epoch ms, 이후 stale로 간주하고 백그라운드 갱신
+
+    private Long hardExpiresAt; // epoch ms, 이후 캐시 미스
+
+    private Long computeTimeMs; // 응답 생성에 걸린 시간 (조기 갱신 확률 계산용)
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "코스 생성 응답")
@@ -26,7 +26,7 @@ public class CourseGenerationResponse {
     private List<CourseDto> courses;
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "코스 정보")
@@ -49,7 +49,7 @@ public class CourseGenerationResponse {
     }
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "장소 정보")
@@ -0,0 +1,35 @@
+package com.ddalkkak.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "코스 생성 스트리밍 이벤트 (SSE)")
+public class CourseStreamEvent {
+
+    public static final String TYPE_COURSE = "course";
+    public static final String TYPE_COMPLETE = "complete";
+
+    @Schema(description = "이벤트 유형 (course: 코스 1개 완성, complete: 전체 완료)", example = "course")
+    private String type;
+
+    @Schema(description = "요청 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String requestId;
+
+    @Schema(description = "완성된 코스 (type=course)")
+    private CourseGenerationResponse.CourseDto course;
+
+    @Schema(description = "생성된 코스 수 (type=complete)", example = "3")
+    private Integer coursesCount;
+
+    @Schema(description = "생성 시각", example = "2025-10-13T14:30:00")
+    private LocalDateTime generatedAt;
+}
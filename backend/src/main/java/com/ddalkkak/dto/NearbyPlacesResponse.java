@@ -0,0 +1,67 @@
+package com.ddalkkak.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 장소 검색 응답 (가까운 순)")
+public class NearbyPlacesResponse {
+
+    @Schema(description = "결과 수", example = "12")
+    private int count;
+
+    @Schema(description = "주변 장소 목록")
+    private List<NearbyPlaceDto> places;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "주변 장소")
+    public static class NearbyPlaceDto {
+
+        @Schema(description = "장소 ID", example = "101")
+        private Long placeId;
+
+        @Schema(description = "장소명", example = "카페 온더플랜")
+        private String name;
+
+        @Schema(description = "카테고리", example = "음식점 > 카페")
+        private String categoryName;
+
+        @Schema(description = "지역", example = "홍대")
+        private String region;
+
+        @Schema(description = "위도", example = "37.5563")
+        private double latitude;
+
+        @Schema(description = "경도", example = "126.9244")
+        private double longitude;
+
+        @Schema(description = "중심점까지 거리 (m)", example = "320")
+        private int distanceMeters;
+
+        @Schema(description = "데이트 적합도 (1-10)", example = "8")
+        private int dateScore;
+
+        @Schema(description = "분위기 태그", example = "[\"로맨틱\", \"조용한\"]")
+        private List<String> moodTags;
+
+        @Schema(description = "가격대", example = "₩₩")
+        private String priceRange;
+
+        @Schema(description = "추천 시간대", example = "저녁")
+        private String bestTime;
+
+        @Schema(description = "추천 이유", example = "야경이 아름다운 루프탑 카페")
+        private String recommendation;
+    }
+}
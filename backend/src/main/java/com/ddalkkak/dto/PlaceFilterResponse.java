@@ -0,0 +1,63 @@
+package com.ddalkkak.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장소 필터 응답 (데이트 적합도 높은 순)")
+public class PlaceFilterResponse {
+
+    @Schema(description = "조건에 맞는 전체 장소 수", example = "42")
+    private int total;
+
+    @Schema(description = "항목별 값 건수 (moodTags, priceRanges, bestTimes, regions, dateScores)",
+            example = "{\"moodTags\": {\"로맨틱\": 42, \"조용한\": 42, \"아늑한\": 17}, \"priceRanges\": {\"₩₩\": 42}}")
+    private Map<String, Map<String, Integer>> facets;
+
+    @Schema(description = "장소 목록 (limit개)")
+    private List<PlaceDto> places;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "필터 결과 장소")
+    public static class PlaceDto {
+
+        @Schema(description = "장소 ID", example = "101")
+        private Long placeId;
+
+        @Schema(description = "장소명", example = "카페 온더플랜")
+        private String name;
+
+        @Schema(description = "카테고리", example = "음식점 > 카페")
+        private String categoryName;
+
+        @Schema(description = "지역", example = "홍대")
+        private String region;
+
+        @Schema(description = "데이트 적합도 (1-10)", example = "8")
+        private Integer dateScore;
+
+        @Schema(description = "분위기 태그", example = "[\"로맨틱\", \"조용한\"]")
+        private List<String> moodTags;
+
+        @Schema(description = "가격대", example = "₩₩")
+        private String priceRange;
+
+        @Schema(description = "추천 시간대", example = "저녁")
+        private String bestTime;
+
+        @Schema(description = "추천 이유", example = "야경이 아름다운 루프탑 카페")
+        private String recommendation;
+    }
+}
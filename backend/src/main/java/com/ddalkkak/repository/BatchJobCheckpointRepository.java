@@ -0,0 +1,19 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.BatchJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * BatchJobCheckpoint Repository
+ */
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, Long> {
+
+    /**
+     * 작업의 체크포인트 조회 (생성 순서 = 지역/키워드 우선순위)
+     */
+    List<BatchJobCheckpoint> findByJobIdOrderById(Long jobId);
+}
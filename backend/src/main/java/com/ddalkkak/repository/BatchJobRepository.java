@@ -0,0 +1,49 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.BatchJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BatchJob Repository
+ */
+@Repository
+public interface BatchJobRepository extends JpaRepository<BatchJob, Long> {
+
+    Optional<BatchJob> findFirstByJobTypeAndStatusOrderByIdDesc(BatchJob.JobType jobType, BatchJob.Status status);
+
+    /**
+     * heartbeat가 끊긴 실행 중 작업 조회 (재시작/태스크 교체로 중단된 작업)
+     */
+    @Query("SELECT j FROM BatchJob j WHERE j.status = 'RUNNING' AND j.heartbeatAt < :staleBefore ORDER BY j.id")
+    List<BatchJob> findStaleRunningJobs(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 중단된 작업 재개 권한 획득 (heartbeat 조건부 갱신, 여러 인스턴스 중 1곳만 성공)
+     *
+     * @return 갱신된 행 수 (1: 획득)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.heartbeatAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.heartbeatAt < :staleBefore")
+    int claimStaleJob(@Param("id") Long id,
+                      @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중 작업 heartbeat 갱신 (작업을 실행 중인 인스턴스가 주기적으로 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchJob j SET j.heartbeatAt = :now WHERE j.id = :id AND j.status = 'RUNNING'")
+    int touchHeartbeat(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
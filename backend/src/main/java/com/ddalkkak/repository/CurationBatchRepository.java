@@ -0,0 +1,21 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.CurationBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * CurationBatch Repository
+ */
+@Repository
+public interface CurationBatchRepository extends JpaRepository<CurationBatch, Long> {
+
+    /**
+     * 상태별 배치 조회 (IN_PROGRESS: 폴링 대상)
+     */
+    List<CurationBatch> findByStatus(CurationBatch.Status status);
+
+    boolean existsByStatus(CurationBatch.Status status);
+}
@@ -0,0 +1,187 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.GridCell;
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.PlaceCurationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Place 대량 저장 (JdbcTemplate, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ * - upsertAll: 컬럼별 배열을 unnest로 펼친 INSERT ... ON CONFLICT로 BATCH_SIZE건당 1회 왕복,
+ *   삽입/변경된 장소 id를 구분해 반환
+ * - updateCurations: 큐레이션 결과를 JDBC batch UPDATE로 반영 (PlaceCurationWriter)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 배열 파라미터를 unnest로 펼쳐 배치당 1회 왕복으로 upsert
+     * - content_fingerprint가 같으면 갱신하지 않음 (쓰기 없음, RETURNING에서 빠지는 행 = 변경 없음)
+     * - xmax = 0 이면 새로 삽입된 행
+     * - region은 최초 수집 지역 유지
+     * - 큐레이션 입력(이름, 카테고리, 주소)이 바뀐 장소만 curated_at을 비워 다음 큐레이션 대상에 포함
+     *   (전화번호/URL/좌표만 바뀐 장소는 기존 큐레이션 유지)
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO places (name, kakao_place_id, address_name, road_address_name, category_name,
+                                category_group_code, latitude, longitude, place_url, phone, region,
+                                content_fingerprint, grid_cell, created_at, updated_at)
+            SELECT v.*, ?::timestamp, ?::timestamp
+            FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[],
+                        ?::text[], ?::float8[], ?::float8[], ?::text[], ?::text[], ?::text[], ?::int8[],
+                        ?::int8[]) AS v
+            ON CONFLICT (kakao_place_id) DO UPDATE SET
+                name = EXCLUDED.name,
+                address_name = EXCLUDED.address_name,
+                road_address_name = EXCLUDED.road_address_name,
+                category_name = EXCLUDED.category_name,
+                category_group_code = EXCLUDED.category_group_code,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                place_url = EXCLUDED.place_url,
+                phone = EXCLUDED.phone,
+                content_fingerprint = EXCLUDED.content_fingerprint,
+                grid_cell = EXCLUDED.grid_cell,
+                curated_at = CASE
+                    WHEN (places.name, places.category_name, places.address_name)
+                        IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.category_name, EXCLUDED.address_name)
+                    THEN NULL
+                    ELSE places.curated_at
+                END,
+                updated_at = EXCLUDED.updated_at
+            WHERE places.content_fingerprint IS DISTINCT FROM EXCLUDED.content_fingerprint
+            RETURNING id, (xmax = 0) AS inserted
+            """;
+
+    private static final String UPDATE_CURATION_SQL = """
+            UPDATE places
+            SET date_score = ?, mood_tags = ?, price_range = ?, best_time = ?, recommendation = ?,
+                curated_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 큐레이션 결과 반영 대기 항목 (엔티티를 영속성 컨텍스트에 붙이지 않고 id로 갱신)
+     */
+    public record CurationUpdate(Long placeId, PlaceCurationResult curation, LocalDateTime curatedAt) {
+    }
+
+    /**
+     * upsert 결과 (변경 없는 행은 id를 반환하지 않음)
+     */
+    public record UpsertResult(List<Long> insertedIds, List<Long> updatedIds, int unchangedCount) {
+
+        /**
+         * 새로 삽입되었거나 카카오 원본 정보가 바뀐 장소
+         */
+        public List<Long> changedIds() {
+            List<Long> changed = new ArrayList<>(insertedIds);
+            changed.addAll(updatedIds);
+            return changed;
+        }
+    }
+
+    /**
+     * kakao_place_id 기준 일괄 upsert (BATCH_SIZE 단위로 1회씩 실행)
+     */
+    public UpsertResult upsertAll(List<Place> places) {
+        // 한 문장 안에서 같은 키를 두 번 갱신할 수 없으므로 중복 제거 (먼저 나온 항목 우선)
+        Map<String, Place> uniquePlaces = new LinkedHashMap<>();
+        for (Place place : places) {
+            uniquePlaces.putIfAbsent(place.getKakaoPlaceId(), place);
+        }
+        List<Place> rows = new ArrayList<>(uniquePlaces.values());
+
+        List<Long> insertedIds = new ArrayList<>();
+        List<Long> updatedIds = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Place> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                ps.setArray(3, connection.createArrayOf("text", textColumn(batch, Place::getName)));
+                ps.setArray(4, connection.createArrayOf("text", textColumn(batch, Place::getKakaoPlaceId)));
+                ps.setArray(5, connection.createArrayOf("text", textColumn(batch, Place::getAddressName)));
+                ps.setArray(6, connection.createArrayOf("text", textColumn(batch, Place::getRoadAddressName)));
+                ps.setArray(7, connection.createArrayOf("text", textColumn(batch, Place::getCategoryName)));
+                ps.setArray(8, connection.createArrayOf("text", textColumn(batch, Place::getCategoryGroupCode)));
+                ps.setArray(9, connection.createArrayOf("float8", doubleColumn(batch, Place::getLatitude)));
+                ps.setArray(10, connection.createArrayOf("float8", doubleColumn(batch, Place::getLongitude)));
+                ps.setArray(11, connection.createArrayOf("text", textColumn(batch, Place::getPlaceUrl)));
+                ps.setArray(12, connection.createArrayOf("text", textColumn(batch, Place::getPhone)));
+                ps.setArray(13, connection.createArrayOf("text", textColumn(batch, Place::getRegion)));
+                ps.setArray(14, connection.createArrayOf("int8", fingerprintColumn(batch)));
+                ps.setArray(15, connection.createArrayOf("int8", gridCellColumn(batch)));
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                if (rs.getBoolean("inserted")) {
+                    insertedIds.add(rs.getLong("id"));
+                } else {
+                    updatedIds.add(rs.getLong("id"));
+                }
+            });
+        }
+
+        return new UpsertResult(insertedIds, updatedIds, rows.size() - insertedIds.size() - updatedIds.size());
+    }
+
+    /**
+     * 큐레이션 결과 일괄 반영 (JDBC batch UPDATE)
+     */
+    public void updateCurations(List<CurationUpdate> updates) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_CURATION_SQL, updates, BATCH_SIZE, (ps, update) -> {
+            PlaceCurationResult curation = update.curation();
+            ps.setObject(1, curation.getDateScore(), Types.INTEGER);
+            ps.setArray(2, curation.getMoodTags() != null
+                    ? ps.getConnection().createArrayOf("text", curation.getMoodTags())
+                    : null);
+            ps.setString(3, curation.getPriceRange());
+            ps.setString(4, curation.getBestTime());
+            ps.setString(5, curation.getRecommendation());
+            ps.setTimestamp(6, Timestamp.valueOf(update.curatedAt()));
+            ps.setTimestamp(7, now);
+            ps.setLong(8, update.placeId());
+        });
+    }
+
+    private static String[] textColumn(List<Place> places, Function<Place, String> getter) {
+        return places.stream().map(getter).toArray(String[]::new);
+    }
+
+    private static Long[] fingerprintColumn(List<Place> places) {
+        return places.stream().map(Place::computeContentFingerprint).toArray(Long[]::new);
+    }
+
+    private static Long[] gridCellColumn(List<Place> places) {
+        return places.stream()
+                .map(place -> GridCell.of(place.getLatitude(), place.getLongitude()))
+                .toArray(Long[]::new);
+    }
+
+    private static Double[] doubleColumn(List<Place> places, Function<Place, Double> getter) {
+        return places.stream().map(getter).toArray(Double[]::new);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ddalkkak.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.util.function.Consumer;
+
+/**
+ * 장소 카탈로그 스냅샷 적재용 조회 (엔티티를 만들지 않고 필요한 컬럼만 한 행씩 전달)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceCatalogRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT id, region, name, category_name, category_group_code, latitude, longitude,
+                   date_score, mood_tags, price_range, best_time, recommendation
+            FROM places
+            ORDER BY region, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 카탈로그 한 행 (미큐레이션 장소는 dateScore 0, 큐레이션 필드 null)
+     */
+    public record CatalogRow(long id, String region, String name, String categoryName, String categoryGroupCode,
+                             double latitude, double longitude, int dateScore, String[] moodTags,
+                             String priceRange, String bestTime, String recommendation) {
+    }
+
+    /**
+     * 전체 장소를 지역, id 순으로 한 행씩 처리
+     */
+    public void forEachPlace(Consumer<CatalogRow> rowConsumer) {
+        jdbcTemplate.query(SELECT_SQL, (RowCallbackHandler) rs -> {
+            Array moodTags = rs.getArray("mood_tags");
+            rowConsumer.accept(new CatalogRow(
+                    rs.getLong("id"),
+                    rs.getString("region"),
+                    rs.getString("name"),
+                    rs.getString("category_name"),
+                    rs.getString("category_group_code"),
+                    rs.getDouble("latitude"),
+                    rs.getDouble("longitude"),
+                    rs.getInt("date_score"), // NULL은 0
+                    moodTags != null ? (String[]) moodTags.getArray() : null,
+                    rs.getString("price_range"),
+                    rs.getString("best_time"),
+                    rs.getString("recommendation")
+            ));
+        });
+    }
+}
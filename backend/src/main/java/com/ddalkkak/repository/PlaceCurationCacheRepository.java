@@ -0,0 +1,95 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 큐레이션 결과 캐시 (place_curation_cache, 결과는 JSONB)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PlaceCurationCacheRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT cache_key, result FROM place_curation_cache WHERE cache_key = ANY(?::text[])";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO place_curation_cache (cache_key, model, template_version, result, created_at)
+            VALUES (?, ?, ?, ?::jsonb, CURRENT_TIMESTAMP)
+            ON CONFLICT (cache_key) DO UPDATE SET result = EXCLUDED.result, created_at = EXCLUDED.created_at
+            """;
+
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM place_curation_cache WHERE model <> ? OR template_version <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 키 목록 일괄 조회 (쿼리 1회)
+     *
+     * @return cacheKey → 결과 (없는 키는 제외)
+     */
+    public Map<String, PlaceCurationResult> findAll(Collection<String> cacheKeys) {
+        Map<String, PlaceCurationResult> results = new HashMap<>();
+        if (cacheKeys.isEmpty()) {
+            return results;
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL);
+            ps.setArray(1, connection.createArrayOf("text", cacheKeys.toArray(String[]::new)));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            String cacheKey = rs.getString("cache_key");
+            try {
+                results.put(cacheKey, objectMapper.readValue(rs.getString("result"), PlaceCurationResult.class));
+            } catch (JsonProcessingException e) {
+                // 손상된 항목은 미스로 처리 (새 결과로 덮어씀)
+                log.warn("Malformed curation cache entry: {}", cacheKey);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 결과 일괄 저장 (이미 있는 키는 새 결과로 교체)
+     */
+    public void saveAll(Map<String, PlaceCurationResult> resultsByKey, String model, String templateVersion) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<String, PlaceCurationResult> entry : resultsByKey.entrySet()) {
+            try {
+                rows.add(new Object[]{entry.getKey(), model, templateVersion,
+                        objectMapper.writeValueAsString(entry.getValue())});
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize curation result: {}", entry.getKey(), e);
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * 현재 모델/템플릿 버전이 아닌 항목 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteStale(String model, String templateVersion) {
+        return jdbcTemplate.update(DELETE_STALE_SQL, model, templateVersion);
+    }
+}
@@ -1,11 +1,13 @@
 package com.ddalkkak.repository;
 
 import com.ddalkkak.domain.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,18 +27,38 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
      */
     List<Place> findByRegion(String region);
 
+    /**
+     * 지역별 장소 조회 (keyset 페이지: afterId 다음부터 id 순)
+     */
+    @Query("SELECT p FROM Place p WHERE p.region = :region AND p.id > :afterId ORDER BY p.id")
+    List<Place> findByRegionAfter(@Param("region") String region, @Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * AI 큐레이션이 완료되지 않은 장소 조회
      */
     @Query("SELECT p FROM Place p WHERE p.curatedAt IS NULL")
     List<Place> findUncuratedPlaces();
 
+    long countByCuratedAtIsNull();
+
+    /**
+     * AI 큐레이션이 완료되지 않은 장소 조회 (keyset 페이지: afterId 다음부터 id 순)
+     */
+    @Query("SELECT p FROM Place p WHERE p.curatedAt IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<Place> findUncuratedPlacesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 데이트 점수 범위로 장소 조회
      */
     @Query("SELECT p FROM Place p WHERE p.dateScore >= :minScore AND p.region = :region ORDER BY p.dateScore DESC")
     List<Place> findByRegionAndMinDateScore(@Param("region") String region, @Param("minScore") Integer minScore);
 
+    /**
+     * 격자 셀 목록 안의 큐레이션된 장소 조회 (반경 검색 후보, 실제 거리 필터는 호출 측)
+     */
+    @Query("SELECT p FROM Place p WHERE p.gridCell IN :cells AND p.dateScore >= :minScore AND p.curatedAt IS NOT NULL")
+    List<Place> findCuratedInCells(@Param("cells") Collection<Long> cells, @Param("minScore") Integer minScore);
+
     /**
      * 특정 지역의 장소 수 조회
      */
@@ -0,0 +1,86 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.Place;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Place 대량 스캔 (id 기준 keyset 페이지)
+ * - OFFSET 없이 마지막 id 다음부터 page-size건씩 조회하므로 뒤 페이지도 비용이 같음
+ * - 한 번에 한 페이지만 메모리에 두고, 처리가 끝난 페이지는 영속성 컨텍스트에서 분리
+ *   (호출자가 트랜잭션 안이어도 스캔한 엔티티가 누적되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceScanRepository {
+
+    private final PlaceRepository placeRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 미큐레이션 장소를 페이지 단위로 처리
+     *
+     * @return 처리한 장소 수
+     */
+    public long scanUncurated(int pageSize, Consumer<List<Place>> pageConsumer) {
+        return scanUncurated(0, pageSize, pageConsumer);
+    }
+
+    /**
+     * afterId 다음 미큐레이션 장소부터 페이지 단위로 처리 (중단된 작업 재개)
+     *
+     * @return 처리한 장소 수
+     */
+    public long scanUncurated(long afterId, int pageSize, Consumer<List<Place>> pageConsumer) {
+        return scan(afterId, pageSize, placeRepository::findUncuratedPlacesAfter, pageConsumer);
+    }
+
+    /**
+     * 지역별 장소를 페이지 단위로 처리
+     *
+     * @return 처리한 장소 수
+     */
+    public long scanByRegion(String region, int pageSize, Consumer<List<Place>> pageConsumer) {
+        return scan(0, pageSize, (afterId, pageable) -> placeRepository.findByRegionAfter(region, afterId, pageable),
+                pageConsumer);
+    }
+
+    private long scan(long startAfterId, int pageSize, BiFunction<Long, Pageable, List<Place>> fetchPage,
+                      Consumer<List<Place>> pageConsumer) {
+        Pageable pageable = PageRequest.ofSize(pageSize);
+        long afterId = startAfterId;
+        long scanned = 0;
+
+        while (true) {
+            List<Place> page = fetchPage.apply(afterId, pageable);
+            if (page.isEmpty()) {
+                return scanned;
+            }
+
+            // 처리 중 큐레이션되어 조건에서 빠지는 행이 있어도 커서는 id라 건너뛰거나 중복되지 않음
+            afterId = page.get(page.size() - 1).getId();
+            pageConsumer.accept(page);
+            scanned += page.size();
+            detach(page);
+
+            if (page.size() < pageSize) {
+                return scanned;
+            }
+        }
+    }
+
+    private void detach(List<Place> page) {
+        for (Place place : page) {
+            if (entityManager.contains(place)) {
+                entityManager.detach(place);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.BatchJob;
+import com.ddalkkak.domain.BatchJobCheckpoint;
+import com.ddalkkak.dto.BatchJobProgressResponse;
+import com.ddalkkak.repository.BatchJobCheckpointRepository;
+import com.ddalkkak.repository.BatchJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 장소 수집 배치 작업/체크포인트 관리
+ * - 작업 생성 시 지역 × 키워드 체크포인트를 함께 생성
+ * - 체크포인트/큐레이션 진행을 저장할 때마다 heartbeat 갱신 (끊긴 작업은 재개 대상)
+ * - 이 인스턴스에서 실행 중인 작업은 heartbeat-interval마다 heartbeat를 갱신하고 재개 대상에서 제외
+ * - 진행률/처리 속도/남은 시간 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchJobService {
+
+    private final BatchJobRepository batchJobRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+
+    // heartbeat가 이 시간 이상 없으면 중단된 작업으로 보고 재개
+    @Value("${place.collection.job.stale-after:600000}")
+    private long staleAfterMs;
+
+    // 이 인스턴스에서 실행 중인 작업 id
+    private final Set<Long> localRunningJobIds = ConcurrentHashMap.newKeySet();
+
+    public Optional<BatchJob> findRunningCollectionJob() {
+        return batchJobRepository.findFirstByJobTypeAndStatusOrderByIdDesc(
+                BatchJob.JobType.PLACE_COLLECTION, BatchJob.Status.RUNNING);
+    }
+
+    public Optional<BatchJob> findJob(Long jobId) {
+        return batchJobRepository.findById(jobId);
+    }
+
+    /**
+     * 수집 작업 생성 (지역/키워드 순서대로 체크포인트 생성)
+     *
+     * @throws DataIntegrityViolationException 이미 실행 중인 수집 작업이 있는 경우 (uk_batch_jobs_running)
+     */
+    @Transactional
+    public BatchJob createCollectionJob(List<String> regions, List<String> keywords) {
+        LocalDateTime now = LocalDateTime.now();
+        BatchJob job = batchJobRepository.save(BatchJob.builder()
+                .jobType(BatchJob.JobType.PLACE_COLLECTION)
+                .status(BatchJob.Status.RUNNING)
+                .phase(BatchJob.Phase.SEARCH)
+                .heartbeatAt(now)
+                .startedAt(now)
+                .build());
+
+        List<BatchJobCheckpoint> checkpoints = new ArrayList<>();
+        for (String region : regions) {
+            for (String keyword : keywords) {
+                checkpoints.add(BatchJobCheckpoint.builder()
+                        .jobId(job.getId())
+                        .region(region)
+                        .keyword(keyword)
+                        .build());
+            }
+        }
+        checkpointRepository.saveAll(checkpoints);
+
+        log.info("Created collection job: jobId={}, checkpoints={}", job.getId(), checkpoints.size());
+        return job;
+    }
+
+    public List<BatchJobCheckpoint> getCheckpoints(Long jobId) {
+        return checkpointRepository.findByJobIdOrderById(jobId);
+    }
+
+    /**
+     * 검색 페이지 저장 완료 기록
+     */
+    @Transactional
+    public void saveCheckpoint(BatchJob job, BatchJobCheckpoint checkpoint) {
+        checkpointRepository.save(checkpoint);
+        job.heartbeat();
+        batchJobRepository.save(job);
+    }
+
+    public BatchJob save(BatchJob job) {
+        return batchJobRepository.save(job);
+    }
+
+    /**
+     * heartbeat가 끊긴 실행 중 작업 중 재개 권한을 얻은 작업 (이 인스턴스에서 실행 중인 작업 제외)
+     */
+    public List<BatchJob> claimStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(Duration.ofMillis(staleAfterMs));
+
+        return batchJobRepository.findStaleRunningJobs(staleBefore).stream()
+                .filter(job -> !localRunningJobIds.contains(job.getId()))
+                .filter(job -> batchJobRepository.claimStaleJob(job.getId(), staleBefore, now) == 1)
+                .toList();
+    }
+
+    /**
+     * 이 인스턴스에서 작업 실행 시작 (이미 실행 중이면 false)
+     */
+    public boolean markLocalRunning(Long jobId) {
+        return localRunningJobIds.add(jobId);
+    }
+
+    public void unmarkLocalRunning(Long jobId) {
+        localRunningJobIds.remove(jobId);
+    }
+
+    /**
+     * 작업 heartbeat 갱신 (페이지보다 오래 걸리지 않는 단위로 호출)
+     */
+    public void heartbeat(Long jobId) {
+        batchJobRepository.touchHeartbeat(jobId, LocalDateTime.now());
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업 heartbeat 갱신 (한 페이지가 stale-after보다 오래 걸려도 재개 대상이 되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${place.collection.job.heartbeat-interval:60000}")
+    public void heartbeatLocalRunningJobs() {
+        for (Long jobId : localRunningJobIds) {
+            try {
+                heartbeat(jobId);
+            } catch (Exception e) {
+                log.warn("Failed to update job heartbeat: jobId={}", jobId, e);
+            }
+        }
+    }
+
+    /**
+     * 진행 상황 조회 (처리 속도는 단계 시작 이후 평균, 남은 시간은 현재 단계 기준 추정)
+     */
+    public Optional<BatchJobProgressResponse> getProgress(Long jobId) {
+        return batchJobRepository.findById(jobId)
+                .map(job -> toProgress(job, checkpointRepository.findByJobIdOrderById(jobId), LocalDateTime.now()));
+    }
+
+    BatchJobProgressResponse toProgress(BatchJob job, List<BatchJobCheckpoint> checkpoints, LocalDateTime now) {
+        LocalDateTime endedAt = job.getCompletedAt() != null ? job.getCompletedAt() : now;
+
+        int completedSearches = 0;
+        int pagesFetched = 0;
+        int pagesRemaining = 0;
+        int collectedPlaces = 0;
+        for (BatchJobCheckpoint checkpoint : checkpoints) {
+            if (checkpoint.isCompleted()) {
+                completedSearches++;
+            }
+            pagesFetched += checkpoint.getLastPage();
+            // 1페이지 전에는 전체 페이지 수를 모르므로 최소 1페이지로 추정
+            pagesRemaining += checkpoint.getTotalPages() != null
+                    ? Math.max(0, checkpoint.getTotalPages() - checkpoint.getLastPage())
+                    : 1;
+            collectedPlaces += checkpoint.getCollectedCount();
+        }
+
+        // 검색 단계는 작업 시작부터, 큐레이션 단계는 단계 시작부터의 평균 속도
+        LocalDateTime searchEndedAt = job.getCurationStartedAt() != null ? job.getCurationStartedAt() : endedAt;
+        double pagesPerMinute = perMinute(pagesFetched, job.getStartedAt(), searchEndedAt);
+        double placesPerMinute = job.getCurationStartedAt() != null
+                ? perMinute(job.getCurationProcessed(), job.getCurationStartedAt(), endedAt)
+                : 0;
+
+        Long etaSeconds = null;
+        if (job.getStatus() == BatchJob.Status.RUNNING) {
+            if (job.getPhase() == BatchJob.Phase.SEARCH) {
+                etaSeconds = eta(pagesRemaining, pagesPerMinute);
+            } else if (job.getPhase() == BatchJob.Phase.CURATION && job.getCurationTotal() != null) {
+                etaSeconds = eta(Math.max(0, job.getCurationTotal() - job.getCurationProcessed()), placesPerMinute);
+            }
+        }
+
+        return BatchJobProgressResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .phase(job.getPhase().name())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .elapsedSeconds(Duration.between(job.getStartedAt(), endedAt).toSeconds())
+                .search(BatchJobProgressResponse.SearchProgress.builder()
+                        .totalSearches(checkpoints.size())
+                        .completedSearches(completedSearches)
+                        .pagesFetched(pagesFetched)
+                        .pagesRemaining(pagesRemaining)
+                        .collectedPlaces(collectedPlaces)
+                        .pagesPerMinute(pagesPerMinute)
+                        .build())
+                .curation(BatchJobProgressResponse.CurationProgress.builder()
+                        .total(job.getCurationTotal() != null ? job.getCurationTotal() : 0)
+                        .processed(job.getCurationProcessed())
+                        .succeeded(job.getCurationSucceeded())
+                        .placesPerMinute(placesPerMinute)
+                        .build())
+                .etaSeconds(etaSeconds)
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+
+    private static double perMinute(int count, LocalDateTime from, LocalDateTime to) {
+        long elapsedMs = Duration.between(from, to).toMillis();
+        return elapsedMs > 0 ? count * 60_000.0 / elapsedMs : 0;
+    }
+
+    private static Long eta(int remaining, double perMinute) {
+        if (remaining == 0) {
+            return 0L;
+        }
+        return perMinute > 0 ? Math.round(remaining * 60 / perMinute) : null;
+    }
+}
@@ -6,33 +6,105 @@ import com.ddalkkak.dto.CourseGenerationResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ClaudeApiService {
 
+    private static final String FALLBACK_ID_PREFIX = "fallback-";
+    private static final String OPERATION_FULL = "full";
+    private static final String OPERATION_NARRATION = "narration";
+
+    /**
+     * 코스 생성 공통 지침 (요청 조건과 무관, system 블록으로 캐시)
+     */
+    private static final String COURSE_SYSTEM_PROMPT = """
+        당신은 서울 데이트 코스 추천 전문가입니다.
+        요청 조건에 맞는 데이트 코스 3개를 추천해주세요.
+
+        응답 형식 (JSON):
+        {
+          "courses": [
+            {
+              "courseId": "c1",
+              "title": "코스 제목",
+              "places": [
+                {
+                  "placeId": "p1",
+                  "name": "장소명",
+                  "category": "카테고리",
+                  "estimatedCost": 15000,
+                  "estimatedDuration": 60,
+                  "description": "설명"
+                }
+              ],
+              "totalCost": 95000,
+              "totalTime": "4.5시간"
+            }
+          ]
+        }
+
+        주의사항:
+        1. 각 코스는 3-5개의 장소로 구성
+        2. 총 비용은 예산의 ±10% 이내
+        3. 이동 동선을 고려한 효율적인 경로
+        4. 각 장소마다 상세한 설명 포함
+        5. 반드시 JSON 형식으로만 응답
+        """;
+
+    /**
+     * Hybrid 모드 공통 지침 (system 블록)
+     */
+    private static final String NARRATION_SYSTEM_PROMPT = """
+        당신은 서울 데이트 코스 소개 문구를 작성하는 에디터입니다.
+        장소와 순서는 이미 확정되었습니다. 장소를 추가/삭제/변경하지 마세요.
+        각 코스의 제목(20자 이내)과 장소별 한 줄 설명(30자 이내)만 작성해주세요.
+        descriptions는 장소 순서와 같은 순서로 작성합니다.
+
+        JSON만 반환:
+        {"courses": [{"courseId": "c1", "title": "제목", "descriptions": ["장소1 설명", "장소2 설명"]}]}
+        """;
+
     private final ClaudeApiConfig config;
     private final ObjectMapper objectMapper;
-    private final WebClient webClient = WebClient.builder()
-        .baseUrl("https://api.anthropic.com")
-        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-        .build();
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final LocalCoursePlanner localCoursePlanner;
+    private final ClaudeUsageRecorder usageRecorder;
+    private WebClient webClient;
+
+    @PostConstruct
+    void initWebClient() {
+        // base-url은 부하 테스트 시 스텁 서버로 교체 가능
+        this.webClient = WebClient.builder()
+            .baseUrl(config.getBaseUrl())
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+    }
 
     @CircuitBreaker(name = "claudeApi", fallbackMethod = "generateCoursesFallback")
     public CourseGenerationResponse generateCourses(CourseGenerationRequest request) {
@@ -45,51 +117,209 @@ public class ClaudeApiService {
         return parseResponse(response, request);
     }
 
-    private String buildPrompt(CourseGenerationRequest request) {
+    /**
+     * Non-blocking 코스 생성 (서블릿 스레드를 점유하지 않음)
+     * Circuit Breaker/Fallback 동작은 generateCourses와 동일 (resilience4j-reactor)
+     */
+    @CircuitBreaker(name = "claudeApi", fallbackMethod = "generateCoursesReactiveFallback")
+    public Mono<CourseGenerationResponse> generateCoursesReactive(CourseGenerationRequest request) {
+        log.info("Calling Claude API (reactive) for course generation: region={}, dateType={}, budget={}",
+            request.getRegion(), request.getDateType(), request.getBudget());
+
+        String prompt = buildPrompt(request);
+        return callClaudeApiReactive(prompt)
+            .map(response -> parseResponse(response, request));
+    }
+
+    /**
+     * Claude Streaming Messages API로 코스 생성
+     * courses 배열의 각 코스 객체가 닫히는 즉시 CourseDto로 방출
+     * - 첫 코스 방출 전 실패 시 Fallback 코스로 대체, 이후 실패는 에러로 전달
+     */
+    public Flux<CourseGenerationResponse.CourseDto> streamCourses(CourseGenerationRequest request) {
+        log.info("Streaming Claude API for course generation: region={}, dateType={}, budget={}",
+            request.getRegion(), request.getDateType(), request.getBudget());
+
+        AtomicInteger emitted = new AtomicInteger();
+
+        return Flux.defer(() -> {
+                CourseStreamParser parser = new CourseStreamParser();
+                return callClaudeApiStream(buildPrompt(request))
+                    .concatMapIterable(parser::feed)
+                    .map(this::parseCourse);
+            })
+            .timeout(Duration.ofMillis(config.getTimeout()))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker("claudeApi")))
+            .doOnNext(course -> emitted.incrementAndGet())
+            .onErrorResume(e -> emitted.get() == 0, e -> {
+                log.warn("Course stream failed before first course, using fallback: region={}, dateType={}",
+                    request.getRegion(), request.getDateType(), e);
+                return Mono.fromCallable(() -> fallbackCourses(request))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapIterable(courses -> courses);
+            });
+    }
+
+    /**
+     * Hybrid 모드: 로컬 플래너가 확정한 코스(장소/비용/동선)에 제목과 장소별 한 줄 설명만 생성
+     * - 출력 토큰 상한은 narration-max-tokens (전체 생성 대비 작게)
+     * - 실패 시 로컬 플래너 결과를 그대로 반환
+     */
+    public Mono<CourseGenerationResponse> narrateCoursesReactive(CourseGenerationRequest request,
+                                                                 CourseGenerationResponse skeleton) {
+        log.info("Calling Claude API for course narration: region={}, dateType={}, courses={}",
+            request.getRegion(), request.getDateType(), skeleton.getCourses().size());
+
+        return callClaudeApiReactive(NARRATION_SYSTEM_PROMPT, buildNarrationPrompt(request, skeleton),
+                config.getNarrationMaxTokens(), OPERATION_NARRATION)
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker("claudeApi")))
+            .map(response -> applyNarration(skeleton, response))
+            .onErrorResume(e -> {
+                log.warn("Course narration failed, using local planner text: region={}, dateType={}",
+                    request.getRegion(), request.getDateType(), e);
+                return Mono.just(skeleton);
+            });
+    }
+
+    public CourseGenerationResponse narrateCourses(CourseGenerationRequest request,
+                                                   CourseGenerationResponse skeleton) {
+        return narrateCoursesReactive(request, skeleton).block();
+    }
+
+    private String buildNarrationPrompt(CourseGenerationRequest request, CourseGenerationResponse skeleton) {
+        StringBuilder courses = new StringBuilder();
+        for (int i = 0; i < skeleton.getCourses().size(); i++) {
+            courses.append("[c").append(i + 1).append("] ");
+            List<CourseGenerationResponse.PlaceDto> places = skeleton.getCourses().get(i).getPlaces();
+            for (int j = 0; j < places.size(); j++) {
+                if (j > 0) {
+                    courses.append(" → ");
+                }
+                courses.append(places.get(j).getName()).append('(').append(places.get(j).getCategory()).append(')');
+            }
+            courses.append('\n');
+        }
+
         return String.format("""
-            당신은 서울 데이트 코스 추천 전문가입니다.
-            아래 조건에 맞는 데이트 코스 3개를 추천해주세요.
+            서울 %s 지역 %s 코스:
+            %s""", request.getRegion(), request.getDateType(), courses);
+    }
 
-            조건:
-            - 지역: %s
-            - 데이트 유형: %s
-            - 예산: %,d원
+    /**
+     * 생성된 제목/설명을 코스에 병합 (누락된 코스는 로컬 플래너 텍스트 유지)
+     */
+    private CourseGenerationResponse applyNarration(CourseGenerationResponse skeleton, String apiResponse) {
+        try {
+            String text = objectMapper.readTree(apiResponse).path("content").get(0).path("text").asText();
+            JsonNode narration = objectMapper.readTree(extractJsonFromText(text)).path("courses");
 
-            응답 형식 (JSON):
-            {
-              "courses": [
-                {
-                  "courseId": "c1",
-                  "title": "코스 제목",
-                  "places": [
-                    {
-                      "placeId": "p1",
-                      "name": "장소명",
-                      "category": "카테고리",
-                      "estimatedCost": 15000,
-                      "estimatedDuration": 60,
-                      "description": "설명"
-                    }
-                  ],
-                  "totalCost": 95000,
-                  "totalTime": "4.5시간"
+            List<CourseGenerationResponse.CourseDto> courses = new ArrayList<>();
+            for (int i = 0; i < skeleton.getCourses().size(); i++) {
+                CourseGenerationResponse.CourseDto course = skeleton.getCourses().get(i);
+                JsonNode courseNarration = findNarration(narration, "c" + (i + 1));
+                if (courseNarration == null) {
+                    courses.add(course);
+                    continue;
+                }
+
+                JsonNode descriptions = courseNarration.path("descriptions");
+                List<CourseGenerationResponse.PlaceDto> places = new ArrayList<>();
+                for (int j = 0; j < course.getPlaces().size(); j++) {
+                    CourseGenerationResponse.PlaceDto place = course.getPlaces().get(j);
+                    String description = descriptions.path(j).asText(place.getDescription());
+                    places.add(place.toBuilder().description(description).build());
                 }
-              ]
+                courses.add(course.toBuilder()
+                    .courseId("c" + (i + 1))
+                    .title(courseNarration.path("title").asText(course.getTitle()))
+                    .places(places)
+                    .build());
+            }
+
+            return skeleton.toBuilder()
+                .courses(courses)
+                .build();
+
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to parse course narration, using local planner text", e);
+            return skeleton;
+        }
+    }
+
+    private JsonNode findNarration(JsonNode narration, String courseId) {
+        for (JsonNode node : narration) {
+            if (courseId.equals(node.path("courseId").asText())) {
+                return node;
             }
+        }
+        return null;
+    }
 
-            주의사항:
-            1. 각 코스는 3-5개의 장소로 구성
-            2. 총 비용은 예산의 ±10%% 이내
-            3. 이동 동선을 고려한 효율적인 경로
-            4. 각 장소마다 상세한 설명 포함
-            5. 반드시 JSON 형식으로만 응답
+    /**
+     * 요청별 가변 조건 (공통 지침은 COURSE_SYSTEM_PROMPT)
+     */
+    private String buildPrompt(CourseGenerationRequest request) {
+        return String.format("""
+            조건:
+            - 지역: %s
+            - 데이트 유형: %s
+            - 예산: %,d원
             """, request.getRegion(), request.getDateType(), request.getBudget());
     }
 
     private String callClaudeApi(String prompt) {
+        try {
+            return callClaudeApiReactive(prompt).block();
+        } catch (Exception e) {
+            log.error("Claude API call failed", e);
+            throw new RuntimeException("Claude API 호출 실패", e);
+        }
+    }
+
+    private Mono<String> callClaudeApiReactive(String prompt) {
+        return callClaudeApiReactive(COURSE_SYSTEM_PROMPT, prompt, config.getMaxTokens(), OPERATION_FULL);
+    }
+
+    /**
+     * @param operation 메트릭 태그 (full: 전체 코스 생성, narration: hybrid 모드 텍스트 생성)
+     */
+    private Mono<String> callClaudeApiReactive(String systemPrompt, String prompt, int maxTokens, String operation) {
+        Map<String, Object> requestBody = Map.of(
+            "model", config.getModel(),
+            "max_tokens", maxTokens,
+            "system", ClaudePromptCache.systemBlocks(systemPrompt, config.isPromptCacheEnabled()),
+            "messages", List.of(
+                Map.of(
+                    "role", "user",
+                    "content", prompt
+                )
+            )
+        );
+
+        return webClient.post()
+            .uri("/v1/messages")
+            .header("x-api-key", config.getApiKey())
+            .header("anthropic-version", "2023-06-01")
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(String.class)
+            .timeout(Duration.ofMillis(config.getTimeout()))
+            .elapsed()
+            .map(timed -> {
+                usageRecorder.record(operation, timed.getT1(), timed.getT2());
+                return timed.getT2();
+            });
+    }
+
+    /**
+     * 스트리밍 호출: content_block_delta 이벤트의 텍스트 조각만 순서대로 방출
+     */
+    private Flux<String> callClaudeApiStream(String prompt) {
         Map<String, Object> requestBody = Map.of(
             "model", config.getModel(),
             "max_tokens", config.getMaxTokens(),
+            "stream", true,
+            "system", ClaudePromptCache.systemBlocks(COURSE_SYSTEM_PROMPT, config.isPromptCacheEnabled()),
             "messages", List.of(
                 Map.of(
                     "role", "user",
@@ -98,20 +328,32 @@ public class ClaudeApiService {
             )
         );
 
-        try {
-            return webClient.post()
-                .uri("/v1/messages")
-                .header("x-api-key", config.getApiKey())
-                .header("anthropic-version", "2023-06-01")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofMillis(config.getTimeout()))
-                .block();
-        } catch (Exception e) {
-            log.error("Claude API call failed", e);
-            throw new RuntimeException("Claude API 호출 실패", e);
-        }
+        return webClient.post()
+            .uri("/v1/messages")
+            .header("x-api-key", config.getApiKey())
+            .header("anthropic-version", "2023-06-01")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+            .takeUntil(event -> "message_stop".equals(event.event()))
+            .handle((event, sink) -> {
+                if ("error".equals(event.event())) {
+                    sink.error(new RuntimeException("Claude API 스트리밍 오류: " + event.data()));
+                    return;
+                }
+                if (!"content_block_delta".equals(event.event()) || event.data() == null) {
+                    return;
+                }
+                try {
+                    JsonNode delta = objectMapper.readTree(event.data()).path("delta");
+                    if ("text_delta".equals(delta.path("type").asText())) {
+                        sink.next(delta.path("text").asText());
+                    }
+                } catch (JsonProcessingException e) {
+                    sink.error(new RuntimeException("Claude API 스트리밍 응답 파싱 실패", e));
+                }
+            });
     }
 
     private CourseGenerationResponse parseResponse(String apiResponse, CourseGenerationRequest request) {
@@ -157,30 +399,43 @@ public class ClaudeApiService {
         JsonNode coursesArray = coursesJson.path("courses");
 
         for (JsonNode courseNode : coursesArray) {
-            List<CourseGenerationResponse.PlaceDto> places = new ArrayList<>();
-            JsonNode placesArray = courseNode.path("places");
-
-            for (JsonNode placeNode : placesArray) {
-                places.add(CourseGenerationResponse.PlaceDto.builder()
-                    .placeId(placeNode.path("placeId").asText())
-                    .name(placeNode.path("name").asText())
-                    .category(placeNode.path("category").asText())
-                    .estimatedCost(placeNode.path("estimatedCost").asInt())
-                    .estimatedDuration(placeNode.path("estimatedDuration").asInt())
-                    .description(placeNode.path("description").asText())
-                    .build());
-            }
+            courses.add(parseCourse(courseNode));
+        }
 
-            courses.add(CourseGenerationResponse.CourseDto.builder()
-                .courseId(courseNode.path("courseId").asText())
-                .title(courseNode.path("title").asText())
-                .places(places)
-                .totalCost(courseNode.path("totalCost").asInt())
-                .totalTime(courseNode.path("totalTime").asText())
+        return courses;
+    }
+
+    private CourseGenerationResponse.CourseDto parseCourse(String courseJson) {
+        try {
+            return parseCourse(objectMapper.readTree(courseJson));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse streamed course: {}", courseJson, e);
+            throw new RuntimeException("Claude API 응답 파싱 실패", e);
+        }
+    }
+
+    private CourseGenerationResponse.CourseDto parseCourse(JsonNode courseNode) {
+        List<CourseGenerationResponse.PlaceDto> places = new ArrayList<>();
+        JsonNode placesArray = courseNode.path("places");
+
+        for (JsonNode placeNode : placesArray) {
+            places.add(CourseGenerationResponse.PlaceDto.builder()
+                .placeId(placeNode.path("placeId").asText())
+                .name(placeNode.path("name").asText())
+                .category(placeNode.path("category").asText())
+                .estimatedCost(placeNode.path("estimatedCost").asInt())
+                .estimatedDuration(placeNode.path("estimatedDuration").asInt())
+                .description(placeNode.path("description").asText())
                 .build());
         }
 
-        return courses;
+        return CourseGenerationResponse.CourseDto.builder()
+            .courseId(courseNode.path("courseId").asText())
+            .title(courseNode.path("title").asText())
+            .places(places)
+            .totalCost(courseNode.path("totalCost").asInt())
+            .totalTime(courseNode.path("totalTime").asText())
+            .build();
     }
 
     // Fallback method for Circuit Breaker
@@ -191,10 +446,41 @@ public class ClaudeApiService {
         return CourseGenerationResponse.builder()
             .requestId(UUID.randomUUID().toString())
             .generatedAt(LocalDateTime.now())
-            .courses(createFallbackCourses(request))
+            .courses(fallbackCourses(request))
             .build();
     }
 
+    public Mono<CourseGenerationResponse> generateCoursesReactiveFallback(CourseGenerationRequest request, Exception e) {
+        // 로컬 플래너가 장소 후보를 처음 읽을 때 DB 조회가 발생할 수 있어 별도 스케줄러에서 실행
+        return Mono.fromCallable(() -> generateCoursesFallback(request, e))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Circuit Breaker fallback(로컬 플래너 또는 룰 베이스) 응답인지 여부
+     */
+    public boolean isFallbackResponse(CourseGenerationResponse response) {
+        return response.getCourses() != null && response.getCourses().stream()
+            .anyMatch(course -> course.getCourseId() != null
+                && (course.getCourseId().startsWith(FALLBACK_ID_PREFIX)
+                    || course.getCourseId().startsWith(LocalCoursePlanner.COURSE_ID_PREFIX)));
+    }
+
+    /**
+     * 큐레이션된 실제 장소로 로컬 플래너 코스 생성, 불가능하면 룰 베이스 코스
+     */
+    private List<CourseGenerationResponse.CourseDto> fallbackCourses(CourseGenerationRequest request) {
+        try {
+            Optional<CourseGenerationResponse> planned = localCoursePlanner.plan(request);
+            if (planned.isPresent()) {
+                return planned.get().getCourses();
+            }
+        } catch (Exception e) {
+            log.warn("Local planner failed during fallback: region={}", request.getRegion(), e);
+        }
+        return createFallbackCourses(request);
+    }
+
     private List<CourseGenerationResponse.CourseDto> createFallbackCourses(CourseGenerationRequest request) {
         // 룰 베이스 추천 로직 (간단한 버전)
         List<CourseGenerationResponse.PlaceDto> places = List.of(
@@ -226,7 +512,7 @@ public class ClaudeApiService {
 
         return List.of(
             CourseGenerationResponse.CourseDto.builder()
-                .courseId("fallback-c1")
+                .courseId(FALLBACK_ID_PREFIX + "c1")
                 .title(request.getRegion() + " " + request.getDateType() + " 기본 코스")
                 .places(places)
                 .totalCost((int) (request.getBudget() * 0.9))
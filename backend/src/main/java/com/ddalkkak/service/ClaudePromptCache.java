@@ -0,0 +1,27 @@
+package com.ddalkkak.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Claude 프롬프트 캐싱용 system 블록 생성
+ * - 호출마다 동일한 지침/응답 형식은 system 블록에 두고 cache_control로 캐시 (TTL 5분)
+ * - 모델별 최소 캐시 길이(Sonnet 1024 토큰)보다 짧으면 API가 캐시하지 않음 → claude.api.tokens{type=cache_write} 로 확인
+ * - 현재 지침은 모두 이보다 짧을 가능성이 높아 실제 캐시 여부는 cache_write 메트릭으로 확인 (지침은 캐시를 위해 늘리지 않음)
+ */
+final class ClaudePromptCache {
+
+    private ClaudePromptCache() {
+    }
+
+    static List<Map<String, Object>> systemBlocks(String staticPrompt, boolean cacheEnabled) {
+        if (!cacheEnabled) {
+            return List.of(Map.of("type", "text", "text", staticPrompt));
+        }
+        return List.of(Map.of(
+                "type", "text",
+                "text", staticPrompt,
+                "cache_control", Map.of("type", "ephemeral")
+        ));
+    }
+}
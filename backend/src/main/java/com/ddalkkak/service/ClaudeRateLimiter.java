@@ -0,0 +1,96 @@
+package com.ddalkkak.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Claude API 공유 레이트 리미터 (분당 요청 수 + 분당 토큰 수 토큰 버킷)
+ * - 예약 방식: 호출 시점에 토큰을 차감하고 부족분만큼 대기 (대기 중인 호출끼리 순서대로 간격 유지)
+ * - 429/529 응답의 retry-after 동안 모든 호출을 전역으로 일시 정지
+ * - 토큰은 예상치로 먼저 차감하고 응답의 usage로 보정
+ */
+@Slf4j
+@Component
+public class ClaudeRateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final Timer waitTimer;
+    private final Counter backoffCounter;
+    private long pausedUntilNanos;
+
+    public ClaudeRateLimiter(
+            @Value("${claude.api.rate-limit.requests-per-minute:50}") int requestsPerMinute,
+            @Value("${claude.api.rate-limit.tokens-per-minute:30000}") int tokensPerMinute,
+            MeterRegistry meterRegistry) {
+        long now = System.nanoTime();
+        this.requestBucket = TokenBucket.perMinute(requestsPerMinute, now);
+        this.tokenBucket = TokenBucket.perMinute(tokensPerMinute, now);
+        this.pausedUntilNanos = now;
+        this.waitTimer = meterRegistry.timer("claude.ratelimit.wait");
+        this.backoffCounter = meterRegistry.counter("claude.ratelimit.backoff");
+    }
+
+    /**
+     * 요청 1건 + 예상 토큰만큼 예약하고 필요한 만큼 대기 (스레드를 막지 않음)
+     */
+    public Mono<Void> acquire(long estimatedTokens) {
+        return Mono.defer(() -> {
+            long waitNanos = reserve(estimatedTokens, System.nanoTime());
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.<Void>empty();
+        });
+    }
+
+    /**
+     * @return 대기해야 하는 시간 (ns)
+     */
+    long reserve(long estimatedTokens, long now) {
+        lock.lock();
+        try {
+            long waitNanos = Math.max(requestBucket.take(1, now), tokenBucket.take(estimatedTokens, now));
+            return Math.max(waitNanos, pausedUntilNanos - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예상 토큰과 실제 사용 토큰의 차이 보정 (실제가 적으면 반환, 많으면 추가 차감)
+     */
+    public void reconcile(long estimatedTokens, long actualTokens) {
+        lock.lock();
+        try {
+            tokenBucket.refund(estimatedTokens - actualTokens, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429/529 응답 시 전역 일시 정지
+     */
+    public void backoff(Duration retryAfter) {
+        lock.lock();
+        try {
+            long until = System.nanoTime() + retryAfter.toNanos();
+            if (until > pausedUntilNanos) {
+                pausedUntilNanos = until;
+            }
+        } finally {
+            lock.unlock();
+        }
+        backoffCounter.increment();
+        log.warn("Claude API rate limited, pausing all calls for {}s", retryAfter.toSeconds());
+    }
+}
@@ -0,0 +1,69 @@
+package com.ddalkkak.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Claude API 호출 지연 시간/토큰 사용량 기록
+ * - claude.api.latency{operation}
+ * - claude.api.tokens{operation, type=input|output|cache_read|cache_write}
+ *   input은 캐시되지 않은 입력 토큰만 포함 (전체 입력 = input + cache_read + cache_write)
+ * - claude.api.items{operation}: 호출에 포함된 항목 수 (장소당 토큰 = tokens 합계 / items 합계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClaudeUsageRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 레이트 리밋 대상 토큰 수 (캐시 읽기 제외 입력 + 출력), usage가 없으면 0
+     */
+    public long record(String operation, long elapsedMs, String apiResponse) {
+        meterRegistry.timer("claude.api.latency", "operation", operation)
+            .record(Duration.ofMillis(elapsedMs));
+        if (apiResponse == null) {
+            return 0;
+        }
+        try {
+            JsonNode usage = objectMapper.readTree(apiResponse).path("usage");
+            long input = usage.path("input_tokens").asLong();
+            long output = usage.path("output_tokens").asLong();
+            long cacheWrite = usage.path("cache_creation_input_tokens").asLong();
+            recordTokens(operation, "input", input);
+            recordTokens(operation, "output", output);
+            recordTokens(operation, "cache_read", usage.path("cache_read_input_tokens").asLong());
+            recordTokens(operation, "cache_write", cacheWrite);
+            return input + cacheWrite + output;
+        } catch (JsonProcessingException e) {
+            log.debug("Claude API response has no usage block", e);
+            return 0;
+        }
+    }
+
+    public void recordItems(String operation, int items) {
+        meterRegistry.counter("claude.api.items", "operation", operation).increment(items);
+    }
+
+    /**
+     * 결과 캐시 적중/미스 (적중 건은 API 호출 없음)
+     */
+    public void recordCache(String operation, int hits, int misses) {
+        meterRegistry.counter("claude.result.cache", "operation", operation, "result", "hit").increment(hits);
+        meterRegistry.counter("claude.result.cache", "operation", operation, "result", "miss").increment(misses);
+    }
+
+    private void recordTokens(String operation, String type, long tokens) {
+        meterRegistry.summary("claude.api.tokens", "operation", operation, "type", type)
+            .record(tokens);
+    }
+}
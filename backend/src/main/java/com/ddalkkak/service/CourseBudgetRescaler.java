@@ -0,0 +1,64 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationResponse;
+
+import java.util.List;
+
+/**
+ * 다른 예산으로 생성된 코스의 비용을 요청 예산에 맞게 비례 조정
+ */
+final class CourseBudgetRescaler {
+
+    private static final int COST_ROUNDING_UNIT = 100; // 100원 단위 반올림
+
+    private CourseBudgetRescaler() {
+    }
+
+    static CourseGenerationResponse rescale(CourseGenerationResponse response, Integer fromBudget, Integer toBudget) {
+        if (response == null || fromBudget == null || toBudget == null
+                || fromBudget <= 0 || fromBudget.equals(toBudget) || response.getCourses() == null) {
+            return response;
+        }
+
+        double factor = (double) toBudget / fromBudget;
+        List<CourseGenerationResponse.CourseDto> courses = response.getCourses().stream()
+                .map(course -> rescaleCourse(course, factor))
+                .toList();
+
+        return CourseGenerationResponse.builder()
+                .requestId(response.getRequestId())
+                .generatedAt(response.getGeneratedAt())
+                .courses(courses)
+                .build();
+    }
+
+    private static CourseGenerationResponse.CourseDto rescaleCourse(CourseGenerationResponse.CourseDto course,
+                                                                    double factor) {
+        List<CourseGenerationResponse.PlaceDto> places = course.getPlaces() == null ? null
+                : course.getPlaces().stream()
+                .map(place -> CourseGenerationResponse.PlaceDto.builder()
+                        .placeId(place.getPlaceId())
+                        .name(place.getName())
+                        .category(place.getCategory())
+                        .estimatedCost(scale(place.getEstimatedCost(), factor))
+                        .estimatedDuration(place.getEstimatedDuration())
+                        .description(place.getDescription())
+                        .build())
+                .toList();
+
+        return CourseGenerationResponse.CourseDto.builder()
+                .courseId(course.getCourseId())
+                .title(course.getTitle())
+                .places(places)
+                .totalCost(scale(course.getTotalCost(), factor))
+                .totalTime(course.getTotalTime())
+                .build();
+    }
+
+    private static Integer scale(Integer cost, double factor) {
+        if (cost == null) {
+            return null;
+        }
+        return (int) (Math.round(cost * factor / COST_ROUNDING_UNIT) * COST_ROUNDING_UNIT);
+    }
+}
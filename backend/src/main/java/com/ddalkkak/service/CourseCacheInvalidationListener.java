@@ -0,0 +1,43 @@
+package com.ddalkkak.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Course Cache Invalidation Listener
+ * 다른 노드에서 발행한 무효화 메시지를 받아 로컬 L1 캐시에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "true", matchIfMissing = false)
+public class CourseCacheInvalidationListener implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisCourseCacheStore redisStore;
+    private final CourseCacheService cacheService;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisCourseCacheStore.INVALIDATION_CHANNEL));
+        log.info("Subscribed to course cache invalidation channel: {}", RedisCourseCacheStore.INVALIDATION_CHANNEL);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKey = redisStore.parseInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (cacheKey != null) {
+            cacheService.evictLocal(cacheKey);
+            log.debug("Evicted L1 cache by remote invalidation: {}", cacheKey);
+        }
+    }
+}
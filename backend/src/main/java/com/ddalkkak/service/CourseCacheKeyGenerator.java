@@ -0,0 +1,139 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Course Cache Key Generator
+ * 코스 캐시 키 생성 (캐시 조회/저장과 동일 요청 병합에서 공통 사용)
+ * - 지역명 별칭 정규화 (예: 홍대입구, 홍익대 → 홍대)
+ * - 예산은 로그 스케일 밴드로 묶음 (기본 1.25배 간격: 10,000 / 12,500 / 15,625 ...)
+ */
+@Slf4j
+@Component
+public class CourseCacheKeyGenerator {
+
+    private static final String CACHE_PREFIX = "course:";
+    private static final int BASE_BUDGET = 10_000; // 최소 예산 (CourseGenerationRequest @Min)
+    private static final double BAND_EPSILON = 1e-9;
+
+    private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+            Map.entry("홍대입구", "홍대"),
+            Map.entry("홍대입구역", "홍대"),
+            Map.entry("홍익대", "홍대"),
+            Map.entry("홍익대학교", "홍대"),
+            Map.entry("hongdae", "홍대"),
+            Map.entry("강남역", "강남"),
+            Map.entry("gangnam", "강남"),
+            Map.entry("성수동", "성수"),
+            Map.entry("성수역", "성수"),
+            Map.entry("seongsu", "성수"),
+            Map.entry("연남동", "연남"),
+            Map.entry("yeonnam", "연남"),
+            Map.entry("이태원동", "이태원"),
+            Map.entry("이태원역", "이태원"),
+            Map.entry("itaewon", "이태원")
+    );
+
+    private final boolean bandingEnabled;
+    private final double bandRatio;
+
+    public CourseCacheKeyGenerator(
+            @Value("${course.cache.budget-band.enabled:true}") boolean bandingEnabled,
+            @Value("${course.cache.budget-band.ratio:1.25}") double bandRatio) {
+        if (bandRatio <= 1.0) {
+            throw new IllegalArgumentException("course.cache.budget-band.ratio must be greater than 1.0: " + bandRatio);
+        }
+        this.bandingEnabled = bandingEnabled;
+        this.bandRatio = bandRatio;
+    }
+
+    public String generate(CourseGenerationRequest request) {
+        return generate(request, 0);
+    }
+
+    /**
+     * 요청 예산 밴드에서 bandOffset 만큼 떨어진 밴드의 키 생성 (인접 밴드 조회용)
+     */
+    public String generate(CourseGenerationRequest request, int bandOffset) {
+        String budgetToken = bandingEnabled
+                ? "b" + (budgetBand(request.getBudget()) + bandOffset)
+                : String.valueOf(request.getBudget());
+        String data = normalizeRegion(request.getRegion()) + "|" + normalizeDateType(request.getDateType())
+                + "|" + budgetToken;
+        String hash = md5Hash(data);
+        return CACHE_PREFIX + hash;
+    }
+
+    public boolean isBandingEnabled() {
+        return bandingEnabled;
+    }
+
+    /**
+     * 예산 → 밴드 번호 (0부터 시작)
+     */
+    public int budgetBand(int budget) {
+        double ratio = Math.max(1.0, (double) budget / BASE_BUDGET);
+        return (int) Math.floor(Math.log(ratio) / Math.log(bandRatio) + BAND_EPSILON);
+    }
+
+    /**
+     * 밴드 하한 예산 (원)
+     */
+    public int bandLowerBound(int band) {
+        return (int) Math.round(BASE_BUDGET * Math.pow(bandRatio, band));
+    }
+
+    /**
+     * 메트릭 태그용 밴드 라벨 (밴드 하한 예산)
+     */
+    public String bandLabel(int budget) {
+        if (!bandingEnabled) {
+            return "none";
+        }
+        return String.valueOf(bandLowerBound(budgetBand(budget)));
+    }
+
+    /**
+     * 예산이 밴드 상위 절반에 있으면 위쪽 인접 밴드를 먼저 조회
+     */
+    public boolean isInUpperHalfOfBand(int budget) {
+        int band = budgetBand(budget);
+        double geometricMid = bandLowerBound(band) * Math.sqrt(bandRatio);
+        return budget >= geometricMid;
+    }
+
+    public String normalizeRegion(String region) {
+        if (region == null) {
+            return null;
+        }
+        String normalized = region.strip().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return REGION_ALIASES.getOrDefault(normalized, normalized);
+    }
+
+    private String normalizeDateType(String dateType) {
+        if (dateType == null) {
+            return null;
+        }
+        return dateType.strip().replaceAll("\\s+", "");
+    }
+
+    private String md5Hash(String input) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] digest = md.digest(input.getBytes());
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            log.error("MD5 algorithm not found", e);
+            throw new RuntimeException("MD5 해싱 실패", e);
+        }
+    }
+}
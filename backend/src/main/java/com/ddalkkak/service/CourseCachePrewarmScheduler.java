@@ -0,0 +1,139 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 수요 기반 코스 캐시 사전 생성 (off-peak 스케줄)
+ * - 수요 상위 K개 조합 중 캐시가 없거나 곧 만료되는 항목만 재생성
+ * - 실행당 Claude 호출 수는 max-calls-per-run으로 제한
+ * - Claude 호출 실패(Fallback) 시 남은 항목은 다음 실행으로 넘김
+ * - 백그라운드 갱신이 이미 진행 중인 항목은 호출 없이 건너뜀 (실패로 보지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "course.prewarm.enabled", havingValue = "true")
+public class CourseCachePrewarmScheduler {
+
+    public enum WarmResult {
+        WARMED,
+        FRESH,
+        SKIPPED_BUDGET,
+        SKIPPED_REFRESHING,
+        FAILED
+    }
+
+    public record WarmStatus(WarmResult result, LocalDateTime checkedAt, Long hardExpiresAt) {
+    }
+
+    public record PrewarmRun(LocalDateTime startedAt, LocalDateTime finishedAt, int candidates,
+                             int claudeCalls, int warmed, int failed) {
+    }
+
+    private final CourseDemandTracker demandTracker;
+    private final CourseCacheService cacheService;
+    private final CourseGenerationService generationService;
+    private final int maxCallsPerRun;
+    private final long refreshWithinMs;
+
+    private final Map<String, WarmStatus> warmStatuses = new ConcurrentHashMap<>();
+    private volatile PrewarmRun lastRun;
+
+    public CourseCachePrewarmScheduler(
+            CourseDemandTracker demandTracker,
+            CourseCacheService cacheService,
+            CourseGenerationService generationService,
+            @Value("${course.prewarm.max-calls-per-run:20}") int maxCallsPerRun,
+            @Value("${course.prewarm.refresh-within:43200000}") long refreshWithinMs) {
+        this.demandTracker = demandTracker;
+        this.cacheService = cacheService;
+        this.generationService = generationService;
+        this.maxCallsPerRun = maxCallsPerRun;
+        this.refreshWithinMs = refreshWithinMs;
+    }
+
+    @Scheduled(cron = "${course.prewarm.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledPrewarm() {
+        prewarm();
+    }
+
+    public PrewarmRun prewarm() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<CourseDemandTracker.DemandEntry> demands = demandTracker.topDemands();
+        int calls = 0;
+        int warmed = 0;
+        int failed = 0;
+        boolean claudeUnavailable = false;
+
+        log.info("Starting course cache prewarm: candidates={}, maxCalls={}", demands.size(), maxCallsPerRun);
+
+        for (CourseDemandTracker.DemandEntry demand : demands) {
+            CourseCacheEntry entry = cacheService.peekEntry(demand.request());
+            long now = System.currentTimeMillis();
+
+            if (entry != null && entry.getHardExpiresAt() != null
+                    && entry.getHardExpiresAt() - now > refreshWithinMs) {
+                warmStatuses.put(demand.cacheKey(),
+                        new WarmStatus(WarmResult.FRESH, LocalDateTime.now(), entry.getHardExpiresAt()));
+                continue;
+            }
+
+            if (calls >= maxCallsPerRun || claudeUnavailable) {
+                warmStatuses.put(demand.cacheKey(), new WarmStatus(WarmResult.SKIPPED_BUDGET, LocalDateTime.now(),
+                        entry != null ? entry.getHardExpiresAt() : null));
+                continue;
+            }
+
+            CourseGenerationService.RegenerateResult result = generationService.regenerate(demand.request());
+            if (result == CourseGenerationService.RegenerateResult.ALREADY_REFRESHING) {
+                warmStatuses.put(demand.cacheKey(), new WarmStatus(WarmResult.SKIPPED_REFRESHING, LocalDateTime.now(),
+                        entry != null ? entry.getHardExpiresAt() : null));
+                continue;
+            }
+
+            calls++;
+            if (result == CourseGenerationService.RegenerateResult.REFRESHED) {
+                warmed++;
+                CourseCacheEntry refreshed = cacheService.peekEntry(demand.request());
+                warmStatuses.put(demand.cacheKey(), new WarmStatus(WarmResult.WARMED, LocalDateTime.now(),
+                        refreshed != null ? refreshed.getHardExpiresAt() : null));
+            } else {
+                failed++;
+                claudeUnavailable = true;
+                warmStatuses.put(demand.cacheKey(), new WarmStatus(WarmResult.FAILED, LocalDateTime.now(),
+                        entry != null ? entry.getHardExpiresAt() : null));
+            }
+        }
+
+        // 상위 K에서 빠진 조합의 상태는 제거
+        Set<String> currentKeys = demands.stream()
+                .map(CourseDemandTracker.DemandEntry::cacheKey)
+                .collect(Collectors.toSet());
+        warmStatuses.keySet().retainAll(currentKeys);
+
+        demandTracker.decay();
+
+        lastRun = new PrewarmRun(startedAt, LocalDateTime.now(), demands.size(), calls, warmed, failed);
+        log.info("Course cache prewarm finished: {}", lastRun);
+        return lastRun;
+    }
+
+    public Map<String, WarmStatus> getWarmStatuses() {
+        return Map.copyOf(warmStatuses);
+    }
+
+    public PrewarmRun getLastRun() {
+        return lastRun;
+    }
+}
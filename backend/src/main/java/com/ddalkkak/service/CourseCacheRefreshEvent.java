@@ -0,0 +1,9 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+
+/**
+ * 캐시 항목 백그라운드 갱신 요청 (stale 히트 또는 조기 갱신 판정 시 발행)
+ */
+public record CourseCacheRefreshEvent(CourseGenerationRequest request, String cacheKey) {
+}
@@ -0,0 +1,47 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+
+/**
+ * 캐시 항목 갱신 판단 (stale-while-revalidate + XFetch 조기 갱신)
+ * - soft expiry 이전: now - delta * beta * ln(rand) >= softExpiresAt 이면 확률적으로 조기 갱신
+ *   (delta = 응답 생성 시간, soft/hard expiry에 가까워질수록 갱신 확률이 1에 수렴)
+ * - soft expiry ~ hard expiry: stale 값을 응답하고 항상 갱신
+ * - hard expiry 이후: 미스
+ */
+final class CourseCacheRefreshPolicy {
+
+    static final long DEFAULT_COMPUTE_TIME_MS = 10_000;
+
+    enum Decision {
+        FRESH,
+        EARLY_REFRESH,
+        STALE,
+        EXPIRED
+    }
+
+    private CourseCacheRefreshPolicy() {
+    }
+
+    /**
+     * @param random (0, 1] 범위의 균등 난수
+     */
+    static Decision evaluate(CourseCacheEntry entry, long now, double beta, double random) {
+        // 만료 정보가 없는 이전 형식 항목은 저장소 TTL에만 의존
+        if (entry.getSoftExpiresAt() == null || entry.getHardExpiresAt() == null) {
+            return Decision.FRESH;
+        }
+        if (now >= entry.getHardExpiresAt()) {
+            return Decision.EXPIRED;
+        }
+        if (now >= entry.getSoftExpiresAt()) {
+            return Decision.STALE;
+        }
+
+        long delta = entry.getComputeTimeMs() != null && entry.getComputeTimeMs() > 0
+                ? entry.getComputeTimeMs()
+                : DEFAULT_COMPUTE_TIME_MS;
+        double gap = -delta * beta * Math.log(random);
+        return now + gap >= entry.getSoftExpiresAt() ? Decision.EARLY_REFRESH : Decision.FRESH;
+    }
+}
@@ -1,78 +1,313 @@
 package com.ddalkkak.service;
 
+import com.ddalkkak.dto.CourseCacheEntry;
 import com.ddalkkak.dto.CourseGenerationRequest;
 import com.ddalkkak.dto.CourseGenerationResponse;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Course Cache Service (2-tier)
+ * - L1: 프로세스 내 Caffeine 캐시 (크기/TTL 기반 만료)
+ * - L2: Redis (redis.enabled=true 일 때만), 변경 시 pub/sub으로 다른 노드 L1 무효화
+ * - 같은 예산 밴드(또는 인접 밴드) 히트는 요청 예산에 맞춰 비용을 비례 조정
+ * - soft expiry 이후(또는 XFetch 조기 갱신 판정 시) 캐시 값을 응답하고 CourseCacheRefreshEvent로 백그라운드 갱신
+ */
 @Slf4j
 @Service
-@ConditionalOnProperty(name = "redis.enabled", havingValue = "true", matchIfMissing = false)
 public class CourseCacheService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private static final Duration CACHE_TTL = Duration.ofHours(24);
+    private static final Duration LOCAL_TTL_WITH_REDIS = Duration.ofMinutes(10);
+
+    private final Optional<RedisCourseCacheStore> redisStore;
+    private final CourseCacheKeyGenerator cacheKeyGenerator;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean neighbourLookupEnabled;
+    private final Duration softTtl;
+    private final double refreshBeta;
+    private final Cache<String, CourseCacheEntry> localCache;
+
+    public CourseCacheService(
+            @Autowired(required = false) RedisCourseCacheStore redisStore,
+            CourseCacheKeyGenerator cacheKeyGenerator,
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${course.cache.local.max-size:1000}") long localMaxSize,
+            @Value("${course.cache.local.ttl:0}") long localTtlMs,
+            @Value("${course.cache.budget-band.neighbour-lookup:true}") boolean neighbourLookupEnabled,
+            @Value("${course.cache.refresh.soft-ttl:72000000}") long softTtlMs,
+            @Value("${course.cache.refresh.beta:1.0}") double refreshBeta) {
+        this.redisStore = Optional.ofNullable(redisStore);
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.neighbourLookupEnabled = neighbourLookupEnabled && cacheKeyGenerator.isBandingEnabled();
+        this.softTtl = Duration.ofMillis(Math.min(softTtlMs, CACHE_TTL.toMillis()));
+        this.refreshBeta = refreshBeta;
+
+        // TTL 미지정 시: Redis 사용 중이면 짧게(무효화 누락 대비), 단일 노드면 Redis와 동일하게
+        Duration localTtl = localTtlMs > 0
+                ? Duration.ofMillis(localTtlMs)
+                : (this.redisStore.isPresent() ? LOCAL_TTL_WITH_REDIS : CACHE_TTL);
 
-    public CourseCacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "course.l1");
+
+        log.info("Course cache initialized: L1(maxSize={}, ttl={}), L2(redis)={}, softTtl={}",
+                localMaxSize, localTtl, this.redisStore.isPresent(), this.softTtl);
     }
-    private static final String CACHE_PREFIX = "course:";
-    private static final Duration CACHE_TTL = Duration.ofHours(24);
 
     public CourseGenerationResponse getFromCache(CourseGenerationRequest request) {
+        return getFromCache(request, true);
+    }
+
+    /**
+     * 메트릭 집계 없이 조회 (병합 리더의 캐시 재확인용)
+     */
+    public CourseGenerationResponse peekCache(CourseGenerationRequest request) {
+        return getFromCache(request, false);
+    }
+
+    private CourseGenerationResponse getFromCache(CourseGenerationRequest request, boolean recordStats) {
+        String bandLabel = cacheKeyGenerator.bandLabel(request.getBudget());
         String cacheKey = generateCacheKey(request);
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
-
-        if (cached != null) {
-            log.info("Cache hit for key: {}", cacheKey);
-            // Convert LinkedHashMap to CourseGenerationResponse
-            try {
-                return objectMapper.convertValue(cached, CourseGenerationResponse.class);
-            } catch (Exception e) {
-                log.error("Failed to convert cached value", e);
-                return null;
+
+        CourseCacheEntry entry = lookup(cacheKey);
+        if (entry != null) {
+            recordLookup(recordStats, bandLabel, "hit");
+            if (recordStats) {
+                refreshIfNeeded(request, cacheKey, entry);
+            }
+            return CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(), request.getBudget());
+        }
+
+        if (neighbourLookupEnabled) {
+            // 밴드 내 위치에 따라 더 가까운 인접 밴드부터 조회
+            for (int offset : neighbourOffsets(request)) {
+                String neighbourKey = cacheKeyGenerator.generate(request, offset);
+                CourseCacheEntry neighbour = lookup(neighbourKey);
+                if (neighbour != null) {
+                    log.info("Neighbour band cache hit for key: {} (budget {} -> {})",
+                            neighbourKey, neighbour.getBudget(), request.getBudget());
+                    recordLookup(recordStats, bandLabel, "neighbour_hit");
+                    return CourseBudgetRescaler.rescale(neighbour.getResponse(), neighbour.getBudget(),
+                            request.getBudget());
+                }
             }
         }
 
         log.info("Cache miss for key: {}", cacheKey);
+        recordLookup(recordStats, bandLabel, "miss");
         return null;
     }
 
-    public void saveToCache(CourseGenerationRequest request, CourseGenerationResponse response) {
+    /**
+     * Reactive 조회 (L1 → ReactiveRedisTemplate), 조회 순서와 메트릭은 getFromCache와 동일
+     */
+    public Mono<CourseGenerationResponse> getFromCacheReactive(CourseGenerationRequest request) {
+        return getFromCacheReactive(request, true);
+    }
+
+    public Mono<CourseGenerationResponse> peekCacheReactive(CourseGenerationRequest request) {
+        return getFromCacheReactive(request, false);
+    }
+
+    private Mono<CourseGenerationResponse> getFromCacheReactive(CourseGenerationRequest request, boolean recordStats) {
+        String bandLabel = cacheKeyGenerator.bandLabel(request.getBudget());
+        String cacheKey = generateCacheKey(request);
+
+        Mono<CourseGenerationResponse> exact = lookupReactive(cacheKey)
+                .doOnNext(entry -> {
+                    recordLookup(recordStats, bandLabel, "hit");
+                    if (recordStats) {
+                        refreshIfNeeded(request, cacheKey, entry);
+                    }
+                })
+                .map(entry -> CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(), request.getBudget()));
+
+        Mono<CourseGenerationResponse> neighbour = Mono.defer(() -> {
+            if (!neighbourLookupEnabled) {
+                return Mono.empty();
+            }
+            return Flux.fromArray(neighbourOffsets(request))
+                    .concatMap(offset -> lookupReactive(cacheKeyGenerator.generate(request, offset)))
+                    .next()
+                    .doOnNext(entry -> {
+                        log.info("Neighbour band cache hit (budget {} -> {})", entry.getBudget(), request.getBudget());
+                        recordLookup(recordStats, bandLabel, "neighbour_hit");
+                    })
+                    .map(entry -> CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(),
+                            request.getBudget()));
+        });
+
+        return exact
+                .switchIfEmpty(neighbour)
+                .switchIfEmpty(Mono.<CourseGenerationResponse>fromRunnable(() -> {
+                    log.info("Cache miss for key: {}", cacheKey);
+                    recordLookup(recordStats, bandLabel, "miss");
+                }));
+    }
+
+    /**
+     * 정확한 키의 캐시 항목 조회 (메트릭/갱신 없이, stale 포함), 없거나 만료 시 null
+     */
+    public CourseCacheEntry peekEntry(CourseGenerationRequest request) {
+        return lookup(generateCacheKey(request));
+    }
+
+    public Mono<Void> saveToCacheReactive(CourseGenerationRequest request, CourseGenerationResponse response,
+                                          long computeTimeMs) {
+        String cacheKey = generateCacheKey(request);
+        CourseCacheEntry entry = newEntry(request, response, computeTimeMs);
+        localCache.put(cacheKey, entry);
+
+        if (redisStore.isEmpty()) {
+            return Mono.empty();
+        }
+        RedisCourseCacheStore store = redisStore.get();
+        return store.setReactive(cacheKey, entry, CACHE_TTL)
+                .then(store.publishInvalidationReactive(cacheKey))
+                .doOnSuccess(v -> log.info("Saved to cache with key: {}, TTL: {}", cacheKey, CACHE_TTL));
+    }
+
+    /**
+     * @param computeTimeMs 응답 생성에 걸린 시간 (조기 갱신 확률 계산에 사용)
+     */
+    public void saveToCache(CourseGenerationRequest request, CourseGenerationResponse response, long computeTimeMs) {
         String cacheKey = generateCacheKey(request);
-        redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL);
+        CourseCacheEntry entry = newEntry(request, response, computeTimeMs);
+        localCache.put(cacheKey, entry);
+
+        redisStore.ifPresent(store -> {
+            store.set(cacheKey, entry, CACHE_TTL);
+            store.publishInvalidation(cacheKey);
+        });
         log.info("Saved to cache with key: {}, TTL: {}", cacheKey, CACHE_TTL);
     }
 
-    private String generateCacheKey(CourseGenerationRequest request) {
-        String data = request.getRegion() + request.getDateType() + request.getBudget();
-        String hash = md5Hash(data);
-        return CACHE_PREFIX + hash;
-    }
-
-    private String md5Hash(String input) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] digest = md.digest(input.getBytes());
-            return HexFormat.of().formatHex(digest);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("MD5 algorithm not found", e);
-            throw new RuntimeException("MD5 해싱 실패", e);
+    private CourseCacheEntry newEntry(CourseGenerationRequest request, CourseGenerationResponse response,
+                                      long computeTimeMs) {
+        long now = System.currentTimeMillis();
+        return CourseCacheEntry.builder()
+                .response(response)
+                .budget(request.getBudget())
+                .softExpiresAt(now + softTtl.toMillis())
+                .hardExpiresAt(now + CACHE_TTL.toMillis())
+                .computeTimeMs(computeTimeMs)
+                .build();
+    }
+
+    /**
+     * stale 또는 조기 갱신 판정 시 갱신 이벤트 발행 (중복 갱신은 수신 측에서 키 단위로 제거)
+     */
+    private void refreshIfNeeded(CourseGenerationRequest request, String cacheKey, CourseCacheEntry entry) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        CourseCacheRefreshPolicy.Decision decision = CourseCacheRefreshPolicy.evaluate(
+                entry, System.currentTimeMillis(), refreshBeta, random);
+
+        if (decision == CourseCacheRefreshPolicy.Decision.STALE
+                || decision == CourseCacheRefreshPolicy.Decision.EARLY_REFRESH) {
+            String reason = decision == CourseCacheRefreshPolicy.Decision.STALE ? "stale" : "early";
+            meterRegistry.counter("course.cache.refresh.triggered", "reason", reason).increment();
+            log.info("Scheduling background refresh ({}) for key: {}", reason, cacheKey);
+            eventPublisher.publishEvent(new CourseCacheRefreshEvent(request, cacheKey));
         }
     }
 
+    private boolean isExpired(CourseCacheEntry entry) {
+        return CourseCacheRefreshPolicy.evaluate(entry, System.currentTimeMillis(), refreshBeta, 1.0)
+                == CourseCacheRefreshPolicy.Decision.EXPIRED;
+    }
+
+    private Integer[] neighbourOffsets(CourseGenerationRequest request) {
+        int first = cacheKeyGenerator.isInUpperHalfOfBand(request.getBudget()) ? 1 : -1;
+        return new Integer[]{first, -first};
+    }
+
+    private CourseCacheEntry lookup(String cacheKey) {
+        CourseCacheEntry local = localCache.getIfPresent(cacheKey);
+        if (local != null && !isExpired(local)) {
+            log.info("L1 cache hit for key: {}", cacheKey);
+            return local;
+        }
+
+        if (redisStore.isPresent()) {
+            CourseCacheEntry remote = redisStore.get().get(cacheKey);
+            if (remote != null && remote.getResponse() != null && !isExpired(remote)) {
+                log.info("L2 cache hit for key: {}", cacheKey);
+                localCache.put(cacheKey, remote);
+                return remote;
+            }
+        }
+        return null;
+    }
+
+    private Mono<CourseCacheEntry> lookupReactive(String cacheKey) {
+        CourseCacheEntry local = localCache.getIfPresent(cacheKey);
+        if (local != null && !isExpired(local)) {
+            log.info("L1 cache hit for key: {}", cacheKey);
+            return Mono.just(local);
+        }
+
+        if (redisStore.isEmpty()) {
+            return Mono.empty();
+        }
+        return redisStore.get().getReactive(cacheKey)
+                .filter(remote -> remote.getResponse() != null && !isExpired(remote))
+                .doOnNext(remote -> {
+                    log.info("L2 cache hit for key: {}", cacheKey);
+                    localCache.put(cacheKey, remote);
+                });
+    }
+
+    /**
+     * 예산 밴드별 히트율 메트릭 (result: hit, neighbour_hit, miss)
+     */
+    private void recordLookup(boolean recordStats, String bandLabel, String result) {
+        if (!recordStats) {
+            return;
+        }
+        meterRegistry.counter("course.cache.requests", "band", bandLabel, "result", result).increment();
+    }
+
+    private String generateCacheKey(CourseGenerationRequest request) {
+        return cacheKeyGenerator.generate(request);
+    }
+
     public void evictCache(CourseGenerationRequest request) {
         String cacheKey = generateCacheKey(request);
-        redisTemplate.delete(cacheKey);
+        localCache.invalidate(cacheKey);
+
+        redisStore.ifPresent(store -> {
+            store.delete(cacheKey);
+            store.publishInvalidation(cacheKey);
+        });
         log.info("Evicted cache for key: {}", cacheKey);
     }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1에서만 제거
+     */
+    public void evictLocal(String cacheKey) {
+        localCache.invalidate(cacheKey);
+    }
 }
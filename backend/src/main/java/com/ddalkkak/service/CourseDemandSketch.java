@@ -0,0 +1,146 @@
+package com.ddalkkak.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 메모리 heavy-hitter 추적 (Count-Min sketch + top-K min-heap)
+ * - 전체 키 빈도는 depth x width 카운터 배열로 근사 (과대 추정만 발생)
+ * - 추정 빈도 상위 K개 키만 힙에 유지
+ * - synchronized 대신 ReentrantLock 사용 (가상 스레드 pinning 방지)
+ */
+final class CourseDemandSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x2545F4914F6CDD1DL, 0x94D049BB133111EBL
+    };
+
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final long[][] counters;
+    private final Map<String, Long> topCounts = new HashMap<>();
+    private final PriorityQueue<String> topHeap;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    CourseDemandSketch(int width, int depth, int topK) {
+        if (width <= 0 || depth <= 0 || depth > SEEDS.length || topK <= 0) {
+            throw new IllegalArgumentException(
+                    "Invalid sketch size: width=" + width + ", depth=" + depth + ", topK=" + topK);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.topK = topK;
+        this.counters = new long[depth][width];
+        this.topHeap = new PriorityQueue<>(topK + 1, Comparator.comparingLong(topCounts::get));
+    }
+
+    /**
+     * 키 1회 관측 기록 후 추정 빈도 반환
+     */
+    long add(String key) {
+        lock.lock();
+        try {
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                int column = column(key, row);
+                counters[row][column]++;
+                estimate = Math.min(estimate, counters[row][column]);
+            }
+            updateTop(key, estimate);
+            return estimate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long estimate(String key) {
+        lock.lock();
+        try {
+            return estimateUnlocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 추정 빈도 내림차순 상위 K개
+     */
+    List<Map.Entry<String, Long>> top() {
+        lock.lock();
+        try {
+            List<Map.Entry<String, Long>> result = new ArrayList<>();
+            topCounts.forEach((key, count) -> result.add(Map.entry(key, count)));
+            result.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 카운터를 절반으로 감쇠 (오래된 수요의 영향 축소)
+     */
+    void decay() {
+        lock.lock();
+        try {
+            for (long[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            topHeap.clear();
+            topCounts.replaceAll((key, count) -> estimateUnlocked(key));
+            topCounts.values().removeIf(count -> count == 0);
+            topHeap.addAll(topCounts.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateTop(String key, long estimate) {
+        if (topCounts.containsKey(key)) {
+            // 힙 순서 갱신: 제거 후 새 빈도로 재삽입 (K가 작아 O(K) 허용)
+            topHeap.remove(key);
+            topCounts.put(key, estimate);
+            topHeap.add(key);
+            return;
+        }
+
+        if (topCounts.size() < topK) {
+            topCounts.put(key, estimate);
+            topHeap.add(key);
+            return;
+        }
+
+        String min = topHeap.peek();
+        if (min != null && topCounts.get(min) < estimate) {
+            topHeap.poll();
+            topCounts.remove(min);
+            topCounts.put(key, estimate);
+            topHeap.add(key);
+        }
+    }
+
+    private long estimateUnlocked(String key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][column(key, row)]);
+        }
+        return estimate;
+    }
+
+    private int column(String key, int row) {
+        long hash = key.hashCode() * SEEDS[row];
+        hash ^= hash >>> 31;
+        hash *= SEEDS[(row + 1) % SEEDS.length];
+        hash ^= hash >>> 29;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 코스 생성 수요 추적 (region, dateType, 예산 밴드 단위)
+ * - 캐시 키 단위로 Count-Min sketch에 기록하고 상위 K개 조합을 유지
+ * - 사전 생성(prewarm) 시 사용할 대표 요청을 상위 키에 한해 보관
+ */
+@Component
+public class CourseDemandTracker {
+
+    private final CourseCacheKeyGenerator cacheKeyGenerator;
+    private final CourseDemandSketch sketch;
+    private final int topK;
+    private final Map<String, CourseGenerationRequest> exemplars = new ConcurrentHashMap<>();
+
+    public CourseDemandTracker(
+            CourseCacheKeyGenerator cacheKeyGenerator,
+            @Value("${course.demand.sketch.width:2048}") int width,
+            @Value("${course.demand.sketch.depth:4}") int depth,
+            @Value("${course.demand.top-k:50}") int topK) {
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.sketch = new CourseDemandSketch(width, depth, topK);
+        this.topK = topK;
+    }
+
+    public void record(CourseGenerationRequest request) {
+        String cacheKey = cacheKeyGenerator.generate(request);
+        sketch.add(cacheKey);
+        exemplars.put(cacheKey, request);
+
+        // 대표 요청은 상위 키 위주로만 보관 (메모리 고정)
+        if (exemplars.size() > topK * 4) {
+            pruneExemplars();
+        }
+    }
+
+    /**
+     * 추정 빈도 내림차순 상위 조합
+     */
+    public List<DemandEntry> topDemands() {
+        List<DemandEntry> demands = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : sketch.top()) {
+            CourseGenerationRequest request = exemplars.get(entry.getKey());
+            if (request != null) {
+                demands.add(new DemandEntry(entry.getKey(), request, entry.getValue()));
+            }
+        }
+        return demands;
+    }
+
+    /**
+     * 빈도 감쇠 (prewarm 실행 후 호출, 최근 수요 위주로 유지)
+     */
+    public void decay() {
+        sketch.decay();
+        pruneExemplars();
+    }
+
+    private void pruneExemplars() {
+        Set<String> topKeys = sketch.top().stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        exemplars.keySet().retainAll(topKeys);
+    }
+
+    public record DemandEntry(String cacheKey, CourseGenerationRequest request, long estimatedCount) {
+    }
+}
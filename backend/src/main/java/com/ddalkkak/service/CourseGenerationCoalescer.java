@@ -0,0 +1,209 @@
+package com.ddalkkak.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Course Generation Coalescer (single-flight)
+ * 동일한 캐시 키로 진행 중인 코스 생성 요청을 하나로 병합
+ * - 리더 1개만 Claude API를 호출하고, 나머지(팔로워)는 리더의 결과를 기다림
+ * - 팔로워 대기 시간은 follower-timeout으로 제한
+ */
+@Slf4j
+@Component
+public class CourseGenerationCoalescer {
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final long followerTimeoutMs;
+
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+    private final Counter followerTimeoutCounter;
+    private final DistributionSummary waitersPerKey;
+
+    public CourseGenerationCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${course.coalescing.follower-timeout:35000}") long followerTimeoutMs) {
+        this.followerTimeoutMs = followerTimeoutMs;
+
+        this.leaderCounter = Counter.builder("course.generation.coalescing.requests")
+                .tag("role", "leader")
+                .description("Claude API를 직접 호출한 리더 요청 수")
+                .register(meterRegistry);
+        this.followerCounter = Counter.builder("course.generation.coalescing.requests")
+                .tag("role", "follower")
+                .description("리더 결과를 재사용한 팔로워 요청 수")
+                .register(meterRegistry);
+        this.followerTimeoutCounter = Counter.builder("course.generation.coalescing.timeouts")
+                .description("대기 시간 초과로 fallback 응답을 받은 팔로워 수")
+                .register(meterRegistry);
+        this.waitersPerKey = DistributionSummary.builder("course.generation.coalescing.waiters")
+                .description("키별 리더 호출 1회당 병합된 팔로워 수")
+                .register(meterRegistry);
+
+        Gauge.builder("course.generation.coalescing.in_flight", inFlight, Map::size)
+                .description("진행 중인 고유 키 수")
+                .register(meterRegistry);
+        Gauge.builder("course.generation.coalescing.waiting", this, CourseGenerationCoalescer::currentWaiters)
+                .description("현재 리더 결과를 기다리는 팔로워 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 요청 병합 실행
+     *
+     * @param key               병합 키 (CourseCacheKeyGenerator 결과)
+     * @param loader            리더가 실행할 실제 생성 로직
+     * @param onFollowerTimeout 팔로워 대기 시간 초과 시 반환할 응답
+     */
+    public <T> T execute(String key, Supplier<T> loader, Supplier<T> onFollowerTimeout) {
+        InFlight candidate = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, candidate);
+
+        if (existing == null) {
+            return lead(key, candidate, loader);
+        }
+        return follow(key, existing, onFollowerTimeout);
+    }
+
+    /**
+     * Reactive 요청 병합 (스레드를 점유하지 않고 리더 결과를 구독)
+     * - 리더 작업은 호출 측 구독과 분리해 한 번만 시작하므로, 리더 요청이 끊겨도 팔로워는 결과를 받음
+     * - 리더 작업이 에러/빈 결과로 끝나면 리더와 팔로워 모두에게 에러 전달
+     */
+    public <T> Mono<T> executeReactive(String key, Supplier<Mono<T>> loader, Supplier<T> onFollowerTimeout) {
+        return Mono.deferContextual(context -> {
+            InFlight candidate = new InFlight();
+            InFlight existing = inFlight.putIfAbsent(key, candidate);
+
+            if (existing == null) {
+                leaderCounter.increment();
+                // loader가 동기적으로 던져도 Mono.defer가 에러로 바꾸므로 모든 종료 경로에서 키 해제
+                Mono.defer(loader)
+                        .contextWrite(context)
+                        .toFuture()
+                        .whenComplete((value, error) -> {
+                            if (error != null) {
+                                candidate.future.completeExceptionally(error);
+                            } else if (value == null) {
+                                candidate.future.completeExceptionally(
+                                        new CancellationException("Leader finished without result"));
+                            } else {
+                                candidate.future.complete(value);
+                            }
+                            release(key, candidate);
+                        });
+                return shared(candidate);
+            }
+
+            followerCounter.increment();
+            existing.joined.incrementAndGet();
+            existing.waiting.incrementAndGet();
+            log.debug("Joining in-flight course generation for key: {}", key);
+
+            Mono<T> shared = shared(existing);
+            return shared
+                    .timeout(Duration.ofMillis(followerTimeoutMs), Mono.fromSupplier(() -> {
+                        followerTimeoutCounter.increment();
+                        log.warn("Follower wait exceeded {}ms for key: {}, using fallback", followerTimeoutMs, key);
+                        return onFollowerTimeout.get();
+                    }))
+                    .doFinally(signal -> existing.waiting.decrementAndGet());
+        });
+    }
+
+    /**
+     * 공유 결과 구독 (suppressCancel=true: 리더/팔로워의 취소·타임아웃이 공유 future를 취소하지 않도록)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Mono<T> shared(InFlight flight) {
+        return Mono.fromFuture(flight.future, true).map(value -> (T) value);
+    }
+
+    /**
+     * 키별 현재 대기 중인 팔로워 수
+     */
+    public Map<String, Integer> getWaitersByKey() {
+        return inFlight.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().waiting.get()));
+    }
+
+    private <T> T lead(String key, InFlight flight, Supplier<T> loader) {
+        leaderCounter.increment();
+        try {
+            T response = loader.get();
+            flight.future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            release(key, flight);
+        }
+    }
+
+    private void release(String key, InFlight flight) {
+        inFlight.remove(key, flight);
+        int joined = flight.joined.get();
+        waitersPerKey.record(joined);
+        if (joined > 0) {
+            log.info("Coalesced {} follower request(s) for key: {}", joined, key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T follow(String key, InFlight flight, Supplier<T> onFollowerTimeout) {
+        followerCounter.increment();
+        flight.joined.incrementAndGet();
+        flight.waiting.incrementAndGet();
+        log.debug("Joining in-flight course generation for key: {}", key);
+
+        try {
+            return (T) flight.future.get(followerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            followerTimeoutCounter.increment();
+            log.warn("Follower wait exceeded {}ms for key: {}, using fallback", followerTimeoutMs, key);
+            return onFollowerTimeout.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("코스 생성 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("코스 생성 대기 중 인터럽트 발생", e);
+        } finally {
+            flight.waiting.decrementAndGet();
+        }
+    }
+
+    private int currentWaiters() {
+        return inFlight.values().stream()
+                .mapToInt(flight -> flight.waiting.get())
+                .sum();
+    }
+
+    private static class InFlight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger joined = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+    }
+}
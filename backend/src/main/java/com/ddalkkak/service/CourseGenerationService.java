@@ -1,84 +1,491 @@
 package com.ddalkkak.service;
 
+import com.ddalkkak.dto.CourseCacheEntry;
 import com.ddalkkak.dto.CourseGenerationRequest;
 import com.ddalkkak.dto.CourseGenerationResponse;
+import com.ddalkkak.dto.CourseStreamEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
 public class CourseGenerationService {
 
-    private final Optional<CourseCacheService> cacheService;
+    /**
+     * 코스 생성 방식 (course.generation.mode)
+     * - CLAUDE: Claude가 장소 선택/비용/설명까지 전체 생성
+     * - LOCAL: 로컬 플래너만 사용 (LLM 미호출)
+     * - HYBRID: 로컬 플래너가 장소/비용/동선을 정하고 Claude는 제목과 한 줄 설명만 생성
+     */
+    enum GenerationMode {
+        CLAUDE,
+        LOCAL,
+        HYBRID;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 캐시 항목 재생성 결과
+     * - REFRESHED: 새 응답을 캐시에 저장
+     * - ALREADY_REFRESHING: 같은 키를 다른 스레드가 이미 갱신 중이라 호출하지 않음
+     * - FAILED: Claude 호출 실패 또는 Fallback 응답
+     */
+    enum RegenerateResult {
+        REFRESHED,
+        ALREADY_REFRESHING,
+        FAILED
+    }
+
+    private final CourseCacheService cacheService;
     private final ClaudeApiService claudeApiService;
     private final LangfuseTraceService traceService;
+    private final CourseCacheKeyGenerator cacheKeyGenerator;
+    private final CourseGenerationCoalescer coalescer;
+    private final CourseDemandTracker demandTracker;
+    private final LocalCoursePlanner localCoursePlanner;
+    private final MeterRegistry meterRegistry;
+    private final GenerationMode mode;
     private final ObservationRegistry observationRegistry;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
 
     public CourseGenerationService(
-            @Autowired(required = false) CourseCacheService cacheService,
+            CourseCacheService cacheService,
             ClaudeApiService claudeApiService,
             LangfuseTraceService traceService,
-            @Autowired(required = false) ObservationRegistry observationRegistry) {
-        this.cacheService = Optional.ofNullable(cacheService);
+            CourseCacheKeyGenerator cacheKeyGenerator,
+            CourseGenerationCoalescer coalescer,
+            CourseDemandTracker demandTracker,
+            LocalCoursePlanner localCoursePlanner,
+            MeterRegistry meterRegistry,
+            @Autowired(required = false) ObservationRegistry observationRegistry,
+            @Value("${course.generation.mode:claude}") String generationMode) {
+        this.cacheService = cacheService;
         this.claudeApiService = claudeApiService;
         this.traceService = traceService;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.coalescer = coalescer;
+        this.demandTracker = demandTracker;
+        this.localCoursePlanner = localCoursePlanner;
+        this.meterRegistry = meterRegistry;
+        this.mode = GenerationMode.valueOf(generationMode.trim().toUpperCase(Locale.ROOT));
         this.observationRegistry = observationRegistry != null ? observationRegistry : ObservationRegistry.NOOP;
     }
 
     public CourseGenerationResponse generateCourses(CourseGenerationRequest request) {
-        // Create OpenTelemetry observation for Langfuse tracing with LLM metadata
-        return Observation.createNotStarted("course.generation", observationRegistry)
-                .lowCardinalityKeyValue("region", request.getRegion())
-                .lowCardinalityKeyValue("dateType", request.getDateType())
-                .highCardinalityKeyValue("budget", String.valueOf(request.getBudget()))
-                // Langfuse-specific attributes for LLM tracing
-                .highCardinalityKeyValue("gen_ai.system", "anthropic")
-                .highCardinalityKeyValue("gen_ai.request.model", "claude-sonnet-4-20250514")
-                .highCardinalityKeyValue("gen_ai.operation.name", "course-generation")
+        demandTracker.record(request);
+        return createObservation(request)
                 .observe(() -> {
-                    // 1. Check cache (if Redis is enabled)
-                    if (cacheService.isPresent()) {
-                        CourseGenerationResponse cachedResponse = cacheService.get().getFromCache(request);
-                        if (cachedResponse != null) {
-                            log.info("Returning cached course for region: {}, dateType: {}",
-                                    request.getRegion(), request.getDateType());
-                            return cachedResponse;
+                    // 0. Local mode: 큐레이션된 장소로 즉시 조립 (후보 부족 시 Claude 경로로)
+                    if (mode == GenerationMode.LOCAL) {
+                        long startTime = System.currentTimeMillis();
+                        Optional<CourseGenerationResponse> planned = localCoursePlanner.plan(request);
+                        if (planned.isPresent()) {
+                            recordGenerationDuration(System.currentTimeMillis() - startTime);
+                            return planned.get();
                         }
-                    } else {
-                        log.debug("Redis cache is disabled, skipping cache check");
                     }
 
-                    // 2. Start Langfuse trace
+                    // 1. Check cache (L1 in-process, then Redis if enabled)
+                    CourseGenerationResponse cachedResponse = cacheService.getFromCache(request);
+                    if (cachedResponse != null) {
+                        log.info("Returning cached course for region: {}, dateType: {}",
+                                request.getRegion(), request.getDateType());
+                        return cachedResponse;
+                    }
+
+                    // 2. Coalesce identical in-flight requests (single-flight per cache key)
+                    String cacheKey = cacheKeyGenerator.generate(request);
+                    CourseCacheEntry entry = coalescer.execute(
+                            cacheKey,
+                            () -> generateAndCache(request),
+                            () -> followerTimeoutEntry(request));
+
+                    // 같은 예산 밴드의 리더 결과를 공유한 경우 요청 예산에 맞게 조정
+                    return CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(), request.getBudget());
+                });
+    }
+
+    /**
+     * Non-blocking 코스 생성 (캐시 조회 → 요청 병합 → Claude API → 캐시 저장)
+     * 처리 흐름은 generateCourses와 동일하며, 대기 중 스레드를 점유하지 않음
+     */
+    public Mono<CourseGenerationResponse> generateCoursesReactive(CourseGenerationRequest request) {
+        return Mono.defer(() -> {
+            demandTracker.record(request);
+            Observation observation = createObservation(request).start();
+
+            return planLocally(request)
+                    .switchIfEmpty(Mono.defer(() -> cacheService.getFromCacheReactive(request))
+                            .doOnNext(cachedResponse -> log.info("Returning cached course for region: {}, dateType: {}",
+                                    request.getRegion(), request.getDateType())))
+                    .switchIfEmpty(Mono.defer(() -> coalescer.executeReactive(
+                                    cacheKeyGenerator.generate(request),
+                                    () -> generateAndCacheReactive(request),
+                                    () -> followerTimeoutEntry(request))
+                            .map(entry -> CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(),
+                                    request.getBudget()))))
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop());
+        });
+    }
+
+    /**
+     * 스트리밍 코스 생성 (SSE)
+     * - 캐시 히트 시 캐시된 코스를 바로 이벤트로 방출
+     * - 미스 시 같은 캐시 키의 요청을 병합: 리더는 Claude 스트리밍 응답에서 코스가 완성될 때마다 방출하고
+     *   완료 시 전체 응답을 캐시에 저장, 팔로워는 리더의 전체 응답을 받아 이벤트로 방출
+     */
+    public Flux<CourseStreamEvent> streamCourses(CourseGenerationRequest request) {
+        // Hybrid: 설명 생성 출력이 짧아 스트리밍 이점이 작으므로 완성된 응답을 이벤트로 전송
+        if (mode == GenerationMode.HYBRID) {
+            return generateCoursesReactive(request).flatMapMany(this::replay);
+        }
+
+        return Flux.defer(() -> {
+            demandTracker.record(request);
+
+            return planLocally(request)
+                    .switchIfEmpty(Mono.defer(() -> cacheService.getFromCacheReactive(request)))
+                    .doOnNext(readyResponse -> log.info("Streaming ready-made course for region: {}, dateType: {}",
+                            request.getRegion(), request.getDateType()))
+                    .flatMapMany(this::replay)
+                    .switchIfEmpty(Flux.defer(() -> streamCoalesced(request)));
+        });
+    }
+
+    private Flux<CourseStreamEvent> streamCoalesced(CourseGenerationRequest request) {
+        Sinks.Many<CourseStreamEvent> progress = Sinks.many().replay().all();
+        AtomicBoolean leading = new AtomicBoolean();
+
+        // executeReactive는 구독 시점에 리더 loader를 시작하므로, 두 번째 소스를 구독할 때 leading이 정해져 있음
+        return coalescer.executeReactive(
+                        cacheKeyGenerator.generate(request),
+                        () -> {
+                            leading.set(true);
+                            return streamAndCache(request, progress);
+                        },
+                        () -> followerTimeoutEntry(request))
+                .flatMapMany(entry -> leading.get()
+                        ? Flux.<CourseStreamEvent>empty()
+                        : replay(CourseBudgetRescaler.rescale(entry.getResponse(), entry.getBudget(),
+                                request.getBudget())))
+                .mergeWith(Flux.defer(() -> leading.get() ? progress.asFlux() : Flux.empty()));
+    }
+
+    /**
+     * 스트리밍 리더에서만 실행: 코스가 완성될 때마다 progress로 방출, 완료 시 캐시 저장 후 완료 이벤트 방출
+     * (리더 요청이 끊겨도 끝까지 실행되어 팔로워와 캐시에 결과를 남김)
+     */
+    private Mono<CourseCacheEntry> streamAndCache(CourseGenerationRequest request,
+                                                  Sinks.Many<CourseStreamEvent> progress) {
+        // 직전 리더가 방금 캐시에 저장했을 수 있으므로 한 번 더 확인
+        return cacheService.peekCacheReactive(request)
+                .doOnNext(cachedResponse -> {
+                    cachedResponse.getCourses().forEach(course ->
+                            progress.tryEmitNext(courseEvent(cachedResponse.getRequestId(), course)));
+                    progress.tryEmitNext(completeEvent(cachedResponse));
+                })
+                .map(cachedResponse -> toEntry(request, cachedResponse))
+                .switchIfEmpty(Mono.defer(() -> {
+                    String requestId = UUID.randomUUID().toString();
+                    LocalDateTime generatedAt = LocalDateTime.now();
+                    List<CourseGenerationResponse.CourseDto> courses = new ArrayList<>();
                     String traceId = traceService.startTrace(request);
                     long startTime = System.currentTimeMillis();
 
-                    try {
-                        // 3. Generate courses via Claude API (with Circuit Breaker and Fallback)
-                        CourseGenerationResponse response = claudeApiService.generateCourses(request);
-
-                        // 4. Save to cache (if Redis is enabled)
-                        cacheService.ifPresent(service -> service.saveToCache(request, response));
+                    return claudeApiService.streamCourses(request)
+                            .doOnNext(course -> {
+                                courses.add(course);
+                                progress.tryEmitNext(courseEvent(requestId, course));
+                            })
+                            .then(Mono.defer(() -> {
+                                CourseGenerationResponse response = CourseGenerationResponse.builder()
+                                        .requestId(requestId)
+                                        .generatedAt(generatedAt)
+                                        .courses(List.copyOf(courses))
+                                        .build();
 
-                        // 5. Record trace
-                        long duration = System.currentTimeMillis() - startTime;
-                        traceService.recordGeneration(traceId, request, response, duration);
+                                long duration = System.currentTimeMillis() - startTime;
+                                Mono<Void> save = !courses.isEmpty() && isCacheable(request, response)
+                                        ? cacheService.saveToCacheReactive(request, response, duration)
+                                        : Mono.empty();
 
-                        log.info("Successfully generated courses in {}ms for region: {}, dateType: {}",
-                                duration, request.getRegion(), request.getDateType());
+                                return save.then(Mono.fromSupplier(() -> {
+                                    traceService.recordGeneration(traceId, request, response, duration);
+                                    log.info("Successfully streamed {} courses in {}ms for region: {}, dateType: {}",
+                                            courses.size(), duration, request.getRegion(), request.getDateType());
 
-                        return response;
+                                    progress.tryEmitNext(completeEvent(response));
+                                    return toEntry(request, response);
+                                }));
+                            }))
+                            .doOnError(e -> {
+                                traceService.recordError(traceId, e instanceof Exception ex ? ex : new RuntimeException(e));
+                                log.error("Failed to stream courses for region: {}, dateType: {}",
+                                        request.getRegion(), request.getDateType(), e);
+                            });
+                }))
+                .doOnError(progress::tryEmitError)
+                .doFinally(signal -> progress.tryEmitComplete());
+    }
 
-                    } catch (Exception e) {
-                        traceService.recordError(traceId, e);
-                        log.error("Failed to generate courses for region: {}, dateType: {}",
-                                request.getRegion(), request.getDateType(), e);
-                        throw e;
+    /**
+     * Local mode일 때만 로컬 플래너 결과 (후보 부족 시 empty)
+     * 장소 후보 첫 로딩 시 DB 조회가 있어 별도 스케줄러에서 실행
+     */
+    private Mono<CourseGenerationResponse> planLocally(CourseGenerationRequest request) {
+        if (mode != GenerationMode.LOCAL) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    long startTime = System.currentTimeMillis();
+                    CourseGenerationResponse planned = localCoursePlanner.plan(request).orElse(null);
+                    if (planned != null) {
+                        recordGenerationDuration(System.currentTimeMillis() - startTime);
                     }
-                });
+                    return planned;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 캐시 미스 시 새 응답 생성 (HYBRID는 로컬 플래너 결과에 설명만 생성, 후보 부족 시 전체 생성)
+     */
+    private CourseGenerationResponse generateFresh(CourseGenerationRequest request) {
+        if (mode == GenerationMode.HYBRID) {
+            Optional<CourseGenerationResponse> skeleton = localCoursePlanner.plan(request);
+            if (skeleton.isPresent()) {
+                return claudeApiService.narrateCourses(request, skeleton.get());
+            }
+        }
+        return claudeApiService.generateCourses(request);
+    }
+
+    private Mono<CourseGenerationResponse> generateFreshReactive(CourseGenerationRequest request) {
+        if (mode != GenerationMode.HYBRID) {
+            return claudeApiService.generateCoursesReactive(request);
+        }
+        return Mono.fromCallable(() -> localCoursePlanner.plan(request).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(skeleton -> claudeApiService.narrateCoursesReactive(request, skeleton))
+                .switchIfEmpty(Mono.defer(() -> claudeApiService.generateCoursesReactive(request)));
+    }
+
+    /**
+     * 생성 방식별 소요 시간 (course.generation.duration{mode}), 캐시 히트는 제외
+     */
+    private void recordGenerationDuration(long durationMs) {
+        meterRegistry.timer("course.generation.duration", "mode", mode.tag())
+                .record(Duration.ofMillis(durationMs));
+    }
+
+    private Flux<CourseStreamEvent> replay(CourseGenerationResponse response) {
+        return Flux.fromIterable(response.getCourses())
+                .map(course -> courseEvent(response.getRequestId(), course))
+                .concatWith(Mono.just(completeEvent(response)));
+    }
+
+    /**
+     * 캐시 백그라운드 갱신 (stale-while-revalidate)
+     * - 같은 키의 갱신은 한 번만 실행하고, 사용자 요청과 동일한 병합 키를 사용
+     * - Claude 호출 실패(fallback 응답) 시 기존 캐시 값을 유지
+     */
+    @Async
+    @EventListener
+    public void onCacheRefreshRequested(CourseCacheRefreshEvent event) {
+        regenerate(event.request());
+    }
+
+    /**
+     * 캐시 항목 재생성 (백그라운드 갱신, 사전 생성 공용)
+     *
+     * @return 재생성 결과 (이미 갱신 중이면 호출하지 않고 ALREADY_REFRESHING)
+     */
+    public RegenerateResult regenerate(CourseGenerationRequest request) {
+        String cacheKey = cacheKeyGenerator.generate(request);
+        if (!refreshingKeys.add(cacheKey)) {
+            return RegenerateResult.ALREADY_REFRESHING;
+        }
+        try {
+            CourseCacheEntry entry = coalescer.execute(cacheKey, () -> refreshCache(request), () -> null);
+            return entry != null && !claudeApiService.isFallbackResponse(entry.getResponse())
+                    ? RegenerateResult.REFRESHED
+                    : RegenerateResult.FAILED;
+        } catch (Exception e) {
+            log.warn("Cache regeneration failed for key: {}", cacheKey, e);
+            return RegenerateResult.FAILED;
+        } finally {
+            refreshingKeys.remove(cacheKey);
+        }
+    }
+
+    private CourseCacheEntry refreshCache(CourseGenerationRequest request) {
+        long startTime = System.currentTimeMillis();
+        CourseGenerationResponse response = generateFresh(request);
+        long duration = System.currentTimeMillis() - startTime;
+        recordGenerationDuration(duration);
+
+        if (claudeApiService.isFallbackResponse(response)) {
+            log.warn("Skipping cache refresh with fallback response for region: {}, dateType: {}",
+                    request.getRegion(), request.getDateType());
+            return toEntry(request, response);
+        }
+
+        cacheService.saveToCache(request, response, duration);
+        log.info("Refreshed cached courses in {}ms for region: {}, dateType: {}",
+                duration, request.getRegion(), request.getDateType());
+        return toEntry(request, response);
+    }
+
+    /**
+     * Circuit Breaker/fallback 응답은 캐시하지 않음 (장애 동안의 기본 코스가 soft TTL 내내 응답되지 않도록)
+     */
+    private boolean isCacheable(CourseGenerationRequest request, CourseGenerationResponse response) {
+        if (claudeApiService.isFallbackResponse(response)) {
+            log.warn("Skipping cache save with fallback response for region: {}, dateType: {}",
+                    request.getRegion(), request.getDateType());
+            return false;
+        }
+        return true;
+    }
+
+    private CourseStreamEvent courseEvent(String requestId, CourseGenerationResponse.CourseDto course) {
+        return CourseStreamEvent.builder()
+                .type(CourseStreamEvent.TYPE_COURSE)
+                .requestId(requestId)
+                .course(course)
+                .build();
+    }
+
+    private CourseStreamEvent completeEvent(CourseGenerationResponse response) {
+        return CourseStreamEvent.builder()
+                .type(CourseStreamEvent.TYPE_COMPLETE)
+                .requestId(response.getRequestId())
+                .coursesCount(response.getCourses().size())
+                .generatedAt(response.getGeneratedAt())
+                .build();
+    }
+
+    /**
+     * 리더 요청에서만 실행: Claude API 호출 + 캐시 저장 + 트레이스 기록
+     */
+    private CourseCacheEntry generateAndCache(CourseGenerationRequest request) {
+        // 직전 리더가 방금 캐시에 저장했을 수 있으므로 한 번 더 확인
+        CourseGenerationResponse cachedResponse = cacheService.peekCache(request);
+        if (cachedResponse != null) {
+            return toEntry(request, cachedResponse);
+        }
+
+        // 1. Start Langfuse trace
+        String traceId = traceService.startTrace(request);
+        long startTime = System.currentTimeMillis();
+
+        try {
+            // 2. Generate courses via Claude API (with Circuit Breaker and Fallback)
+            CourseGenerationResponse response = generateFresh(request);
+
+            // 3. Save to cache (L1 + Redis if enabled), fallback 응답은 저장하지 않음
+            long duration = System.currentTimeMillis() - startTime;
+            recordGenerationDuration(duration);
+            if (isCacheable(request, response)) {
+                cacheService.saveToCache(request, response, duration);
+            }
+
+            // 4. Record trace
+            traceService.recordGeneration(traceId, request, response, duration);
+
+            log.info("Successfully generated courses in {}ms for region: {}, dateType: {}",
+                    duration, request.getRegion(), request.getDateType());
+
+            return toEntry(request, response);
+
+        } catch (Exception e) {
+            traceService.recordError(traceId, e);
+            log.error("Failed to generate courses for region: {}, dateType: {}",
+                    request.getRegion(), request.getDateType(), e);
+            throw e;
+        }
+    }
+
+    private Mono<CourseCacheEntry> generateAndCacheReactive(CourseGenerationRequest request) {
+        return cacheService.peekCacheReactive(request)
+                .map(cachedResponse -> toEntry(request, cachedResponse))
+                .switchIfEmpty(Mono.defer(() -> {
+                    String traceId = traceService.startTrace(request);
+                    long startTime = System.currentTimeMillis();
+
+                    return generateFreshReactive(request)
+                            .doOnNext(response -> recordGenerationDuration(System.currentTimeMillis() - startTime))
+                            .flatMap(response -> isCacheable(request, response)
+                                    ? cacheService.saveToCacheReactive(request, response,
+                                            System.currentTimeMillis() - startTime).thenReturn(response)
+                                    : Mono.just(response))
+                            .map(response -> {
+                                long duration = System.currentTimeMillis() - startTime;
+                                traceService.recordGeneration(traceId, request, response, duration);
+
+                                log.info("Successfully generated courses in {}ms for region: {}, dateType: {}",
+                                        duration, request.getRegion(), request.getDateType());
+
+                                return toEntry(request, response);
+                            })
+                            .doOnError(e -> {
+                                traceService.recordError(traceId, e instanceof Exception ex ? ex : new RuntimeException(e));
+                                log.error("Failed to generate courses for region: {}, dateType: {}",
+                                        request.getRegion(), request.getDateType(), e);
+                            });
+                }));
+    }
+
+    /**
+     * Create OpenTelemetry observation for Langfuse tracing with LLM metadata
+     */
+    private Observation createObservation(CourseGenerationRequest request) {
+        return Observation.createNotStarted("course.generation", observationRegistry)
+                .lowCardinalityKeyValue("region", request.getRegion())
+                .lowCardinalityKeyValue("dateType", request.getDateType())
+                .highCardinalityKeyValue("budget", String.valueOf(request.getBudget()))
+                // Langfuse-specific attributes for LLM tracing
+                .highCardinalityKeyValue("gen_ai.system", "anthropic")
+                .highCardinalityKeyValue("gen_ai.request.model", "claude-sonnet-4-20250514")
+                .highCardinalityKeyValue("gen_ai.operation.name", "course-generation");
+    }
+
+    private CourseCacheEntry followerTimeoutEntry(CourseGenerationRequest request) {
+        return toEntry(request, claudeApiService.generateCoursesFallback(request,
+                new TimeoutException("Coalesced request wait timed out")));
+    }
+
+    private CourseCacheEntry toEntry(CourseGenerationRequest request, CourseGenerationResponse response) {
+        return CourseCacheEntry.builder()
+                .response(response)
+                .budget(request.getBudget())
+                .build();
     }
 }
@@ -0,0 +1,98 @@
+package com.ddalkkak.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claude 스트리밍 응답에서 "courses" 배열의 각 코스 JSON 객체를 점진적으로 추출
+ * - 텍스트 조각(delta)을 순서대로 feed 하면, 닫힌 코스 객체를 즉시 반환
+ * - 문자열 내부의 괄호/이스케이프 문자는 무시
+ */
+final class CourseStreamParser {
+
+    private static final String COURSES_KEY = "\"courses\"";
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int position;
+    private boolean inCoursesArray;
+    private boolean arrayClosed;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int objectStart = -1;
+
+    /**
+     * 텍스트 조각 추가 후 새로 완성된 코스 JSON 목록 반환
+     */
+    List<String> feed(String chunk) {
+        List<String> completed = new ArrayList<>();
+        if (arrayClosed || chunk == null || chunk.isEmpty()) {
+            return completed;
+        }
+        buffer.append(chunk);
+
+        if (!inCoursesArray && !locateCoursesArray()) {
+            return completed;
+        }
+
+        for (; position < buffer.length(); position++) {
+            char c = buffer.charAt(position);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{' -> {
+                    if (depth == 0) {
+                        objectStart = position;
+                    }
+                    depth++;
+                }
+                case '}' -> {
+                    depth--;
+                    if (depth == 0 && objectStart >= 0) {
+                        completed.add(buffer.substring(objectStart, position + 1));
+                        objectStart = -1;
+                    }
+                }
+                case ']' -> {
+                    if (depth == 0) {
+                        arrayClosed = true;
+                        position++;
+                        return completed;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return completed;
+    }
+
+    boolean isComplete() {
+        return arrayClosed;
+    }
+
+    private boolean locateCoursesArray() {
+        int keyIndex = buffer.indexOf(COURSES_KEY);
+        if (keyIndex < 0) {
+            return false;
+        }
+        int arrayStart = buffer.indexOf("[", keyIndex + COURSES_KEY.length());
+        if (arrayStart < 0) {
+            return false;
+        }
+        inCoursesArray = true;
+        position = arrayStart + 1;
+        return true;
+    }
+}
@@ -6,11 +6,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +24,7 @@ public class KakaoLocalService {
 
     @Qualifier("kakaoWebClient")
     private final WebClient kakaoWebClient;
+    private final KakaoRateLimiter kakaoRateLimiter;
 
     private static final int MAX_PAGE = 3; // 페이지당 15개 * 3 = 45개
     private static final int PAGE_SIZE = 15;
@@ -38,43 +39,90 @@ public class KakaoLocalService {
             Double y,
             Integer radius
     ) {
-        List<KakaoLocalSearchResponse.Document> allDocuments = new ArrayList<>();
-
-        for (int page = 1; page <= MAX_PAGE; page++) {
-            try {
-                KakaoLocalSearchResponse response = searchPage(query, categoryGroupCode, x, y, radius, page);
-
-                if (response != null && response.getDocuments() != null) {
-                    allDocuments.addAll(response.getDocuments());
-
-                    // 마지막 페이지 체크
-                    if (response.getMeta() != null && Boolean.TRUE.equals(response.getMeta().getIsEnd())) {
-                        break;
-                    }
-                } else {
-                    break;
-                }
-
-                // Rate limiting 준수 (Kakao API: 10 req/sec)
-                Thread.sleep(100);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted during sleep", e);
-                break;
-            } catch (Exception e) {
-                log.error("Error searching places for query: {}, page: {}", query, page, e);
-            }
+        return searchPlacesByKeywordReactive(query, categoryGroupCode, x, y, radius).block();
+    }
+
+    /**
+     * 키워드로 장소 검색 (비동기)
+     * - 1페이지 응답의 pageable_count로 남은 페이지 수를 정한 뒤 나머지 페이지를 동시에 요청
+     * - 요청 간격은 KakaoRateLimiter가 프로세스 전역으로 조절
+     */
+    public Mono<List<KakaoLocalSearchResponse.Document>> searchPlacesByKeywordReactive(
+            String query,
+            String categoryGroupCode,
+            Double x,
+            Double y,
+            Integer radius
+    ) {
+        return searchPagesReactive(query, categoryGroupCode, x, y, radius, 1, null)
+                .flatMapIterable(SearchPage::documents)
+                .collectList()
+                .doOnNext(documents -> log.info("Searched {} places for query: {}", documents.size(), query));
+    }
+
+    /**
+     * 키워드 검색 결과를 페이지 단위로 반환 (페이지 순서 유지, 실패한 페이지는 빠짐)
+     * - lastPage를 모르면 1페이지부터 조회해 pageable_count로 마지막 페이지를 정함
+     * - lastPage를 알면 fromPage부터 마지막 페이지까지 동시에 요청 (중단된 검색 재개)
+     */
+    public Flux<SearchPage> searchPagesReactive(
+            String query,
+            String categoryGroupCode,
+            Double x,
+            Double y,
+            Integer radius,
+            int fromPage,
+            Integer lastPage
+    ) {
+        if (lastPage != null) {
+            return searchPages(query, categoryGroupCode, x, y, radius, fromPage, lastPage);
         }
+        return searchPage(query, categoryGroupCode, x, y, radius, 1)
+                .flatMapMany(first -> {
+                    int last = lastPage(first);
+                    return searchPages(query, categoryGroupCode, x, y, radius, Math.max(2, fromPage), last)
+                            .startWith(new SearchPage(1, last, documents(first)))
+                            .filter(page -> page.page() >= fromPage);
+                });
+    }
+
+    private Flux<SearchPage> searchPages(
+            String query,
+            String categoryGroupCode,
+            Double x,
+            Double y,
+            Integer radius,
+            int fromPage,
+            int lastPage
+    ) {
+        return Flux.range(fromPage, Math.max(0, lastPage - fromPage + 1))
+                .flatMapSequential(page -> searchPage(query, categoryGroupCode, x, y, radius, page)
+                        .map(response -> new SearchPage(page, lastPage, documents(response))));
+    }
 
-        log.info("Searched {} places for query: {}", allDocuments.size(), query);
-        return allDocuments;
+    private static List<KakaoLocalSearchResponse.Document> documents(KakaoLocalSearchResponse response) {
+        return response.getDocuments() != null ? response.getDocuments() : List.of();
     }
 
     /**
-     * 단일 페이지 검색 (재시도 로직 포함)
+     * 조회할 마지막 페이지 (최대 MAX_PAGE)
      */
-    private KakaoLocalSearchResponse searchPage(
+    private int lastPage(KakaoLocalSearchResponse first) {
+        KakaoLocalSearchResponse.Meta meta = first.getMeta();
+        if (first.getDocuments() == null || meta == null || Boolean.TRUE.equals(meta.getIsEnd())) {
+            return 1;
+        }
+        if (meta.getPageableCount() == null) {
+            return MAX_PAGE;
+        }
+        int pages = (meta.getPageableCount() + PAGE_SIZE - 1) / PAGE_SIZE;
+        return Math.max(1, Math.min(MAX_PAGE, pages));
+    }
+
+    /**
+     * 단일 페이지 검색 (재시도 로직 포함, 재시도도 레이트 리미터를 거침)
+     */
+    private Mono<KakaoLocalSearchResponse> searchPage(
             String query,
             String categoryGroupCode,
             Double x,
@@ -82,37 +130,44 @@ public class KakaoLocalService {
             Integer radius,
             int page
     ) {
-        return kakaoWebClient.get()
-                .uri(uriBuilder -> {
-                    var builder = uriBuilder
-                            .path("/v2/local/search/keyword.json")
-                            .queryParam("query", query)
-                            .queryParam("page", page)
-                            .queryParam("size", PAGE_SIZE);
-
-                    if (categoryGroupCode != null) {
-                        builder.queryParam("category_group_code", categoryGroupCode);
-                    }
-                    if (x != null && y != null) {
-                        builder.queryParam("x", x);
-                        builder.queryParam("y", y);
-                    }
-                    if (radius != null) {
-                        builder.queryParam("radius", radius);
-                    }
-
-                    return builder.build();
-                })
-                .retrieve()
-                .bodyToMono(KakaoLocalSearchResponse.class)
+        return kakaoRateLimiter.acquire()
+                .then(Mono.defer(() -> kakaoWebClient.get()
+                        .uri(uriBuilder -> {
+                            var builder = uriBuilder
+                                    .path("/v2/local/search/keyword.json")
+                                    .queryParam("query", query)
+                                    .queryParam("page", page)
+                                    .queryParam("size", PAGE_SIZE);
+
+                            if (categoryGroupCode != null) {
+                                builder.queryParam("category_group_code", categoryGroupCode);
+                            }
+                            if (x != null && y != null) {
+                                builder.queryParam("x", x);
+                                builder.queryParam("y", y);
+                            }
+                            if (radius != null) {
+                                builder.queryParam("radius", radius);
+                            }
+
+                            return builder.build();
+                        })
+                        .retrieve()
+                        .bodyToMono(KakaoLocalSearchResponse.class)))
                 .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
                         .maxBackoff(Duration.ofSeconds(5))
-                        .filter(throwable -> !(throwable instanceof IllegalArgumentException)))
+                        .filter(throwable -> !(throwable instanceof IllegalArgumentException)
+                                && !(throwable instanceof IllegalStateException)))
                 .onErrorResume(e -> {
                     log.error("Failed to search Kakao API: query={}, page={}", query, page, e);
                     return Mono.empty();
-                })
-                .block();
+                });
+    }
+
+    /**
+     * 검색 결과 한 페이지 (lastPage: 조회할 마지막 페이지)
+     */
+    public record SearchPage(int page, int lastPage, List<KakaoLocalSearchResponse.Document> documents) {
     }
 
     /**
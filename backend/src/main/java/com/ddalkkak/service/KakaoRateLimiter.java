@@ -0,0 +1,103 @@
+package com.ddalkkak.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Kakao Local API 프로세스 전역 레이트 리미터 + 일일 쿼터 추적
+ * - 초당 요청 한도(기본 10 req/s)를 모든 동시 요청이 공유, 예약 방식으로 간격을 맞춰 한도까지 사용
+ * - 일일 사용량은 Asia/Seoul 날짜 기준으로 집계하며 한도 소진 시 요청 거부 (재시작 시 0부터 다시 집계)
+ * - 메트릭: kakao.api.requests, kakao.api.quota.used, kakao.api.quota.remaining, kakao.api.ratelimit.wait
+ */
+@Slf4j
+@Component
+public class KakaoRateLimiter {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TokenBucket bucket;
+    private final long dailyQuota;
+    private final Timer waitTimer;
+    private final Counter requestCounter;
+
+    private LocalDate quotaDate = LocalDate.now(QUOTA_ZONE);
+    private long usedToday;
+
+    public KakaoRateLimiter(
+            @Value("${kakao.api.rate-limit.requests-per-second:10}") int requestsPerSecond,
+            @Value("${kakao.api.rate-limit.burst:1}") int burst,
+            @Value("${kakao.api.daily-quota:100000}") long dailyQuota,
+            MeterRegistry meterRegistry) {
+        this.bucket = TokenBucket.perSecond(requestsPerSecond, burst, System.nanoTime());
+        this.dailyQuota = dailyQuota;
+        this.waitTimer = meterRegistry.timer("kakao.api.ratelimit.wait");
+        this.requestCounter = meterRegistry.counter("kakao.api.requests");
+
+        meterRegistry.gauge("kakao.api.quota.used", this, KakaoRateLimiter::getUsedToday);
+        meterRegistry.gauge("kakao.api.quota.remaining", this, limiter -> limiter.dailyQuota - limiter.getUsedToday());
+    }
+
+    /**
+     * 요청 1건 예약 후 필요한 만큼 대기 (스레드를 막지 않음)
+     * - 일일 쿼터 소진 시 IllegalStateException
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve(System.nanoTime());
+            if (waitNanos < 0) {
+                return Mono.error(new IllegalStateException("Kakao API daily quota exhausted: " + dailyQuota));
+            }
+            requestCounter.increment();
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.<Void>empty();
+        });
+    }
+
+    /**
+     * @return 대기해야 하는 시간 (ns), 일일 쿼터 소진 시 -1
+     */
+    long reserve(long now) {
+        lock.lock();
+        try {
+            rollQuotaDate();
+            if (usedToday >= dailyQuota) {
+                return -1;
+            }
+            usedToday++;
+            return bucket.take(1, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getUsedToday() {
+        lock.lock();
+        try {
+            rollQuotaDate();
+            return usedToday;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rollQuotaDate() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDate)) {
+            log.info("Kakao API quota reset: date={}, used={}", quotaDate, usedToday);
+            quotaDate = today;
+            usedToday = 0;
+        }
+    }
+}
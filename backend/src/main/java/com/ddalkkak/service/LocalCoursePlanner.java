@@ -0,0 +1,391 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+import com.ddalkkak.dto.CourseGenerationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local Course Planner
+ * LLM 호출 없이 큐레이션된 장소(places)로 데이트 코스 3개를 조립
+ * - 코스별 기준 장소(anchor) 주변 도보 반경 내 후보에서 예산 제약 knapsack (분기 한정 탐색)
+ * - 코스 내 카테고리 중복 제한 (후보가 부족하면 카테고리당 2곳까지 허용)
+ * - 선택된 장소는 haversine 거리 + 추천 시간대 순서로 최단 경로 정렬 (최대 5곳, 전수 탐색)
+ * - 지역별 후보는 PlaceCatalog 스냅샷에서 읽고, 스냅샷 버전이 바뀔 때까지 변환 결과를 재사용 (요청당 DB 조회 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCoursePlanner {
+
+    public static final String COURSE_ID_PREFIX = "local-";
+
+    static final int COURSE_COUNT = 3;
+    static final int MIN_PLACES = 3;
+    static final int MAX_PLACES = 5;
+    private static final int POOL_SIZE = 16; // anchor 주변 knapsack 후보 수
+    private static final double MAX_WALK_KM = 1.5;
+    private static final double DISTANCE_PENALTY_PER_KM = 2.0;
+    private static final double MOOD_MATCH_BONUS = 2.0;
+    private static final double TIME_ORDER_PENALTY_KM = 0.3; // 추천 시간대 역순 이동 시 가산 거리
+    private static final double WALK_METERS_PER_MINUTE = 75.0;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int MIN_DATE_SCORE = 1;
+
+    private static final List<String> TIME_ORDER = List.of("아침", "점심", "저녁", "야간");
+
+    private final PlaceCatalog placeCatalog;
+    private final CourseCacheKeyGenerator cacheKeyGenerator;
+    private final Map<String, RegionPlaces> placesByRegion = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 조건으로 코스 생성, 후보가 부족해 코스를 만들 수 없으면 empty
+     */
+    public Optional<CourseGenerationResponse> plan(CourseGenerationRequest request) {
+        long startNanos = System.nanoTime();
+        String region = cacheKeyGenerator.normalizeRegion(request.getRegion());
+
+        List<CourseGenerationResponse.CourseDto> courses = planCourses(
+                placesOf(region), region, request.getDateType(), request.getBudget());
+
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+        if (courses.isEmpty()) {
+            log.info("Local planner found no feasible course for region: {}, budget: {} ({}us)",
+                    region, request.getBudget(), elapsedMicros);
+            return Optional.empty();
+        }
+
+        log.info("Local planner built {} courses for region: {}, dateType: {} in {}us",
+                courses.size(), region, request.getDateType(), elapsedMicros);
+        return Optional.of(CourseGenerationResponse.builder()
+                .requestId(UUID.randomUUID().toString())
+                .generatedAt(LocalDateTime.now())
+                .courses(courses)
+                .build());
+    }
+
+    private List<PlannerPlace> placesOf(String region) {
+        PlaceCatalogSnapshot snapshot = placeCatalog.snapshot();
+        RegionPlaces cached = placesByRegion.get(region);
+        if (cached == null || cached.version() != snapshot.version()) {
+            cached = new RegionPlaces(snapshot.version(), loadPlaces(snapshot.region(region)));
+            placesByRegion.put(region, cached);
+        }
+        return cached.places();
+    }
+
+    private static List<PlannerPlace> loadPlaces(PlaceCatalogSnapshot.Region catalog) {
+        List<PlannerPlace> places = new ArrayList<>();
+        for (int i : catalog.indexesWithMinScore(MIN_DATE_SCORE)) {
+            places.add(PlannerPlace.from(catalog, i));
+        }
+        return List.copyOf(places);
+    }
+
+    static List<CourseGenerationResponse.CourseDto> planCourses(List<PlannerPlace> places, String region,
+                                                                 String dateType, int budget) {
+        List<PlannerPlace> ranked = places.stream()
+                .sorted(Comparator.comparingDouble((PlannerPlace place) -> baseScore(place, dateType)).reversed())
+                .toList();
+
+        List<CourseGenerationResponse.CourseDto> courses = new ArrayList<>();
+        Set<Long> used = new HashSet<>();
+
+        for (PlannerPlace anchor : ranked) {
+            if (courses.size() == COURSE_COUNT) {
+                break;
+            }
+            if (used.contains(anchor.id()) || anchor.cost() > budget) {
+                continue;
+            }
+
+            List<Candidate> pool = nearbyPool(anchor, ranked, used, dateType);
+            List<PlannerPlace> selection = selectWithinBudget(anchor, pool, budget, 1);
+            if (selection.size() < MIN_PLACES) {
+                selection = selectWithinBudget(anchor, pool, budget, 2);
+            }
+            if (selection.size() < MIN_PLACES) {
+                continue;
+            }
+
+            List<PlannerPlace> route = shortestRoute(selection);
+            route.forEach(place -> used.add(place.id()));
+            courses.add(toCourse(courses.size() + 1, region, dateType, anchor, route));
+        }
+        return courses;
+    }
+
+    /**
+     * anchor 도보 반경 내 미사용 후보 (anchor와의 거리만큼 점수 감점)
+     */
+    private static List<Candidate> nearbyPool(PlannerPlace anchor, List<PlannerPlace> ranked, Set<Long> used,
+                                              String dateType) {
+        List<Candidate> pool = new ArrayList<>();
+        for (PlannerPlace place : ranked) {
+            if (place.id() == anchor.id() || used.contains(place.id())) {
+                continue;
+            }
+            double distanceKm = haversineKm(anchor, place);
+            if (distanceKm > MAX_WALK_KM) {
+                continue;
+            }
+            pool.add(new Candidate(place, baseScore(place, dateType) - distanceKm * DISTANCE_PENALTY_PER_KM));
+        }
+        pool.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return pool.size() > POOL_SIZE ? pool.subList(0, POOL_SIZE) : pool;
+    }
+
+    /**
+     * anchor 포함 3~5곳, 총 비용 <= 예산, 카테고리당 maxPerCategory 이하에서 점수 합 최대 조합
+     */
+    static List<PlannerPlace> selectWithinBudget(PlannerPlace anchor, List<Candidate> pool, int budget,
+                                                 int maxPerCategory) {
+        KnapsackSearch search = new KnapsackSearch(pool, maxPerCategory);
+        Map<String, Integer> categoryCounts = new HashMap<>();
+        categoryCounts.put(anchor.category(), 1);
+        search.run(0, budget - anchor.cost(), 0.0, new ArrayList<>(), categoryCounts);
+
+        List<PlannerPlace> selection = new ArrayList<>();
+        selection.add(anchor);
+        search.best.forEach(candidate -> selection.add(candidate.place()));
+        return selection;
+    }
+
+    /**
+     * 열린 경로(출발/도착 고정 없음) 최단 순서, 최대 5곳이라 순열 전수 탐색
+     */
+    static List<PlannerPlace> shortestRoute(List<PlannerPlace> places) {
+        List<PlannerPlace> best = new ArrayList<>(places);
+        double[] bestCost = {routeCost(best)};
+        permute(new ArrayList<>(places), 0, best, bestCost);
+        return best;
+    }
+
+    private static void permute(List<PlannerPlace> places, int index, List<PlannerPlace> best, double[] bestCost) {
+        if (index == places.size()) {
+            double cost = routeCost(places);
+            if (cost < bestCost[0]) {
+                bestCost[0] = cost;
+                best.clear();
+                best.addAll(places);
+            }
+            return;
+        }
+        for (int i = index; i < places.size(); i++) {
+            Collections.swap(places, index, i);
+            permute(places, index + 1, best, bestCost);
+            Collections.swap(places, index, i);
+        }
+    }
+
+    private static double routeCost(List<PlannerPlace> route) {
+        double cost = 0;
+        for (int i = 1; i < route.size(); i++) {
+            cost += haversineKm(route.get(i - 1), route.get(i));
+            if (timeRank(route.get(i)) < timeRank(route.get(i - 1))) {
+                cost += TIME_ORDER_PENALTY_KM;
+            }
+        }
+        return cost;
+    }
+
+    private static CourseGenerationResponse.CourseDto toCourse(int index, String region, String dateType,
+                                                               PlannerPlace anchor, List<PlannerPlace> route) {
+        List<CourseGenerationResponse.PlaceDto> placeDtos = new ArrayList<>();
+        int totalCost = 0;
+        double totalMinutes = 0;
+        for (int i = 0; i < route.size(); i++) {
+            PlannerPlace place = route.get(i);
+            totalCost += place.cost();
+            totalMinutes += place.duration();
+            if (i > 0) {
+                totalMinutes += haversineKm(route.get(i - 1), place) * 1000 / WALK_METERS_PER_MINUTE;
+            }
+            placeDtos.add(CourseGenerationResponse.PlaceDto.builder()
+                    .placeId(String.valueOf(place.id()))
+                    .name(place.name())
+                    .category(place.category())
+                    .estimatedCost(place.cost())
+                    .estimatedDuration(place.duration())
+                    .description(place.recommendation() != null ? place.recommendation() : place.categoryName())
+                    .build());
+        }
+
+        String mood = anchor.moodTags().isEmpty() ? "" : anchor.moodTags().get(0) + " ";
+        return CourseGenerationResponse.CourseDto.builder()
+                .courseId(COURSE_ID_PREFIX + "c" + index)
+                .title(region + " " + mood + dateType + " 코스")
+                .places(placeDtos)
+                .totalCost(totalCost)
+                .totalTime(String.format("%.1f시간", totalMinutes / 60.0))
+                .build();
+    }
+
+    private static double baseScore(PlannerPlace place, String dateType) {
+        double score = place.dateScore();
+        if (dateType != null && (dateType.contains(place.category())
+                || place.moodTags().stream().anyMatch(dateType::contains))) {
+            score += MOOD_MATCH_BONUS;
+        }
+        return score;
+    }
+
+    private static int timeRank(PlannerPlace place) {
+        int rank = TIME_ORDER.indexOf(place.bestTime());
+        return rank >= 0 ? rank : 1;
+    }
+
+    static double haversineKm(PlannerPlace a, PlannerPlace b) {
+        double dLat = Math.toRadians(b.latitude() - a.latitude());
+        double dLon = Math.toRadians(b.longitude() - a.longitude());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(a.latitude())) * Math.cos(Math.toRadians(b.latitude()))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(h));
+    }
+
+    /**
+     * 분기 한정 탐색: 남은 후보 점수 상위 합으로 상한을 잡아 가지치기
+     */
+    private static final class KnapsackSearch {
+
+        private final List<Candidate> pool;
+        private final int maxPerCategory;
+        private List<Candidate> best = List.of();
+        private double bestScore = Double.NEGATIVE_INFINITY;
+
+        private KnapsackSearch(List<Candidate> pool, int maxPerCategory) {
+            this.pool = pool;
+            this.maxPerCategory = maxPerCategory;
+        }
+
+        private void run(int index, int remainingBudget, double score, List<Candidate> chosen,
+                         Map<String, Integer> categoryCounts) {
+            int size = chosen.size() + 1; // anchor 포함
+            if (size >= MIN_PLACES && score > bestScore) {
+                bestScore = score;
+                best = List.copyOf(chosen);
+            }
+            if (size == MAX_PLACES || index == pool.size()) {
+                return;
+            }
+            // pool은 점수 내림차순이므로 남은 자리 x 다음 후보 점수가 상한
+            double upperBound = score + (MAX_PLACES - size) * Math.max(0, pool.get(index).score());
+            if (best.size() + 1 >= MIN_PLACES && upperBound <= bestScore) {
+                return;
+            }
+
+            for (int i = index; i < pool.size(); i++) {
+                Candidate candidate = pool.get(i);
+                PlannerPlace place = candidate.place();
+                int count = categoryCounts.getOrDefault(place.category(), 0);
+                if (place.cost() > remainingBudget || count >= maxPerCategory) {
+                    continue;
+                }
+                chosen.add(candidate);
+                categoryCounts.put(place.category(), count + 1);
+                run(i + 1, remainingBudget - place.cost(), score + candidate.score(), chosen, categoryCounts);
+                categoryCounts.put(place.category(), count);
+                chosen.remove(chosen.size() - 1);
+            }
+        }
+    }
+
+    record Candidate(PlannerPlace place, double score) {
+    }
+
+    private record RegionPlaces(long version, List<PlannerPlace> places) {
+    }
+
+    /**
+     * 코스 조립용 장소 스냅샷 (비용은 2인 기준 원)
+     */
+    record PlannerPlace(long id, String name, String category, String categoryName, int cost, int duration,
+                        double latitude, double longitude, int dateScore, List<String> moodTags,
+                        String bestTime, String recommendation) {
+
+        static PlannerPlace from(PlaceCatalogSnapshot.Region catalog, int i) {
+            String category = categoryOf(catalog.categoryName(i), catalog.categoryGroupCode(i));
+            return new PlannerPlace(
+                    catalog.id(i),
+                    catalog.name(i),
+                    category,
+                    catalog.categoryName(i),
+                    costForTwo(catalog.priceTier(i), category),
+                    durationMinutes(category),
+                    catalog.latitude(i),
+                    catalog.longitude(i),
+                    catalog.dateScore(i),
+                    catalog.moodTags(i),
+                    catalog.bestTime(i),
+                    catalog.recommendation(i));
+        }
+
+        static String categoryOf(String categoryName, String categoryGroupCode) {
+            String name = categoryName != null ? categoryName : "";
+            if (name.contains("술집") || name.contains("와인") || name.contains("칵테일")) {
+                return "바";
+            }
+            if (name.contains("디저트") || name.contains("제과") || name.contains("베이커리")) {
+                return "디저트";
+            }
+            if ("CE7".equals(categoryGroupCode) || name.contains("카페")) {
+                return "카페";
+            }
+            if ("FD6".equals(categoryGroupCode) || name.startsWith("음식점")) {
+                return "음식점";
+            }
+            if ("CT1".equals(categoryGroupCode)) {
+                return "문화시설";
+            }
+            if ("AT4".equals(categoryGroupCode)) {
+                return "관광명소";
+            }
+            return name.isBlank() ? "기타" : name.substring(name.lastIndexOf('>') + 1).trim();
+        }
+
+        /**
+         * price_range(1인 기준 ₩/₩₩/₩₩₩)를 2인 예상 비용으로 환산, 미큐레이션 시 카테고리 기본값
+         */
+        static int costForTwo(String priceRange, String category) {
+            return costForTwo(PlaceCatalogSnapshot.priceTier(priceRange), category);
+        }
+
+        static int costForTwo(int priceTier, String category) {
+            int perPerson = switch (priceTier) {
+                case 0 -> switch (category) {
+                    case "카페", "디저트" -> 10_000;
+                    case "음식점" -> 25_000;
+                    case "바" -> 30_000;
+                    default -> 15_000;
+                };
+                case 1 -> 10_000;
+                case 2 -> 25_000;
+                default -> 50_000;
+            };
+            return perPerson * 2;
+        }
+
+        static int durationMinutes(String category) {
+            return switch (category) {
+                case "디저트" -> 40;
+                case "음식점", "바", "문화시설" -> 90;
+                default -> 60;
+            };
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.repository.PlaceCatalogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 장소 카탈로그 스냅샷 보관
+ * - 기동 시, 그리고 수집/큐레이션 배치가 끝날 때마다(PlaceCatalogRefreshEvent) 전체를 다시 읽어 새 스냅샷 생성
+ * - 새 스냅샷은 참조 하나로 교체하므로 읽는 쪽은 항상 완성된 스냅샷 하나만 봄 (잠금 없음)
+ * - 교체 후 PlaceCatalogRebuiltEvent 발행 (스냅샷에서 파생되는 인덱스 재생성)
+ * - 재생성 실패 시 이전 스냅샷 유지
+ */
+@Slf4j
+@Component
+public class PlaceCatalog {
+
+    private final PlaceCatalogRepository placeCatalogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<PlaceCatalogSnapshot> current = new AtomicReference<>(PlaceCatalogSnapshot.EMPTY);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public PlaceCatalog(PlaceCatalogRepository placeCatalogRepository, ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry) {
+        this.placeCatalogRepository = placeCatalogRepository;
+        this.eventPublisher = eventPublisher;
+
+        meterRegistry.gauge("place.catalog.places", this, catalog -> catalog.snapshot().size());
+        meterRegistry.gauge("place.catalog.bytes", this, catalog -> catalog.snapshot().estimatedBytes());
+    }
+
+    public PlaceCatalogSnapshot snapshot() {
+        return current.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild("startup");
+    }
+
+    @Async
+    @EventListener
+    public void onRefreshRequested(PlaceCatalogRefreshEvent event) {
+        rebuild(event.reason());
+    }
+
+    /**
+     * 스냅샷 재생성 (동시 요청은 순서대로 실행, 버전은 1씩 증가)
+     * - DB를 읽는 동안 가상 스레드가 carrier 스레드를 고정하지 않도록 synchronized 대신 ReentrantLock
+     */
+    public void rebuild(String reason) {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            long loadStartedNanos = System.nanoTime();
+            PlaceCatalogSnapshot.Builder builder = new PlaceCatalogSnapshot.Builder(snapshot().version() + 1);
+            placeCatalogRepository.forEachPlace(builder::add);
+            PlaceCatalogSnapshot snapshot = builder.build();
+            current.set(snapshot);
+
+            log.info("Rebuilt place catalog: reason={}, version={}, places={}, estimatedBytes={}, {}ms",
+                    reason, snapshot.version(), snapshot.size(), snapshot.estimatedBytes(),
+                    System.currentTimeMillis() - startedAt);
+            eventPublisher.publishEvent(new PlaceCatalogRebuiltEvent(snapshot, loadStartedNanos));
+        } catch (Exception e) {
+            log.error("Failed to rebuild place catalog: reason={}", reason, e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
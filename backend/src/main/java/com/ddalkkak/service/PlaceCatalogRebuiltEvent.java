@@ -0,0 +1,7 @@
+package com.ddalkkak.service;
+
+/**
+ * 장소 카탈로그 스냅샷 교체 완료 (loadStartedNanos: 스냅샷 적재 시작 시각, System.nanoTime 기준)
+ */
+public record PlaceCatalogRebuiltEvent(PlaceCatalogSnapshot snapshot, long loadStartedNanos) {
+}
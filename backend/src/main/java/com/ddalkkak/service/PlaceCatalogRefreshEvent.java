@@ -0,0 +1,7 @@
+package com.ddalkkak.service;
+
+/**
+ * 장소 카탈로그 스냅샷 재생성 요청 (수집/큐레이션 배치 완료 시 발행)
+ */
+public record PlaceCatalogRefreshEvent(String reason) {
+}
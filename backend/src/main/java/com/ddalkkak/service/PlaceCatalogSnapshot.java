@@ -0,0 +1,296 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.repository.PlaceCatalogRepository.CatalogRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지역별 장소 카탈로그 불변 스냅샷 (열 단위 저장)
+ * - 좌표/점수/가격대는 기본형 배열, 카테고리/그룹 코드/분위기 태그/추천 시간대는 사전 코드(short) 배열
+ * - 분위기 태그는 장소별 시작 위치(tagOffsets)와 태그 코드(tagCodes)로 저장
+ * - 만든 뒤에는 변경하지 않으므로 잠금 없이 여러 스레드에서 읽음
+ */
+public final class PlaceCatalogSnapshot {
+
+    public static final PlaceCatalogSnapshot EMPTY = new Builder(0).build();
+
+    private static final int NO_CODE = -1;
+
+    private final long version;
+    private final String[] categoryNames;
+    private final String[] categoryGroupCodes;
+    private final String[] tags;
+    private final String[] bestTimes;
+    private final Map<String, Region> regions;
+
+    private PlaceCatalogSnapshot(long version, Builder builder) {
+        this.version = version;
+
+        // 사전은 파티션을 만들면서 채워지므로 파티션 생성 후 고정
+        Map<String, Region> built = new HashMap<>();
+        builder.rowsByRegion.forEach((region, rows) -> built.put(region, new Region(rows, builder)));
+        this.regions = Map.copyOf(built);
+        this.categoryNames = builder.categoryNames.values();
+        this.categoryGroupCodes = builder.categoryGroupCodes.values();
+        this.tags = builder.tags.values();
+        this.bestTimes = builder.bestTimes.values();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 지역 파티션 (없는 지역은 빈 파티션)
+     */
+    public Region region(String region) {
+        Region partition = regions.get(region);
+        return partition != null ? partition : new Region(List.of(), null);
+    }
+
+    public Set<String> regions() {
+        return regions.keySet();
+    }
+
+    public int size() {
+        return regions.values().stream().mapToInt(Region::size).sum();
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (배열 본문 + 문자열, 객체 헤더는 근사치)
+     */
+    public long estimatedBytes() {
+        long bytes = stringsBytes(categoryNames) + stringsBytes(categoryGroupCodes)
+                + stringsBytes(tags) + stringsBytes(bestTimes);
+        for (Region region : regions.values()) {
+            bytes += region.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * price_range(₩/₩₩/₩₩₩) → 가격대 1~3, 미큐레이션 0
+     */
+    public static int priceTier(String priceRange) {
+        if (priceRange == null || priceRange.isBlank()) {
+            return 0;
+        }
+        return Math.min(priceRange.trim().length(), 3);
+    }
+
+    private static long stringsBytes(String[] values) {
+        long bytes = 16 + 4L * values.length;
+        for (String value : values) {
+            // 한글은 UTF-16이라 문자당 2바이트, String + byte[] 헤더 약 40바이트
+            bytes += value != null ? 40 + 2L * value.length() : 0;
+        }
+        return bytes;
+    }
+
+    /**
+     * 한 지역의 장소 열 배열 (인덱스 i가 한 장소)
+     */
+    public final class Region {
+
+        private final long[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final byte[] dateScores;
+        private final byte[] priceTiers;
+        private final short[] categoryNameCodes;
+        private final short[] categoryGroupCodeCodes;
+        private final short[] bestTimeCodes;
+        private final int[] tagOffsets;
+        private final short[] tagCodes;
+        private final String[] names;
+        private final String[] recommendations;
+
+        private Region(List<CatalogRow> rows, Builder builder) {
+            int size = rows.size();
+            ids = new long[size];
+            latitudes = new double[size];
+            longitudes = new double[size];
+            dateScores = new byte[size];
+            priceTiers = new byte[size];
+            categoryNameCodes = new short[size];
+            categoryGroupCodeCodes = new short[size];
+            bestTimeCodes = new short[size];
+            tagOffsets = new int[size + 1];
+            names = new String[size];
+            recommendations = new String[size];
+
+            short[] codes = new short[size * 3];
+            int tagCount = 0;
+            for (int i = 0; i < size; i++) {
+                CatalogRow row = rows.get(i);
+                ids[i] = row.id();
+                latitudes[i] = row.latitude();
+                longitudes[i] = row.longitude();
+                dateScores[i] = (byte) row.dateScore();
+                priceTiers[i] = (byte) PlaceCatalogSnapshot.priceTier(row.priceRange());
+                categoryNameCodes[i] = builder.categoryNames.code(row.categoryName());
+                categoryGroupCodeCodes[i] = builder.categoryGroupCodes.code(row.categoryGroupCode());
+                bestTimeCodes[i] = builder.bestTimes.code(row.bestTime());
+                names[i] = row.name();
+                recommendations[i] = row.recommendation();
+
+                tagOffsets[i] = tagCount;
+                if (row.moodTags() != null) {
+                    for (String tag : row.moodTags()) {
+                        if (tagCount == codes.length) {
+                            codes = Arrays.copyOf(codes, codes.length * 2);
+                        }
+                        codes[tagCount++] = builder.tags.code(tag);
+                    }
+                }
+            }
+            tagOffsets[size] = tagCount;
+            tagCodes = Arrays.copyOf(codes, tagCount);
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * 데이트 적합도가 minScore 이상인 장소 인덱스
+         */
+        public int[] indexesWithMinScore(int minScore) {
+            int[] indexes = new int[ids.length];
+            int count = 0;
+            for (int i = 0; i < dateScores.length; i++) {
+                if (dateScores[i] >= minScore) {
+                    indexes[count++] = i;
+                }
+            }
+            return Arrays.copyOf(indexes, count);
+        }
+
+        public long id(int i) {
+            return ids[i];
+        }
+
+        public String name(int i) {
+            return names[i];
+        }
+
+        public double latitude(int i) {
+            return latitudes[i];
+        }
+
+        public double longitude(int i) {
+            return longitudes[i];
+        }
+
+        public int dateScore(int i) {
+            return dateScores[i];
+        }
+
+        public int priceTier(int i) {
+            return priceTiers[i];
+        }
+
+        public String categoryName(int i) {
+            return decode(categoryNames, categoryNameCodes[i]);
+        }
+
+        public String categoryGroupCode(int i) {
+            return decode(categoryGroupCodes, categoryGroupCodeCodes[i]);
+        }
+
+        public String bestTime(int i) {
+            return decode(bestTimes, bestTimeCodes[i]);
+        }
+
+        public String recommendation(int i) {
+            return recommendations[i];
+        }
+
+        public List<String> moodTags(int i) {
+            int from = tagOffsets[i];
+            int to = tagOffsets[i + 1];
+            if (from == to) {
+                return List.of();
+            }
+            String[] decoded = new String[to - from];
+            for (int t = from; t < to; t++) {
+                decoded[t - from] = tags[tagCodes[t]];
+            }
+            return List.of(decoded);
+        }
+
+        private long estimatedBytes() {
+            int size = ids.length;
+            // 기본형 배열: id 8 + 좌표 16 + 점수/가격대 2 + 카테고리/그룹/시간대 코드 6 + 태그 위치 4
+            long bytes = 36L * size + 2L * tagCodes.length + 12 * 16;
+            return bytes + stringsBytes(names) + stringsBytes(recommendations);
+        }
+
+        private static String decode(String[] dictionary, int code) {
+            return code != NO_CODE ? dictionary[code] : null;
+        }
+    }
+
+    /**
+     * 행을 지역별로 모아 스냅샷 생성 (적재 스레드 하나에서만 사용)
+     */
+    public static final class Builder {
+
+        private final long version;
+        private final Map<String, List<CatalogRow>> rowsByRegion = new LinkedHashMap<>();
+        private final Dictionary categoryNames = new Dictionary(Short.MAX_VALUE);
+        private final Dictionary categoryGroupCodes = new Dictionary(Short.MAX_VALUE);
+        private final Dictionary tags = new Dictionary(Short.MAX_VALUE);
+        private final Dictionary bestTimes = new Dictionary(Short.MAX_VALUE);
+
+        public Builder(long version) {
+            this.version = version;
+        }
+
+        public Builder add(CatalogRow row) {
+            rowsByRegion.computeIfAbsent(row.region(), region -> new ArrayList<>()).add(row);
+            return this;
+        }
+
+        public PlaceCatalogSnapshot build() {
+            return new PlaceCatalogSnapshot(version, this);
+        }
+    }
+
+    /**
+     * 문자열 사전 (null은 NO_CODE)
+     */
+    private static final class Dictionary {
+
+        private final int maxSize;
+        private final Map<String, Short> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private Dictionary(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        private short code(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                if (values.size() >= maxSize) {
+                    throw new IllegalStateException("Too many distinct values for catalog dictionary: " + maxSize);
+                }
+                values.add(key);
+                return (short) (values.size() - 1);
+            });
+        }
+
+        private String[] values() {
+            return values.toArray(String[]::new);
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.ddalkkak.service;
 
+import com.ddalkkak.domain.BatchJob;
+import com.ddalkkak.domain.BatchJobCheckpoint;
 import com.ddalkkak.domain.Place;
 import com.ddalkkak.dto.KakaoLocalSearchResponse;
-import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository;
 import com.ddalkkak.repository.PlaceRepository;
+import com.ddalkkak.repository.PlaceScanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Place Collection Batch Service
  * Kakao API 장소 수집 + Claude API 큐레이션 통합 배치
+ * 진행 상황은 batch_jobs / batch_job_checkpoints에 기록 (재시작 시 이어서 실행)
  */
 @Slf4j
 @Service
@@ -23,7 +34,21 @@ public class PlaceCollectionBatchService {
 
     private final KakaoLocalService kakaoLocalService;
     private final PlaceCurationService placeCurationService;
+    private final PlaceCurationBatchService placeCurationBatchService;
+    private final PlaceCurationPipeline placeCurationPipeline;
     private final PlaceRepository placeRepository;
+    private final PlaceBulkRepository placeBulkRepository;
+    private final PlaceScanRepository placeScanRepository;
+    private final BatchJobService batchJobService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // sync: 장소별 동기 호출 | batch: Message Batches API로 일괄 제출 (결과는 폴링으로 비동기 반영)
+    @Value("${place.curation.mode:sync}")
+    private String curationMode;
+
+    // 재큐레이션 시 한 번에 메모리에 올리는 장소 수 (batch 모드는 배치당 최대 요청 수 단위)
+    @Value("${place.curation.scan-page-size:500}")
+    private int scanPageSize;
 
     // Tier 1 지역 목록
     private static final List<String> TIER1_REGIONS = List.of(
@@ -38,127 +63,186 @@ public class PlaceCollectionBatchService {
     private static final int TARGET_PLACES_PER_REGION = 100;
 
     /**
-     * Phase 1 + Phase 2 통합 배치 실행
-     * - Phase 1: Kakao API로 500곳 수집
-     * - Phase 2: Claude API로 AI 큐레이션
+     * 수집 작업 생성 (실행은 runCollectionJob)
+     */
+    public BatchJob startCollectionJob() {
+        return batchJobService.createCollectionJob(TIER1_REGIONS, SEARCH_KEYWORDS);
+    }
+
+    /**
+     * Phase 1 + Phase 2 통합 배치 실행 (새 작업 또는 중단된 작업 재개)
+     * - Phase 1: Kakao API로 지역 × 키워드 검색, 페이지마다 저장 후 체크포인트 기록
+     * - Phase 2: 미큐레이션 장소를 id 순으로 큐레이션, 페이지마다 커서 기록
+     * - 재개 시 완료된 검색/페이지와 커서 이하 장소는 건너뜀 (체크포인트 직전에 중단되면 해당 페이지만 다시 upsert)
      */
     @Async
-    public void collectAndCuratePlaces() {
-        log.info("=== Starting Place Collection & Curation Batch ===");
+    public void runCollectionJob(Long jobId) {
+        BatchJob job = batchJobService.findJob(jobId).orElse(null);
+        if (job == null || job.getStatus() != BatchJob.Status.RUNNING) {
+            log.warn("Collection job not runnable: jobId={}", jobId);
+            return;
+        }
 
-        int totalCollected = 0;
-        int totalCurated = 0;
+        if (!batchJobService.markLocalRunning(jobId)) {
+            log.warn("Collection job already running in this instance: jobId={}", jobId);
+            return;
+        }
 
-        for (String region : TIER1_REGIONS) {
-            try {
-                log.info("Processing region: {}", region);
+        log.info("=== Starting Place Collection & Curation Batch: jobId={}, phase={} ===", jobId, job.getPhase());
 
-                // Phase 1: 장소 수집
-                List<Place> collectedPlaces = collectPlacesForRegion(region);
-                totalCollected += collectedPlaces.size();
+        try {
+            if (job.getPhase() == BatchJob.Phase.SEARCH) {
+                collectPlaces(job);
+                job.startCuration((int) placeRepository.countByCuratedAtIsNull());
+                batchJobService.save(job);
+            }
 
-                log.info("Collected {} places for region: {}", collectedPlaces.size(), region);
+            curateUncuratedPlaces(job);
 
-                // Phase 2: AI 큐레이션
-                int curatedCount = curatePlaces(collectedPlaces);
-                totalCurated += curatedCount;
+            job.markCompleted();
+            batchJobService.save(job);
 
-                log.info("Curated {} places for region: {}", curatedCount, region);
+            log.info("=== Batch Complete: jobId={} ===", jobId);
+            log.info("Total Curated: {}/{}", job.getCurationSucceeded(), job.getCurationTotal());
 
-            } catch (Exception e) {
-                log.error("Error processing region: {}", region, e);
-            }
+        } catch (Exception e) {
+            log.error("Collection job failed: jobId={}", jobId, e);
+            job.markFailed(e.getMessage());
+            batchJobService.save(job);
+        } finally {
+            batchJobService.unmarkLocalRunning(jobId);
         }
 
-        log.info("=== Batch Complete ===");
-        log.info("Total Collected: {}", totalCollected);
-        log.info("Total Curated: {}", totalCurated);
+        // 실패해도 그때까지 저장/큐레이션된 장소는 반영
+        eventPublisher.publishEvent(new PlaceCatalogRefreshEvent("collection-job-" + jobId));
     }
 
     /**
-     * Phase 1: 특정 지역의 장소 수집
+     * Phase 1: 남은 검색을 모두 동시에 요청하고 (Kakao 전역 레이트 리미터 공유),
+     * 결과는 체크포인트 순서(지역/키워드 우선순위)대로 한 페이지씩 저장
      */
-    private List<Place> collectPlacesForRegion(String region) {
-        List<Place> places = new ArrayList<>();
-        double[] coords = KakaoLocalService.RegionCoordinates.getCoordinates(region);
-
-        for (String keyword : SEARCH_KEYWORDS) {
-            if (places.size() >= TARGET_PLACES_PER_REGION) {
-                break;
-            }
+    private void collectPlaces(BatchJob job) {
+        List<BatchJobCheckpoint> checkpoints = batchJobService.getCheckpoints(job.getId());
+        Map<String, Integer> collectedByRegion = new HashMap<>();
+        for (BatchJobCheckpoint checkpoint : checkpoints) {
+            collectedByRegion.merge(checkpoint.getRegion(), checkpoint.getCollectedCount(), Integer::sum);
+        }
+        List<BatchJobCheckpoint> pending = checkpoints.stream()
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .toList();
+        log.info("Searching {}/{} region-keyword pairs", pending.size(), checkpoints.size());
+
+        long searchStartedAt = System.currentTimeMillis();
+        Iterable<Map.Entry<BatchJobCheckpoint, KakaoLocalService.SearchPage>> pages = Flux.fromIterable(pending)
+                .flatMapSequential(checkpoint -> {
+                    double[] coords = KakaoLocalService.RegionCoordinates.getCoordinates(checkpoint.getRegion());
+                    return kakaoLocalService.searchPagesReactive(
+                                    checkpoint.getRegion() + " " + checkpoint.getKeyword(),
+                                    null, // 카테고리 그룹 코드 (null = 전체)
+                                    coords[0], // x (longitude)
+                                    coords[1], // y (latitude)
+                                    2000, // 반경 2km
+                                    checkpoint.nextPage(),
+                                    checkpoint.getTotalPages()
+                            )
+                            .map(page -> Map.entry(checkpoint, page));
+                })
+                .toIterable();
+
+        Map<String, Set<String>> seenByRegion = new HashMap<>();
+        for (Map.Entry<BatchJobCheckpoint, KakaoLocalService.SearchPage> entry : pages) {
+            savePage(job, entry.getKey(), entry.getValue(), collectedByRegion, seenByRegion);
+        }
 
-            String query = region + " " + keyword;
-            List<KakaoLocalSearchResponse.Document> documents = kakaoLocalService.searchPlacesByKeyword(
-                    query,
-                    null, // 카테고리 그룹 코드 (null = 전체)
-                    coords[0], // x (longitude)
-                    coords[1], // y (latitude)
-                    2000 // 반경 2km
-            );
-
-            for (KakaoLocalSearchResponse.Document doc : documents) {
-                if (places.size() >= TARGET_PLACES_PER_REGION) {
-                    break;
-                }
-
-                // 중복 체크
-                if (placeRepository.findByKakaoPlaceId(doc.getId()).isPresent()) {
-                    continue;
-                }
-
-                Place place = convertToPlace(doc, region);
-                Place saved = placeRepository.save(place);
-                places.add(saved);
-            }
+        log.info("Searched {} region-keyword pairs in {}ms, collected by region: {}",
+                pending.size(), System.currentTimeMillis() - searchStartedAt, collectedByRegion);
+    }
 
-            // Rate limiting (Kakao API: 10 req/sec)
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted", e);
-            }
+    /**
+     * Phase 1: 검색 결과 한 페이지 저장 후 체크포인트 기록 (지역당 최대 TARGET_PLACES_PER_REGION)
+     * - 키워드 간 중복은 메모리에서 제거 (먼저 검색된 키워드 우선)
+     * - kakao_place_id 기준 upsert: 기존 장소도 카카오 정보(전화번호, 주소, 카테고리 등)가 바뀌었으면 갱신
+     */
+    private void savePage(BatchJob job, BatchJobCheckpoint checkpoint, KakaoLocalService.SearchPage page,
+                          Map<String, Integer> collectedByRegion, Map<String, Set<String>> seenByRegion) {
+        String region = checkpoint.getRegion();
+        Set<String> seen = seenByRegion.computeIfAbsent(region, key -> new HashSet<>());
+        int remaining = TARGET_PLACES_PER_REGION - collectedByRegion.getOrDefault(region, 0);
+
+        List<Place> places = page.documents().stream()
+                .filter(doc -> seen.add(doc.getId()))
+                .limit(Math.max(0, remaining))
+                .map(doc -> convertToPlace(doc, region))
+                .toList();
+
+        if (!places.isEmpty()) {
+            PlaceBulkRepository.UpsertResult result = placeBulkRepository.upsertAll(places);
+            log.debug("Upserted page {} of {} {}: inserted={}, updated={}, unchanged={}",
+                    page.page(), region, checkpoint.getKeyword(),
+                    result.insertedIds().size(), result.updatedIds().size(), result.unchangedCount());
         }
+        collectedByRegion.merge(region, places.size(), Integer::sum);
 
-        return places;
+        if (!checkpoint.advance(page.page(), page.lastPage(), places.size())) {
+            log.warn("Previous page missing, checkpoint kept: region={}, keyword={}, page={}, lastPage={}",
+                    region, checkpoint.getKeyword(), page.page(), checkpoint.getLastPage());
+        }
+        batchJobService.saveCheckpoint(job, checkpoint);
     }
 
     /**
-     * Phase 2: 수집된 장소들 AI 큐레이션
+     * Phase 2: 미큐레이션 장소(신규 + 이름/카테고리/주소가 바뀐 장소)를 커서 다음부터 페이지 단위로 큐레이션
+     * - sync: 페이지별 워커 풀 큐레이션 (그룹마다 heartbeat 갱신, 결과 flush 후 커서 기록)
+     * - batch: 페이지별 Message Batch 제출 (결과는 폴링으로 비동기 반영)
      */
-    private int curatePlaces(List<Place> places) {
-        int curatedCount = 0;
+    private void curateUncuratedPlaces(BatchJob job) {
+        boolean batchMode = isBatchMode();
+        if (batchMode && job.getCurationCursor() == null && placeCurationBatchService.hasPendingBatches()) {
+            // 진행 중인 배치의 장소도 아직 미큐레이션 상태이므로 중복 제출 방지
+            log.warn("Curation batch already in progress, skipping curation: jobId={}", job.getId());
+            return;
+        }
 
-        for (Place place : places) {
-            try {
-                // AI 큐레이션 수행
-                PlaceCurationResult curation = placeCurationService.curate(place);
+        long cursor = job.getCurationCursor() != null ? job.getCurationCursor() : 0;
+        int pageSize = batchMode ? placeCurationBatchService.getMaxRequestsPerBatch() : scanPageSize;
 
-                // 큐레이션 데이터 업데이트
-                place.updateCuration(
-                        curation.getDateScore(),
-                        curation.getMoodTags(),
-                        curation.getPriceRange(),
-                        curation.getBestTime(),
-                        curation.getRecommendation()
-                );
+        Runnable heartbeat = () -> batchJobService.heartbeat(job.getId());
 
-                placeRepository.save(place);
-                curatedCount++;
+        placeScanRepository.scanUncurated(cursor, pageSize, page -> {
+            int succeeded = batchMode ? placeCurationBatchService.submit(page) : curatePlaces(page, heartbeat);
+            job.recordCuration(page.get(page.size() - 1).getId(), page.size(), succeeded);
+            batchJobService.save(job);
 
-                log.debug("Curated place: {} (score: {})", place.getName(), curation.getDateScore());
+            log.info("Curation progress: jobId={}, {} {}/{}", job.getId(), batchMode ? "submitted" : "curated",
+                    job.getCurationSucceeded(), job.getCurationTotal());
+        });
+    }
 
-                // Rate limiting (Claude API 호출 간격)
-                Thread.sleep(1000); // 1초 대기
+    /**
+     * Phase 2: 수집된 장소들 AI 큐레이션 (워커 풀 + 레이트 리미터)
+     */
+    private int curatePlaces(List<Place> places) {
+        return curatePlaces(places, () -> { });
+    }
 
-            } catch (Exception e) {
-                log.error("Failed to curate place: {}", place.getName(), e);
-            }
-        }
+    private int curatePlaces(List<Place> places, Runnable groupCompleted) {
+        long startedAt = System.currentTimeMillis();
+        int curatedCount = placeCurationPipeline.curate(places, groupCompleted);
 
+        logThroughput(placeCurationService.isMultiPlaceEnabled() ? "multi" : "single",
+                curatedCount, System.currentTimeMillis() - startedAt);
         return curatedCount;
     }
 
+    /**
+     * 큐레이션 처리량 로그 (장소당 토큰은 claude.api.tokens / claude.api.items{operation} 메트릭으로 확인)
+     */
+    private void logThroughput(String mode, int curatedCount, long elapsedMs) {
+        double placesPerMinute = elapsedMs > 0 ? curatedCount * 60_000.0 / elapsedMs : 0;
+        log.info("Curation throughput: mode={}, places={}, elapsed={}ms, {} places/min",
+                mode, curatedCount, elapsedMs, String.format("%.1f", placesPerMinute));
+    }
+
     /**
      * Kakao Document → Place Entity 변환
      */
@@ -180,17 +264,35 @@ public class PlaceCollectionBatchService {
 
     /**
      * 기존 장소들 재큐레이션 (AI 분석만 재실행)
+     * - 미큐레이션 장소를 id 순 keyset 페이지로 읽어 페이지별로 처리 (카탈로그 크기와 무관하게 메모리 일정)
      */
     @Async
     public void recuratePlaces() {
         log.info("=== Starting Place Re-Curation ===");
 
-        List<Place> uncuratedPlaces = placeRepository.findUncuratedPlaces();
-        log.info("Found {} uncurated places", uncuratedPlaces.size());
+        if (isBatchMode()) {
+            // 진행 중인 배치의 장소도 아직 미큐레이션 상태이므로 중복 제출 방지
+            if (placeCurationBatchService.hasPendingBatches()) {
+                log.warn("Curation batch already in progress, skipping re-curation");
+                return;
+            }
+            AtomicInteger submitted = new AtomicInteger();
+            long scanned = placeScanRepository.scanUncurated(placeCurationBatchService.getMaxRequestsPerBatch(),
+                    page -> submitted.addAndGet(placeCurationBatchService.submit(page)));
+            log.info("=== Re-Curation Submitted: {}/{} ===", submitted.get(), scanned);
+            return;
+        }
 
-        int curatedCount = curatePlaces(uncuratedPlaces);
+        AtomicInteger curatedCount = new AtomicInteger();
+        long scanned = placeScanRepository.scanUncurated(scanPageSize,
+                page -> curatedCount.addAndGet(curatePlaces(page)));
 
         log.info("=== Re-Curation Complete ===");
-        log.info("Re-Curated: {}/{}", curatedCount, uncuratedPlaces.size());
+        log.info("Re-Curated: {}/{}", curatedCount.get(), scanned);
+        eventPublisher.publishEvent(new PlaceCatalogRefreshEvent("recuration"));
+    }
+
+    private boolean isBatchMode() {
+        return "batch".equalsIgnoreCase(curationMode);
     }
 }
@@ -0,0 +1,31 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.BatchJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 장소 수집 작업 재개
+ * - heartbeat가 stale-after 이상 끊긴 RUNNING 작업(재시작/태스크 교체로 중단)을 주기적으로 찾아 재개
+ * - 재개 권한은 heartbeat 조건부 갱신으로 얻으므로 여러 인스턴스가 동시에 재개하지 않음
+ * - 이 인스턴스에서 아직 실행 중인 작업은 heartbeat가 늦어도 재개하지 않음 (BatchJobService가 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCollectionJobResumer {
+
+    private final BatchJobService batchJobService;
+    private final PlaceCollectionBatchService placeCollectionBatchService;
+
+    @Scheduled(fixedDelayString = "${place.collection.job.resume-interval:60000}",
+            initialDelayString = "${place.collection.job.resume-initial-delay:30000}")
+    public void resumeStaleJobs() {
+        for (BatchJob job : batchJobService.claimStaleJobs()) {
+            log.info("Resuming interrupted collection job: jobId={}, phase={}", job.getId(), job.getPhase());
+            placeCollectionBatchService.runCollectionJob(job.getId());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.config.ClaudeApiConfig;
+import com.ddalkkak.domain.CurationBatch;
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.CurationBatchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Claude Message Batches API 기반 장소 큐레이션
+ * - 미큐레이션 장소를 배치 단위로 제출하고 배치 ID를 curation_batches에 저장
+ * - 주기적으로 상태를 조회해 처리가 끝난 배치의 결과(JSONL)를 한 줄씩 PlaceCurationWriter로 batch UPDATE 반영
+ * - 서버 재시작 시 IN_PROGRESS 배치부터 폴링 재개
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceCurationBatchService {
+
+    private static final String BATCHES_PATH = "/v1/messages/batches";
+    private static final String ANTHROPIC_VERSION = "2023-06-01";
+    private static final String CUSTOM_ID_PREFIX = "place-";
+    private static final String CUSTOM_ID_SEPARATOR = "-";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ClaudeApiConfig config;
+    private final PlaceCurationService placeCurationService;
+    private final PlaceCurationWriter placeCurationWriter;
+    private final CurationBatchRepository curationBatchRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // API 한도는 배치당 100,000건/256MB
+    @Value("${place.curation.batch.max-requests:10000}")
+    private int maxRequestsPerBatch;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void initWebClient() {
+        this.webClient = WebClient.builder()
+                .baseUrl(config.getBaseUrl())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader("x-api-key", config.getApiKey())
+                .defaultHeader("anthropic-version", ANTHROPIC_VERSION)
+                .build();
+    }
+
+    /**
+     * 장소 목록을 배치로 제출 (결과는 pollPendingBatches에서 비동기 반영)
+     * - 큐레이션 캐시에 있는 장소는 제출하지 않고 바로 반영
+     *
+     * @return 제출된 요청 수 + 캐시로 반영된 장소 수
+     */
+    public int submit(List<Place> places) {
+        Map<Long, PlaceCurationResult> cached = placeCurationService.findCached(places);
+        cached.forEach(placeCurationWriter::enqueue);
+        int applied = 0;
+        if (!cached.isEmpty()) {
+            // 호출 측이 제출 완료로 보고 커서를 넘기므로 바로 반영하고, 하나도 반영하지 못하면 실패 처리
+            Set<Long> failed = placeCurationWriter.flush(cached.keySet());
+            if (failed.size() == cached.size()) {
+                throw new IllegalStateException("Failed to write cached curation results: " + failed.size());
+            }
+            applied = cached.size() - failed.size();
+            log.info("Applied {} cached curation results without submitting", applied);
+        }
+        List<Place> uncached = places.stream()
+                .filter(place -> !cached.containsKey(place.getId()))
+                .toList();
+
+        int submitted = applied;
+
+        for (int from = 0; from < uncached.size(); from += maxRequestsPerBatch) {
+            List<Place> chunk = uncached.subList(from, Math.min(from + maxRequestsPerBatch, uncached.size()));
+            List<Map<String, Object>> requests = new ArrayList<>();
+            for (Place place : chunk) {
+                requests.add(Map.of(
+                        "custom_id", customId(place),
+                        "params", placeCurationService.buildRequestParams(place)
+                ));
+            }
+
+            try {
+                String response = webClient.post()
+                        .uri(BATCHES_PATH)
+                        .bodyValue(Map.of("requests", requests))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(REQUEST_TIMEOUT);
+                String batchId = objectMapper.readTree(response).path("id").asText();
+
+                curationBatchRepository.save(CurationBatch.builder()
+                        .anthropicBatchId(batchId)
+                        .status(CurationBatch.Status.IN_PROGRESS)
+                        .requestCount(chunk.size())
+                        .build());
+                submitted += chunk.size();
+
+                log.info("Submitted curation batch: batchId={}, requests={}", batchId, chunk.size());
+
+            } catch (Exception e) {
+                log.error("Failed to submit curation batch: requests={}", chunk.size(), e);
+            }
+        }
+
+        return submitted;
+    }
+
+    public int getMaxRequestsPerBatch() {
+        return maxRequestsPerBatch;
+    }
+
+    /**
+     * 요청 식별자 (결과 반영 시 장소 id와 캐시 키를 복원, API 제한 64자 이내)
+     */
+    private String customId(Place place) {
+        return CUSTOM_ID_PREFIX + place.getId() + CUSTOM_ID_SEPARATOR + placeCurationService.cacheKey(place);
+    }
+
+    /**
+     * 처리 중인 배치가 있는지 (중복 제출 방지)
+     */
+    public boolean hasPendingBatches() {
+        return curationBatchRepository.existsByStatus(CurationBatch.Status.IN_PROGRESS);
+    }
+
+    /**
+     * IN_PROGRESS 배치 상태 조회 및 완료된 배치 결과 반영
+     * - initial-delay 후 첫 실행이 재시작 전 제출된 배치의 폴링 재개 역할
+     */
+    @Scheduled(fixedDelayString = "${place.curation.batch.poll-interval:60000}",
+            initialDelayString = "${place.curation.batch.initial-delay:10000}")
+    public void pollPendingBatches() {
+        for (CurationBatch batch : curationBatchRepository.findByStatus(CurationBatch.Status.IN_PROGRESS)) {
+            try {
+                pollBatch(batch);
+            } catch (Exception e) {
+                // 일시적 오류는 다음 폴링에서 재시도
+                log.warn("Failed to poll curation batch: batchId={}", batch.getAnthropicBatchId(), e);
+            }
+        }
+    }
+
+    private void pollBatch(CurationBatch batch) throws JsonProcessingException {
+        String response = webClient.get()
+                .uri(BATCHES_PATH + "/{batchId}", batch.getAnthropicBatchId())
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(REQUEST_TIMEOUT);
+        JsonNode status = objectMapper.readTree(response);
+
+        if (!"ended".equals(status.path("processing_status").asText())) {
+            log.debug("Curation batch still processing: batchId={}, counts={}",
+                    batch.getAnthropicBatchId(), status.path("request_counts"));
+            return;
+        }
+
+        String resultsUrl = status.path("results_url").asText(null);
+        if (resultsUrl == null) {
+            log.error("Curation batch ended without results: batchId={}", batch.getAnthropicBatchId());
+            batch.markFailed();
+            curationBatchRepository.save(batch);
+            return;
+        }
+
+        applyResults(batch, resultsUrl);
+    }
+
+    /**
+     * 결과 JSONL을 스트리밍으로 읽으며 한 줄씩 반영 (전체 결과를 메모리에 올리지 않음)
+     */
+    private void applyResults(CurationBatch batch, String resultsUrl) {
+        List<Long> appliedIds = new ArrayList<>();
+        int errored = 0;
+
+        // results_url은 절대 경로
+        Iterable<String> lines = webClient.get()
+                .uri(resultsUrl)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .toIterable();
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Long placeId = applyResult(line);
+            if (placeId != null) {
+                appliedIds.add(placeId);
+            } else {
+                errored++;
+            }
+        }
+
+        // 이 배치의 결과가 DB에 반영된 뒤에만 APPLIED로 표시 (하나도 반영하지 못하면 다음 폴링에서 결과 재적용)
+        Set<Long> failed = placeCurationWriter.flush(appliedIds);
+        if (!failed.isEmpty() && failed.size() == appliedIds.size()) {
+            throw new IllegalStateException("Failed to write curation results: batchId=" + batch.getAnthropicBatchId());
+        }
+        // 행 단위로도 반영하지 못해 버린 결과는 오류로 집계 (curated_at이 비어 있어 다음 재큐레이션 대상)
+        int succeeded = appliedIds.size() - failed.size();
+        errored += failed.size();
+
+        batch.markApplied(succeeded, errored);
+        curationBatchRepository.save(batch);
+
+        log.info("Applied curation batch: batchId={}, succeeded={}, errored={}",
+                batch.getAnthropicBatchId(), succeeded, errored);
+        eventPublisher.publishEvent(new PlaceCatalogRefreshEvent("curation-batch-" + batch.getAnthropicBatchId()));
+    }
+
+    /**
+     * 결과 한 줄 반영 (errored/expired/canceled 장소는 curated_at이 비어 있어 다음 재큐레이션 대상)
+     *
+     * @return 반영을 예약한 장소 id (반영할 결과가 없으면 null)
+     */
+    private Long applyResult(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            String customId = node.path("custom_id").asText();
+            JsonNode result = node.path("result");
+
+            if (!"succeeded".equals(result.path("type").asText())) {
+                log.warn("Curation request not succeeded: customId={}, type={}, error={}",
+                        customId, result.path("type").asText(), result.path("error"));
+                return null;
+            }
+
+            // place-<id>-<cacheKey> (캐시 키가 없는 이전 형식 place-<id>도 처리)
+            String[] parts = customId.substring(CUSTOM_ID_PREFIX.length()).split(CUSTOM_ID_SEPARATOR, 2);
+            Long placeId = Long.parseLong(parts[0]);
+            PlaceCurationResult curation = placeCurationService.parseMessage(result.path("message"));
+            if (parts.length == 2) {
+                placeCurationService.cacheResultsByKey(Map.of(parts[1], curation));
+            }
+
+            // 장소를 조회하지 않고 id로 바로 갱신 (삭제된 장소는 UPDATE 0건)
+            placeCurationWriter.enqueue(placeId, curation);
+            return placeId;
+
+        } catch (Exception e) {
+            log.error("Failed to apply curation result: {}", line, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.PlaceCurationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장소 큐레이션 워커 풀
+ * - 장소를 group-size 단위 작업으로 나눠 최대 concurrency개 워커가 동시에 처리 (동시 실행 중인 호출 전체 기준)
+ * - 워커 실행기는 빈 단위로 하나만 두고, spring.threads.virtual.enabled=true면 가상 스레드로 실행
+ * - 호출 간격은 ClaudeRateLimiter(분당 요청/토큰 한도, 429 전역 backoff)가 조절
+ * - 결과는 PlaceCurationWriter 버퍼에 모아 batch UPDATE로 반영 (반환 전 이번 호출의 결과 반영 여부 확인)
+ * - 메트릭: place.curation.active(처리 중 워커), place.curation.queue(대기 장소 수),
+ *   place.curation.rate(실행 중인 호출별 분당 처리 장소 수의 합), place.curation.completed
+ */
+@Slf4j
+@Component
+public class PlaceCurationPipeline {
+
+    private final PlaceCurationService placeCurationService;
+    private final PlaceCurationWriter placeCurationWriter;
+    private final ExecutorService executor;
+    private final Semaphore workerSlots;
+    private final Counter completedCounter;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final Set<Run> activeRuns = ConcurrentHashMap.newKeySet();
+
+    public PlaceCurationPipeline(
+            PlaceCurationService placeCurationService,
+            PlaceCurationWriter placeCurationWriter,
+            @Value("${place.curation.concurrency:4}") int concurrency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        this.placeCurationService = placeCurationService;
+        this.placeCurationWriter = placeCurationWriter;
+        int workers = Math.max(1, concurrency);
+        // 가상 스레드는 작업마다 새로 만들므로 동시 워커 수는 workerSlots로 제한
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("place-curation-", 0).factory())
+                : Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("place-curation-", 0).factory());
+        this.workerSlots = new Semaphore(workers);
+        this.completedCounter = meterRegistry.counter("place.curation.completed");
+
+        meterRegistry.gauge("place.curation.active", activeWorkers);
+        meterRegistry.gauge("place.curation.queue", this, PlaceCurationPipeline::queuedPlaces);
+        meterRegistry.gauge("place.curation.rate", this, PlaceCurationPipeline::placesPerMinute);
+    }
+
+    /**
+     * 장소 목록 큐레이션 (모든 작업이 끝날 때까지 대기)
+     *
+     * @return 큐레이션 결과를 반영한 장소 수
+     * @throws IllegalStateException 이번 호출의 결과를 하나도 반영하지 못한 경우 (호출 측이 진행 위치를 넘기지 않도록)
+     */
+    public int curate(List<Place> places) {
+        return curate(places, () -> { });
+    }
+
+    /**
+     * 장소 목록 큐레이션 (그룹 하나를 처리할 때마다 groupCompleted 호출, 작업 heartbeat 등)
+     */
+    public int curate(List<Place> places, Runnable groupCompleted) {
+        if (places.isEmpty()) {
+            return 0;
+        }
+
+        List<List<Place>> groups = partition(places, placeCurationService.getGroupSize());
+        Queue<Long> enqueuedIds = new ConcurrentLinkedQueue<>();
+        Run run = new Run(places.size());
+        activeRuns.add(run);
+
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (List<Place> group : groups) {
+                futures.add(executor.submit(() -> curateGroup(group, run, enqueuedIds, groupCompleted)));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        } finally {
+            // 인터럽트 등으로 먼저 빠져나온 경우 이번 호출의 남은 작업만 취소 (실행기는 공유)
+            futures.forEach(future -> future.cancel(true));
+            activeRuns.remove(run);
+        }
+
+        Set<Long> failed = placeCurationWriter.flush(enqueuedIds);
+        if (!failed.isEmpty() && failed.size() == enqueuedIds.size()) {
+            throw new IllegalStateException("Failed to write curation results: " + failed.size());
+        }
+        if (!failed.isEmpty()) {
+            // 버린 장소는 curated_at이 비어 있어 다음 미큐레이션 스캔에서 다시 처리됨
+            log.error("Dropped {} of {} curation results: {}", failed.size(), enqueuedIds.size(), failed);
+        }
+        return enqueuedIds.size() - failed.size();
+    }
+
+    private void curateGroup(List<Place> group, Run run, Queue<Long> enqueuedIds, Runnable groupCompleted) {
+        try {
+            workerSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        run.queued.addAndGet(-group.size());
+        activeWorkers.incrementAndGet();
+        try {
+            Map<Long, PlaceCurationResult> curations = placeCurationService.curateAll(group);
+
+            for (Place place : group) {
+                PlaceCurationResult curation = curations.get(place.getId());
+                if (curation == null) {
+                    continue;
+                }
+                placeCurationWriter.enqueue(place.getId(), curation);
+                enqueuedIds.add(place.getId());
+                run.completed.incrementAndGet();
+                completedCounter.increment();
+
+                log.debug("Curated place: {} (score: {})", place.getName(), curation.getDateScore());
+            }
+        } catch (Exception e) {
+            log.error("Failed to curate place group: size={}", group.size(), e);
+        } finally {
+            activeWorkers.decrementAndGet();
+            workerSlots.release();
+        }
+        groupCompleted.run();
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Curation pipeline interrupted", e);
+        } catch (ExecutionException e) {
+            log.error("Curation worker failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private double queuedPlaces() {
+        return activeRuns.stream()
+                .mapToInt(run -> run.queued.get())
+                .sum();
+    }
+
+    private double placesPerMinute() {
+        return activeRuns.stream()
+                .mapToDouble(Run::placesPerMinute)
+                .sum();
+    }
+
+    private static List<List<Place>> partition(List<Place> places, int size) {
+        List<List<Place>> groups = new ArrayList<>();
+        for (int from = 0; from < places.size(); from += size) {
+            groups.add(places.subList(from, Math.min(from + size, places.size())));
+        }
+        return groups;
+    }
+
+    /**
+     * curate 호출 1회의 대기 장소 수/처리 속도 집계 (동시에 실행되는 호출끼리 값을 덮어쓰지 않도록 호출별로 분리)
+     */
+    private static class Run {
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger queued;
+        private final AtomicInteger completed = new AtomicInteger();
+
+        private Run(int places) {
+            this.queued = new AtomicInteger(places);
+        }
+
+        private double placesPerMinute() {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            if (elapsedNanos <= 0) {
+                return 0;
+            }
+            return completed.get() * (double) TimeUnit.MINUTES.toNanos(1) / elapsedNanos;
+        }
+    }
+}
@@ -2,24 +2,38 @@ package com.ddalkkak.service;
 
 import com.ddalkkak.domain.Place;
 import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceCurationCacheRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Place Curation Service using Claude API
  * AI 기반 장소 큐레이션 (데이트 적합성 분석)
+ * 결과는 입력(이름, 카테고리, 지역, 주소) + 모델 + 프롬프트 템플릿 해시로 place_curation_cache에 저장해 재사용
  */
 @Slf4j
 @Service
@@ -28,6 +42,9 @@ public class PlaceCurationService {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final ClaudeUsageRecorder usageRecorder;
+    private final ClaudeRateLimiter rateLimiter;
+    private final PlaceCurationCacheRepository curationCacheRepository;
 
     @Value("${claude.api.key}")
     private String apiKey;
@@ -38,22 +55,40 @@ public class PlaceCurationService {
     @Value("${claude.api.max-tokens}")
     private int maxTokens;
 
-    private static final String CLAUDE_API_URL = "https://api.anthropic.com/v1/messages";
+    @Value("${claude.api.base-url:https://api.anthropic.com}")
+    private String claudeBaseUrl;
+
+    @Value("${claude.api.prompt-cache.enabled:true}")
+    private boolean promptCacheEnabled;
+
+    @Value("${place.curation.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    // 프롬프트 1회에 묶는 장소 수 (1이면 장소별 단건 호출)
+    @Value("${place.curation.group-size:10}")
+    private int groupSize;
+
+    private static final String CLAUDE_MESSAGES_PATH = "/v1/messages";
     private static final String ANTHROPIC_VERSION = "2023-06-01";
 
+    private static final String OPERATION_CURATION = "curation";
+    private static final String OPERATION_CURATION_MULTI = "curation_multi";
+
+    // 레이트 리미터 예약용 토큰 추정치 (응답 usage로 보정)
+    private static final int CHARS_PER_TOKEN = 2;
+    private static final int OUTPUT_TOKENS_PER_PLACE = 200;
+    private static final int MAX_RETRIES = 3;
+    private static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(10);
+    // places 컬럼 길이 (V2: price_range VARCHAR(10), best_time VARCHAR(20))
+    private static final int MAX_PRICE_RANGE_LENGTH = 10;
+    private static final int MAX_BEST_TIME_LENGTH = 20;
+
     /**
-     * AI 큐레이터 Master Prompt
+     * AI 큐레이터 Master Prompt 공통 평가 기준 (단건/다건 응답 형식은 아래에서 덧붙임)
      */
-    private static final String CURATION_PROMPT_TEMPLATE = """
+    private static final String CURATION_GUIDE = """
             당신은 서울의 데이트 장소를 분석하는 전문 큐레이터입니다.
-
-            다음 장소 정보를 분석하여 데이트 적합성을 평가해주세요:
-
-            **장소 정보:**
-            - 이름: %s
-            - 카테고리: %s
-            - 지역: %s
-            - 주소: %s
+            사용자가 전달하는 장소 정보를 분석하여 데이트 적합성을 평가해주세요.
 
             **분석 요청:**
             다음 5가지 항목을 JSON 형식으로 반환해주세요:
@@ -64,6 +99,12 @@ public class PlaceCurationService {
             4. best_time: 추천 시간대 ("아침", "점심", "저녁", "야간" 중 하나)
             5. recommendation: 데이트 추천 이유 (50자 이내, 한 문장)
 
+            """;
+
+    /**
+     * 단건 큐레이션 system 프롬프트 (장소와 무관, system 블록으로 캐시)
+     */
+    private static final String CURATION_SYSTEM_PROMPT = CURATION_GUIDE + """
             **응답 형식 (JSON만 반환):**
             {
               "date_score": 8,
@@ -77,19 +118,74 @@ public class PlaceCurationService {
             """;
 
     /**
-     * 장소 AI 큐레이션 수행
+     * 다건 큐레이션 system 프롬프트 (place_id로 결과를 장소에 매칭)
+     */
+    private static final String CURATION_MULTI_SYSTEM_PROMPT = CURATION_GUIDE + """
+            **여러 장소 평가:**
+            - 전달된 모든 장소를 각각 독립적으로 평가해주세요
+            - 각 결과에 장소 정보의 place_id를 그대로 포함하고, 장소 순서대로 배열로 반환해주세요
+
+            **응답 형식 (JSON 배열만 반환):**
+            [
+              {
+                "place_id": 101,
+                "date_score": 8,
+                "mood_tags": ["로맨틱", "조용한", "감성적"],
+                "price_range": "₩₩",
+                "best_time": "저녁",
+                "recommendation": "야경이 아름다운 루프탑 카페로 특별한 저녁 데이트에 완벽해요"
+              }
+            ]
+
+            **중요:** JSON 배열만 반환하고, 다른 설명은 포함하지 마세요.
+            """;
+
+    /**
+     * 장소별 가변 정보
+     */
+    private static final String CURATION_PLACE_TEMPLATE = """
+            **장소 정보:**
+            - 이름: %s
+            - 카테고리: %s
+            - 지역: %s
+            - 주소: %s
+            """;
+
+    private static final String CURATION_MULTI_PLACE_TEMPLATE = """
+            - place_id: %d / 이름: %s / 카테고리: %s / 지역: %s / 주소: %s
+            """;
+
+    /**
+     * 프롬프트 템플릿 버전 (템플릿 내용의 해시, 템플릿을 고치면 캐시 키가 바뀌어 자동 무효화)
+     */
+    static final String TEMPLATE_VERSION = sha256Hex(8, CURATION_SYSTEM_PROMPT, CURATION_MULTI_SYSTEM_PROMPT,
+            CURATION_PLACE_TEMPLATE, CURATION_MULTI_PLACE_TEMPLATE);
+
+    private static final PlaceCurationResult DEFAULT_CURATION = PlaceCurationResult.builder()
+            .dateScore(5)
+            .moodTags(new String[]{"일반적", "평범한"})
+            .priceRange("₩₩")
+            .bestTime("점심")
+            .recommendation("데이트 장소로 고려해볼 만한 곳입니다")
+            .build();
+
+    /**
+     * 장소 AI 큐레이션 수행 (캐시에 있으면 호출 없이 반환)
      */
     public PlaceCurationResult curate(Place place) {
-        try {
-            String prompt = String.format(
-                    CURATION_PROMPT_TEMPLATE,
-                    place.getName(),
-                    place.getCategoryName(),
-                    place.getRegion(),
-                    place.getAddressName()
-            );
+        PlaceCurationResult cached = findCached(List.of(place)).get(place.getId());
+        if (cached != null) {
+            return cached;
+        }
+
+        PlaceCurationResult result = curateUncached(place);
+        cacheResults(Map.of(place, result));
+        return result;
+    }
 
-            String claudeResponse = callClaudeApi(prompt);
+    private PlaceCurationResult curateUncached(Place place) {
+        try {
+            String claudeResponse = callClaudeApi(buildRequestParams(place), OPERATION_CURATION, 1);
             return parseClaudeResponse(claudeResponse);
 
         } catch (Exception e) {
@@ -99,12 +195,265 @@ public class PlaceCurationService {
     }
 
     /**
-     * Claude API 호출
+     * 여러 장소 AI 큐레이션 (group-size개씩 프롬프트 1회로 묶어 호출 오버헤드 분산)
+     * - 응답에서 누락되었거나 형식이 잘못된 장소는 단건 큐레이션으로 재시도 (단건 실패 시 기본값)
+     * - 캐시에 있는 장소는 호출에서 제외하고, 새 결과는 일괄 저장
+     *
+     * @return placeId → 큐레이션 결과 (입력된 모든 장소 포함)
+     */
+    public Map<Long, PlaceCurationResult> curateAll(List<Place> places) {
+        Map<Long, PlaceCurationResult> cached = findCached(places);
+        List<Place> uncached = places.stream()
+                .filter(place -> !cached.containsKey(place.getId()))
+                .toList();
+
+        Map<Place, PlaceCurationResult> curated = new LinkedHashMap<>();
+        List<Place> requeued = new ArrayList<>();
+        int size = Math.max(1, groupSize);
+
+        for (int from = 0; from < uncached.size(); from += size) {
+            List<Place> group = uncached.subList(from, Math.min(from + size, uncached.size()));
+            Map<Long, PlaceCurationResult> groupResults = size == 1 ? Map.of() : curateGroup(group);
+
+            for (Place place : group) {
+                PlaceCurationResult result = groupResults.get(place.getId());
+                if (result != null) {
+                    curated.put(place, result);
+                } else {
+                    requeued.add(place);
+                }
+            }
+        }
+
+        if (size > 1 && !requeued.isEmpty()) {
+            log.warn("Re-queued {} places missing or malformed in multi-place curation", requeued.size());
+        }
+        for (Place place : requeued) {
+            curated.put(place, curateUncached(place));
+        }
+        cacheResults(curated);
+
+        Map<Long, PlaceCurationResult> results = new LinkedHashMap<>();
+        for (Place place : places) {
+            PlaceCurationResult result = cached.get(place.getId());
+            results.put(place.getId(), result != null ? result : curated.get(place));
+        }
+        return results;
+    }
+
+    /**
+     * 캐시된 큐레이션 결과 일괄 조회
+     *
+     * @return placeId → 결과 (캐시에 있는 장소만)
      */
-    private String callClaudeApi(String prompt) {
-        Map<String, Object> requestBody = Map.of(
+    Map<Long, PlaceCurationResult> findCached(List<Place> places) {
+        if (!cacheEnabled || places.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> keysByPlaceId = new HashMap<>();
+        for (Place place : places) {
+            keysByPlaceId.put(place.getId(), cacheKey(place));
+        }
+
+        Map<Long, PlaceCurationResult> results = new HashMap<>();
+        try {
+            Map<String, PlaceCurationResult> cached = curationCacheRepository.findAll(keysByPlaceId.values());
+            keysByPlaceId.forEach((placeId, cacheKey) -> {
+                PlaceCurationResult result = cached.get(cacheKey);
+                if (result != null && isValid(result)) {
+                    results.put(placeId, result);
+                }
+            });
+        } catch (Exception e) {
+            // 캐시 장애 시 전부 미스로 처리하고 API 호출
+            log.warn("Failed to read curation cache", e);
+        }
+
+        usageRecorder.recordCache(OPERATION_CURATION, results.size(), places.size() - results.size());
+        return results;
+    }
+
+    /**
+     * 큐레이션 결과 캐시 저장 (실패로 대체된 기본값은 저장하지 않음)
+     */
+    void cacheResults(Map<Place, PlaceCurationResult> results) {
+        Map<String, PlaceCurationResult> resultsByKey = new HashMap<>();
+        results.forEach((place, result) -> resultsByKey.put(cacheKey(place), result));
+        cacheResultsByKey(resultsByKey);
+    }
+
+    /**
+     * 캐시 키로 결과 저장 (Message Batches 결과처럼 장소 정보 없이 키만 있는 경우)
+     */
+    void cacheResultsByKey(Map<String, PlaceCurationResult> results) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        Map<String, PlaceCurationResult> resultsByKey = new HashMap<>();
+        results.forEach((cacheKey, result) -> {
+            if (result != DEFAULT_CURATION && isValid(result)) {
+                resultsByKey.put(cacheKey, result);
+            }
+        });
+        if (resultsByKey.isEmpty()) {
+            return;
+        }
+
+        try {
+            curationCacheRepository.saveAll(resultsByKey, model, TEMPLATE_VERSION);
+        } catch (Exception e) {
+            log.warn("Failed to write curation cache: size={}", resultsByKey.size(), e);
+        }
+    }
+
+    /**
+     * 캐시 키: 모델 + 템플릿 버전 + 프롬프트 입력 (모델/템플릿이 바뀌면 키가 달라져 자동으로 미스)
+     */
+    String cacheKey(Place place) {
+        return sha256Hex(16, model, TEMPLATE_VERSION,
+                place.getName(), place.getCategoryName(), place.getRegion(), place.getAddressName());
+    }
+
+    /**
+     * 현재 모델/템플릿 버전이 아닌 캐시 항목 정리 (기동 시 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeStaleCache() {
+        if (!cacheEnabled) {
+            return;
+        }
+        try {
+            int deleted = curationCacheRepository.deleteStale(model, TEMPLATE_VERSION);
+            if (deleted > 0) {
+                log.info("Purged {} stale curation cache entries (model={}, templateVersion={})",
+                        deleted, model, TEMPLATE_VERSION);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge curation cache", e);
+        }
+    }
+
+    private static String sha256Hex(int bytes, String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update((value != null ? value : "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1f);
+            }
+            return HexFormat.of().formatHex(Arrays.copyOf(digest.digest(), bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public boolean isMultiPlaceEnabled() {
+        return groupSize > 1;
+    }
+
+    public int getGroupSize() {
+        return Math.max(1, groupSize);
+    }
+
+    private Map<Long, PlaceCurationResult> curateGroup(List<Place> group) {
+        try {
+            String claudeResponse = callClaudeApi(buildMultiRequestParams(group), OPERATION_CURATION_MULTI, group.size());
+            if (claudeResponse == null || claudeResponse.isEmpty()) {
+                return Map.of();
+            }
+
+            JsonNode contentArray = objectMapper.readTree(claudeResponse).path("content");
+            return parseMultiResults(contentArray.path(0).path("text").asText());
+
+        } catch (Exception e) {
+            log.error("Failed to curate place group: size={}", group.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 다건 응답 파싱 (항목별 검증, 형식 오류 항목만 제외)
+     */
+    Map<Long, PlaceCurationResult> parseMultiResults(String text) throws JsonProcessingException {
+        Map<Long, PlaceCurationResult> results = new HashMap<>();
+        JsonNode array = objectMapper.readTree(extractJsonContent(text));
+        if (!array.isArray()) {
+            log.error("Multi-place curation response is not a JSON array");
+            return results;
+        }
+
+        for (JsonNode node : array) {
+            long placeId = node.path("place_id").asLong(-1);
+            if (placeId < 0 || !node.isObject()) {
+                continue;
+            }
+            try {
+                ObjectNode fields = node.deepCopy();
+                fields.remove("place_id");
+                PlaceCurationResult result = objectMapper.treeToValue(fields, PlaceCurationResult.class);
+                if (isValid(result)) {
+                    results.put(placeId, result);
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("Malformed curation entry: place_id={}", placeId);
+            }
+        }
+        return results;
+    }
+
+    private boolean isValid(PlaceCurationResult result) {
+        return result.getDateScore() != null
+                && result.getDateScore() >= 1 && result.getDateScore() <= 10
+                && result.getPriceRange() != null
+                && result.getPriceRange().length() <= MAX_PRICE_RANGE_LENGTH
+                && result.getBestTime() != null
+                && result.getBestTime().length() <= MAX_BEST_TIME_LENGTH
+                && result.getRecommendation() != null;
+    }
+
+    private Map<String, Object> buildMultiRequestParams(List<Place> group) {
+        StringBuilder prompt = new StringBuilder("**장소 목록:**\n");
+        for (Place place : group) {
+            prompt.append(String.format(
+                    CURATION_MULTI_PLACE_TEMPLATE,
+                    place.getId(),
+                    place.getName(),
+                    place.getCategoryName(),
+                    place.getRegion(),
+                    place.getAddressName()
+            ));
+        }
+
+        return Map.of(
                 "model", model,
                 "max_tokens", maxTokens,
+                "system", ClaudePromptCache.systemBlocks(CURATION_MULTI_SYSTEM_PROMPT, promptCacheEnabled),
+                "messages", List.of(
+                        Map.of(
+                                "role", "user",
+                                "content", prompt.toString()
+                        )
+                )
+        );
+    }
+
+    /**
+     * Messages API 요청 파라미터 (동기 호출과 Message Batches 요청의 params에 공통 사용)
+     */
+    Map<String, Object> buildRequestParams(Place place) {
+        String prompt = String.format(
+                CURATION_PLACE_TEMPLATE,
+                place.getName(),
+                place.getCategoryName(),
+                place.getRegion(),
+                place.getAddressName()
+        );
+
+        return Map.of(
+                "model", model,
+                "max_tokens", maxTokens,
+                "system", ClaudePromptCache.systemBlocks(CURATION_SYSTEM_PROMPT, promptCacheEnabled),
                 "messages", List.of(
                         Map.of(
                                 "role", "user",
@@ -112,17 +461,47 @@ public class PlaceCurationService {
                         )
                 )
         );
+    }
 
-        return webClient.post()
-                .uri(CLAUDE_API_URL)
-                .header("x-api-key", apiKey)
-                .header("anthropic-version", ANTHROPIC_VERSION)
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .retryWhen(Retry.backoff(2, Duration.ofSeconds(2))
-                        .maxBackoff(Duration.ofSeconds(10)))
+    /**
+     * Claude API 호출
+     *
+     * @param placeCount 호출에 포함된 장소 수 (장소당 토큰 수 계산용)
+     */
+    private String callClaudeApi(Map<String, Object> requestBody, String operation, int placeCount)
+            throws JsonProcessingException {
+        String payload = objectMapper.writeValueAsString(requestBody);
+        long estimatedTokens = payload.length() / CHARS_PER_TOKEN
+                + Math.min(maxTokens, (long) placeCount * OUTPUT_TOKENS_PER_PLACE);
+
+        // 재시도 시에도 리미터를 다시 거치므로 전역 backoff 동안 대기
+        return rateLimiter.acquire(estimatedTokens)
+                .then(Mono.defer(() -> webClient.post()
+                        .uri(claudeBaseUrl + CLAUDE_MESSAGES_PATH)
+                        .header("x-api-key", apiKey)
+                        .header("anthropic-version", ANTHROPIC_VERSION)
+                        .header("Content-Type", "application/json")
+                        .bodyValue(payload)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .elapsed()))
+                .map(timed -> {
+                    long usedTokens = usageRecorder.record(operation, timed.getT1(), timed.getT2());
+                    usageRecorder.recordItems(operation, placeCount);
+                    if (usedTokens > 0) {
+                        rateLimiter.reconcile(estimatedTokens, usedTokens);
+                    }
+                    return timed.getT2();
+                })
+                .doOnError(WebClientResponseException.class, e -> {
+                    if (isRateLimited(e)) {
+                        rateLimiter.reconcile(estimatedTokens, 0);
+                        rateLimiter.backoff(retryAfter(e));
+                    }
+                })
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofSeconds(2))
+                        .maxBackoff(Duration.ofSeconds(10))
+                        .filter(PlaceCurationService::isRetryable))
                 .onErrorResume(e -> {
                     log.error("Claude API call failed", e);
                     return Mono.empty();
@@ -130,6 +509,27 @@ public class PlaceCurationService {
                 .block();
     }
 
+    private static boolean isRateLimited(WebClientResponseException e) {
+        // 429: rate limit, 529: overloaded
+        return e.getStatusCode().value() == 429 || e.getStatusCode().value() == 529;
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return isRateLimited(response) || response.getStatusCode().is5xxServerError();
+        }
+        return true;
+    }
+
+    private static Duration retryAfter(WebClientResponseException e) {
+        String retryAfter = e.getHeaders().getFirst("retry-after");
+        try {
+            return retryAfter != null ? Duration.ofSeconds(Long.parseLong(retryAfter.trim())) : DEFAULT_BACKOFF;
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_BACKOFF;
+        }
+    }
+
     /**
      * Claude API 응답 파싱
      */
@@ -138,9 +538,15 @@ public class PlaceCurationService {
             return createDefaultCuration();
         }
 
+        return parseMessage(objectMapper.readTree(response));
+    }
+
+    /**
+     * Message 객체 파싱 (동기 응답 본문 또는 배치 결과의 result.message)
+     */
+    PlaceCurationResult parseMessage(JsonNode message) throws JsonProcessingException {
         // Claude API 응답 구조: { "content": [{ "text": "..." }] }
-        JsonNode rootNode = objectMapper.readTree(response);
-        JsonNode contentArray = rootNode.get("content");
+        JsonNode contentArray = message.get("content");
 
         if (contentArray == null || !contentArray.isArray() || contentArray.isEmpty()) {
             log.error("Invalid Claude API response structure");
@@ -152,8 +558,13 @@ public class PlaceCurationService {
         // JSON 블록 추출 (```json ... ``` 형식 처리)
         String jsonContent = extractJsonContent(textContent);
 
-        // PlaceCurationResult로 파싱
-        return objectMapper.readValue(jsonContent, PlaceCurationResult.class);
+        // PlaceCurationResult로 파싱 (컬럼 길이를 넘는 등 반영할 수 없는 결과는 기본값으로 대체)
+        PlaceCurationResult result = objectMapper.readValue(jsonContent, PlaceCurationResult.class);
+        if (!isValid(result)) {
+            log.warn("Invalid curation result: priceRange={}, bestTime={}", result.getPriceRange(), result.getBestTime());
+            return createDefaultCuration();
+        }
+        return result;
     }
 
     /**
@@ -174,15 +585,9 @@ public class PlaceCurationService {
     }
 
     /**
-     * 기본 큐레이션 데이터 생성 (fallback)
+     * 기본 큐레이션 데이터 (fallback, 캐시에 저장하지 않도록 공유 인스턴스로 구분)
      */
     private PlaceCurationResult createDefaultCuration() {
-        return PlaceCurationResult.builder()
-                .dateScore(5)
-                .moodTags(new String[]{"일반적", "평범한"})
-                .priceRange("₩₩")
-                .bestTime("점심")
-                .recommendation("데이트 장소로 고려해볼 만한 곳입니다")
-                .build();
+        return DEFAULT_CURATION;
     }
 }
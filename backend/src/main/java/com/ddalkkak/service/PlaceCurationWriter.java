@@ -0,0 +1,203 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 큐레이션 결과 write-back 버퍼
+ * - 결과를 장소 id 기준으로 모아 batch-size건마다, 또는 flush-interval마다 JDBC batch UPDATE로 반영
+ * - 엔티티를 영속성 컨텍스트에 붙이지 않으므로 장소별 dirty check/merge가 없음
+ * - batch UPDATE가 max-attempts회 연속 실패하면 행 단위로 반영하고, 그래도 실패한 행은 로그를 남기고 버림
+ *   (잘못된 행 하나가 이후 반영을 모두 막지 않도록 버퍼에 되돌리지 않음)
+ * - 버린 행은 장소 id로 기록해 두고, 결과를 넣은 호출 측이 flush(placeIds)로 자기 결과의 실패 여부만 확인
+ * - 종료 시 남은 결과를 모두 반영하고, 종료 후 들어온 결과는 즉시 반영
+ * - 반영한 결과는 PlaceCurationsWrittenEvent로 발행 (메모리 인덱스 증분 갱신)
+ * - 메트릭: place.curation.writeback.pending(반영 대기 수), place.curation.writeback.flushed, place.curation.writeback.failed
+ */
+@Slf4j
+@Component
+public class PlaceCurationWriter {
+
+    private final PlaceBulkRepository placeBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private List<CurationUpdate> pending = new ArrayList<>();
+    private final Set<Long> failedPlaceIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public PlaceCurationWriter(
+            PlaceBulkRepository placeBulkRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${place.curation.write-back.batch-size:100}") int batchSize,
+            @Value("${place.curation.write-back.max-attempts:3}") int maxAttempts,
+            @Value("${place.curation.write-back.retry-backoff:200}") long retryBackoffMs,
+            MeterRegistry meterRegistry) {
+        this.placeBulkRepository = placeBulkRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = Math.max(0, retryBackoffMs);
+        this.flushedCounter = meterRegistry.counter("place.curation.writeback.flushed");
+        this.failedCounter = meterRegistry.counter("place.curation.writeback.failed");
+
+        meterRegistry.gauge("place.curation.writeback.pending", pendingCount);
+    }
+
+    /**
+     * 큐레이션 결과 반영 예약 (batch-size에 도달하면 호출 스레드에서 바로 반영)
+     */
+    public void enqueue(Long placeId, PlaceCurationResult curation) {
+        boolean full;
+        failedPlaceIds.remove(placeId);
+        lock.lock();
+        try {
+            pending.add(new CurationUpdate(placeId, curation, LocalDateTime.now()));
+            full = pending.size() >= batchSize;
+            pendingCount.set(pending.size());
+        } finally {
+            lock.unlock();
+        }
+
+        if (full || closed) {
+            flush();
+        }
+    }
+
+    /**
+     * 대기 중인 결과 모두 반영 (반환 시점에 꺼낸 결과는 모두 반영됐거나 버려짐)
+     *
+     * @return 반영된 건수
+     */
+    @Scheduled(fixedDelayString = "${place.curation.write-back.flush-interval:1000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<CurationUpdate> updates = drain();
+            if (updates.isEmpty()) {
+                return 0;
+            }
+
+            List<CurationUpdate> written = write(updates);
+            if (written.isEmpty()) {
+                return 0;
+            }
+
+            flushedCounter.increment(written.size());
+            log.debug("Flushed {} curation results", written.size());
+            eventPublisher.publishEvent(new PlaceCurationsWrittenEvent(written));
+            return written.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 결과를 모두 반영하고, 주어진 장소 중 반영하지 못하고 버린 장소 반환
+     * (다른 호출 측이 넣은 결과의 실패는 포함하지 않음)
+     */
+    public Set<Long> flush(Collection<Long> placeIds) {
+        flush();
+
+        Set<Long> failed = new HashSet<>();
+        for (Long placeId : placeIds) {
+            if (failedPlaceIds.remove(placeId)) {
+                failed.add(placeId);
+            }
+        }
+        return failed;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        int flushed = flush();
+        if (getPendingCount() > 0) {
+            log.error("Curation results not flushed on shutdown: {}", getPendingCount());
+        } else if (flushed > 0) {
+            log.info("Flushed {} curation results on shutdown", flushed);
+        }
+    }
+
+    private List<CurationUpdate> drain() {
+        lock.lock();
+        try {
+            List<CurationUpdate> drained = pending;
+            pending = new ArrayList<>();
+            pendingCount.set(0);
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<CurationUpdate> write(List<CurationUpdate> updates) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                placeBulkRepository.updateCurations(updates);
+                return updates;
+            } catch (Exception e) {
+                log.warn("Failed to flush {} curation results (attempt {}/{})",
+                        updates.size(), attempt, maxAttempts, e);
+            }
+            if (attempt < maxAttempts && !backoff(attempt)) {
+                break;
+            }
+        }
+
+        // 배치 전체가 계속 실패하면 행 단위로 반영해 실패한 행만 제외
+        List<CurationUpdate> written = new ArrayList<>();
+        for (CurationUpdate update : updates) {
+            try {
+                placeBulkRepository.updateCurations(List.of(update));
+                written.add(update);
+            } catch (Exception e) {
+                failedCounter.increment();
+                failedPlaceIds.add(update.placeId());
+                log.error("Dropped curation result: placeId={}, priceRange={}, bestTime={}",
+                        update.placeId(), update.curation().getPriceRange(), update.curation().getBestTime(), e);
+            }
+        }
+        return written;
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
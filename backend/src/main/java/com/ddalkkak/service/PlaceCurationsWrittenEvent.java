@@ -0,0 +1,11 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+
+import java.util.List;
+
+/**
+ * 큐레이션 결과 DB 반영 완료 (PlaceCurationWriter flush 성공 시 발행)
+ */
+public record PlaceCurationsWrittenEvent(List<CurationUpdate> updates) {
+}
@@ -0,0 +1,314 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 큐레이션 장소 필터용 메모리 역색인 (값마다 압축 비트맵 하나)
+ * - 분위기 태그, 가격대, 추천 시간대, 지역, 데이트 적합도(0~10 값별) 비트맵, 비트 위치 = 장소 위치
+ * - 같은 항목 안의 값은 OR, 항목 간은 AND, 제외 태그는 ANDNOT
+ * - 카탈로그 스냅샷이 바뀔 때 전체 재생성, 그 사이에는 PlaceCurationWriter 반영 결과로 증분 갱신
+ *   (인덱스에 없는 새 장소는 다음 재생성 때 포함, 수집/큐레이션 배치가 끝나면 재생성됨)
+ */
+@Slf4j
+@Component
+public class PlaceFilterIndex {
+
+    public static final String MOOD_TAG = "moodTags";
+    public static final String PRICE_RANGE = "priceRanges";
+    public static final String BEST_TIME = "bestTimes";
+    public static final String REGION = "regions";
+    public static final String DATE_SCORE = "dateScores";
+
+    private static final int MAX_SCORE = 10;
+    private static final int MAX_RECENT_UPDATES = 50_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps(new long[0]);
+    // 스냅샷 적재 중에 반영된 결과를 새 인덱스에 다시 적용하기 위한 기록 (수신 시각 순)
+    private final Deque<ReceivedUpdate> recentUpdates = new ArrayDeque<>();
+
+    /**
+     * 필터 조건 (빈 목록은 조건 없음)
+     */
+    public record Filter(List<String> moodTags, List<String> excludedMoodTags, List<String> priceRanges,
+                         List<String> bestTimes, List<String> regions, int minScore) {
+    }
+
+    /**
+     * 필터 결과: 전체 건수, 적합도 높은 순 상위 장소 id, 항목별 값 건수 (결과 안에서의 건수)
+     */
+    public record Result(int total, List<Long> placeIds, Map<String, Map<String, Integer>> facets) {
+    }
+
+    @EventListener
+    public void onCatalogRebuilt(PlaceCatalogRebuiltEvent event) {
+        long startedAt = System.currentTimeMillis();
+        Bitmaps rebuilt = Bitmaps.from(event.snapshot());
+
+        lock.writeLock().lock();
+        try {
+            // 스냅샷 적재 시작 전에 반영된 결과는 이미 스냅샷에 포함
+            recentUpdates.removeIf(update -> update.receivedNanos() - event.loadStartedNanos() < 0);
+            recentUpdates.forEach(update -> rebuilt.apply(update.update()));
+            rebuilt.optimize();
+            bitmaps = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Rebuilt place filter index: places={}, curated={}, {}ms",
+                rebuilt.placeIds.length, rebuilt.curated.getCardinality(), System.currentTimeMillis() - startedAt);
+    }
+
+    @EventListener
+    public void onCurationsWritten(PlaceCurationsWrittenEvent event) {
+        long receivedNanos = System.nanoTime();
+        int missing = 0;
+
+        lock.writeLock().lock();
+        try {
+            for (CurationUpdate update : event.updates()) {
+                if (!bitmaps.apply(update)) {
+                    missing++;
+                }
+                recentUpdates.addLast(new ReceivedUpdate(receivedNanos, update));
+            }
+            while (recentUpdates.size() > MAX_RECENT_UPDATES) {
+                recentUpdates.removeFirst();
+            }
+        } catch (Exception e) {
+            // DB 반영은 끝났으므로 인덱스는 다음 재생성 때 맞춰짐
+            log.warn("Failed to update place filter index incrementally", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (missing > 0) {
+            log.debug("{} curated places not in filter index yet (added on next rebuild)", missing);
+        }
+    }
+
+    public Result query(Filter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.query(filter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record ReceivedUpdate(long receivedNanos, CurationUpdate update) {
+    }
+
+    /**
+     * 비트맵 묶음 (쓰기는 인덱스 쓰기 잠금 안에서만)
+     */
+    private static final class Bitmaps {
+
+        private final long[] placeIds;
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final RoaringBitmap curated = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> byMoodTag = new HashMap<>();
+        private final Map<String, RoaringBitmap> byPriceRange = new HashMap<>();
+        private final Map<String, RoaringBitmap> byBestTime = new HashMap<>();
+        private final Map<String, RoaringBitmap> byRegion = new HashMap<>();
+        private final RoaringBitmap[] byScore = new RoaringBitmap[MAX_SCORE + 1];
+
+        private Bitmaps(long[] placeIds) {
+            this.placeIds = placeIds;
+            for (int i = 0; i < placeIds.length; i++) {
+                positions.put(placeIds[i], i);
+            }
+            for (int score = 0; score <= MAX_SCORE; score++) {
+                byScore[score] = new RoaringBitmap();
+            }
+        }
+
+        /**
+         * 스냅샷 전체 장소에 위치 부여 (미큐레이션 장소도 지역만 색인해 두고 큐레이션 결과가 오면 채움)
+         */
+        private static Bitmaps from(PlaceCatalogSnapshot snapshot) {
+            List<PlaceCatalogSnapshot.Region> regions = new ArrayList<>();
+            List<String> regionNames = new ArrayList<>(snapshot.regions());
+            regionNames.forEach(name -> regions.add(snapshot.region(name)));
+
+            long[] placeIds = new long[snapshot.size()];
+            int position = 0;
+            for (PlaceCatalogSnapshot.Region region : regions) {
+                for (int i = 0; i < region.size(); i++) {
+                    placeIds[position++] = region.id(i);
+                }
+            }
+
+            Bitmaps bitmaps = new Bitmaps(placeIds);
+            position = 0;
+            for (int r = 0; r < regions.size(); r++) {
+                PlaceCatalogSnapshot.Region region = regions.get(r);
+                RoaringBitmap regionBitmap = bitmaps.byRegion.computeIfAbsent(regionNames.get(r),
+                        key -> new RoaringBitmap());
+                for (int i = 0; i < region.size(); i++, position++) {
+                    regionBitmap.add(position);
+                    if (region.dateScore(i) > 0) {
+                        bitmaps.index(position, region.dateScore(i), region.moodTags(i),
+                                priceKey(region.priceTier(i)), region.bestTime(i));
+                    }
+                }
+            }
+            return bitmaps;
+        }
+
+        /**
+         * 큐레이션 결과 반영 (기존 값 비트를 지우고 새 값 비트 설정)
+         *
+         * @return 인덱스에 있는 장소면 true
+         */
+        private boolean apply(CurationUpdate update) {
+            Integer position = positions.get(update.placeId());
+            if (position == null) {
+                return false;
+            }
+
+            byMoodTag.values().forEach(bitmap -> bitmap.remove(position));
+            byPriceRange.values().forEach(bitmap -> bitmap.remove(position));
+            byBestTime.values().forEach(bitmap -> bitmap.remove(position));
+            for (RoaringBitmap bitmap : byScore) {
+                bitmap.remove(position);
+            }
+
+            PlaceCurationResult curation = update.curation();
+            index(position,
+                    curation.getDateScore() != null ? curation.getDateScore() : 0,
+                    curation.getMoodTags() != null ? List.of(curation.getMoodTags()) : List.of(),
+                    priceKey(PlaceCatalogSnapshot.priceTier(curation.getPriceRange())),
+                    curation.getBestTime());
+            return true;
+        }
+
+        private void index(int position, int dateScore, List<String> moodTags, String priceRange, String bestTime) {
+            curated.add(position);
+            byScore[Math.max(0, Math.min(MAX_SCORE, dateScore))].add(position);
+            for (String tag : moodTags) {
+                byMoodTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(position);
+            }
+            if (priceRange != null) {
+                byPriceRange.computeIfAbsent(priceRange, key -> new RoaringBitmap()).add(position);
+            }
+            if (bestTime != null) {
+                byBestTime.computeIfAbsent(bestTime, key -> new RoaringBitmap()).add(position);
+            }
+        }
+
+        private void optimize() {
+            curated.runOptimize();
+            byMoodTag.values().forEach(RoaringBitmap::runOptimize);
+            byPriceRange.values().forEach(RoaringBitmap::runOptimize);
+            byBestTime.values().forEach(RoaringBitmap::runOptimize);
+            byRegion.values().forEach(RoaringBitmap::runOptimize);
+            for (RoaringBitmap bitmap : byScore) {
+                bitmap.runOptimize();
+            }
+        }
+
+        private Result query(Filter filter, int limit) {
+            RoaringBitmap matched = curated.clone();
+            for (String tag : filter.moodTags()) {
+                matched.and(byMoodTag.getOrDefault(tag, new RoaringBitmap()));
+            }
+            for (String tag : filter.excludedMoodTags()) {
+                RoaringBitmap excluded = byMoodTag.get(tag);
+                if (excluded != null) {
+                    matched.andNot(excluded);
+                }
+            }
+            if (!filter.priceRanges().isEmpty()) {
+                matched.and(union(byPriceRange, filter.priceRanges().stream()
+                        .map(priceRange -> priceKey(PlaceCatalogSnapshot.priceTier(priceRange)))
+                        .toList()));
+            }
+            if (!filter.bestTimes().isEmpty()) {
+                matched.and(union(byBestTime, filter.bestTimes()));
+            }
+            if (!filter.regions().isEmpty()) {
+                matched.and(union(byRegion, filter.regions()));
+            }
+            if (filter.minScore() > 0) {
+                RoaringBitmap scores = new RoaringBitmap();
+                for (int score = Math.min(filter.minScore(), MAX_SCORE + 1); score <= MAX_SCORE; score++) {
+                    scores.or(byScore[score]);
+                }
+                matched.and(scores);
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(MOOD_TAG, counts(matched, byMoodTag));
+            facets.put(PRICE_RANGE, counts(matched, byPriceRange));
+            facets.put(BEST_TIME, counts(matched, byBestTime));
+            facets.put(REGION, counts(matched, byRegion));
+            Map<String, Integer> scoreCounts = new LinkedHashMap<>();
+            for (int score = MAX_SCORE; score >= 0; score--) {
+                int count = RoaringBitmap.andCardinality(matched, byScore[score]);
+                if (count > 0) {
+                    scoreCounts.put(String.valueOf(score), count);
+                }
+            }
+            facets.put(DATE_SCORE, scoreCounts);
+
+            return new Result(matched.getCardinality(), topByScore(matched, limit), facets);
+        }
+
+        /**
+         * 적합도 높은 값의 비트맵부터 교집합을 돌며 limit개 (같은 점수는 장소 위치 순)
+         */
+        private List<Long> topByScore(RoaringBitmap matched, int limit) {
+            List<Long> ids = new ArrayList<>();
+            for (int score = MAX_SCORE; score >= 0 && ids.size() < limit; score--) {
+                IntIterator positions = RoaringBitmap.and(matched, byScore[score]).getIntIterator();
+                while (positions.hasNext() && ids.size() < limit) {
+                    ids.add(placeIds[positions.next()]);
+                }
+            }
+            return ids;
+        }
+
+        private static RoaringBitmap union(Map<String, RoaringBitmap> bitmaps, Collection<String> values) {
+            RoaringBitmap union = new RoaringBitmap();
+            for (String value : values) {
+                RoaringBitmap bitmap = bitmaps.get(value);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+
+        private static Map<String, Integer> counts(RoaringBitmap matched, Map<String, RoaringBitmap> bitmaps) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            bitmaps.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), RoaringBitmap.andCardinality(matched, entry.getValue())))
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+            return counts;
+        }
+
+        private static String priceKey(int priceTier) {
+            return priceTier > 0 ? "₩".repeat(priceTier) : null;
+        }
+    }
+}
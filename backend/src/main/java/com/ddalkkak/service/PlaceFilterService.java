@@ -0,0 +1,58 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.PlaceFilterResponse;
+import com.ddalkkak.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 분위기 태그/가격대/시간대/지역/적합도 조합 필터
+ * - 조건 계산과 항목별 건수는 PlaceFilterIndex 비트맵 연산으로 처리 (DB 조회 없음)
+ * - 응답할 limit개 장소만 id로 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class PlaceFilterService {
+
+    private final PlaceFilterIndex placeFilterIndex;
+    private final PlaceRepository placeRepository;
+
+    public PlaceFilterResponse filter(PlaceFilterIndex.Filter filter, int limit) {
+        PlaceFilterIndex.Result result = placeFilterIndex.query(filter, limit);
+
+        Map<Long, Place> placesById = placeRepository.findAllById(result.placeIds()).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+        List<PlaceFilterResponse.PlaceDto> places = result.placeIds().stream()
+                .map(placesById::get)
+                .filter(Objects::nonNull)
+                .map(PlaceFilterService::toDto)
+                .toList();
+
+        return PlaceFilterResponse.builder()
+                .total(result.total())
+                .facets(result.facets())
+                .places(places)
+                .build();
+    }
+
+    private static PlaceFilterResponse.PlaceDto toDto(Place place) {
+        return PlaceFilterResponse.PlaceDto.builder()
+                .placeId(place.getId())
+                .name(place.getName())
+                .categoryName(place.getCategoryName())
+                .region(place.getRegion())
+                .dateScore(place.getDateScore())
+                .moodTags(place.getMoodTags() != null ? List.of(place.getMoodTags()) : List.of())
+                .priceRange(place.getPriceRange())
+                .bestTime(place.getBestTime())
+                .recommendation(place.getRecommendation())
+                .build();
+    }
+}
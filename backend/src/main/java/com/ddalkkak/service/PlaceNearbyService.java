@@ -0,0 +1,67 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.GridCell;
+import com.ddalkkak.dto.NearbyPlacesResponse;
+import com.ddalkkak.repository.PlaceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 주변 큐레이션 장소 검색
+ * - 반경을 덮는 격자 셀로 후보를 좁힘 (인기 지역은 메모리 인덱스, 그 외는 grid_cell 인덱스 조회)
+ * - 실제 거리(haversine)로 반경 밖 후보를 거르고 가까운 순 정렬
+ * - 메트릭: place.nearby.requests{source=memory|db}
+ */
+@Slf4j
+@Service
+public class PlaceNearbyService {
+
+    private final PlaceSpatialIndex spatialIndex;
+    private final PlaceRepository placeRepository;
+    private final Counter memoryCounter;
+    private final Counter dbCounter;
+
+    public PlaceNearbyService(PlaceSpatialIndex spatialIndex, PlaceRepository placeRepository,
+                              MeterRegistry meterRegistry) {
+        this.spatialIndex = spatialIndex;
+        this.placeRepository = placeRepository;
+        this.memoryCounter = meterRegistry.counter("place.nearby.requests", "source", "memory");
+        this.dbCounter = meterRegistry.counter("place.nearby.requests", "source", "db");
+    }
+
+    public NearbyPlacesResponse findNearby(double latitude, double longitude, int radiusMeters,
+                                           int minScore, int limit) {
+        List<Long> cells = GridCell.covering(latitude, longitude, radiusMeters);
+
+        List<PlaceSpatialIndex.IndexedPlace> candidates = spatialIndex.candidates(cells)
+                .map(indexed -> {
+                    memoryCounter.increment();
+                    return indexed;
+                })
+                .orElseGet(() -> {
+                    dbCounter.increment();
+                    return placeRepository.findCuratedInCells(cells, minScore).stream()
+                            .map(PlaceSpatialIndex.IndexedPlace::from)
+                            .toList();
+                });
+
+        List<NearbyPlacesResponse.NearbyPlaceDto> places = candidates.stream()
+                .filter(place -> place.dateScore() >= minScore)
+                .map(place -> place.toDto(GridCell.distanceMeters(
+                        latitude, longitude, place.latitude(), place.longitude())))
+                .filter(place -> place.getDistanceMeters() <= radiusMeters)
+                .sorted(Comparator.comparingInt(NearbyPlacesResponse.NearbyPlaceDto::getDistanceMeters))
+                .limit(limit)
+                .toList();
+
+        return NearbyPlacesResponse.builder()
+                .count(places.size())
+                .places(places)
+                .build();
+    }
+}
@@ -0,0 +1,244 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.GridCell;
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.NearbyPlacesResponse;
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import com.ddalkkak.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 지역 주변 장소 메모리 격자 인덱스
+ * - 지역 중심에서 radius-meters 안의 셀에 속한 큐레이션 장소 전체를 셀별로 보관
+ * - 검색 범위의 셀이 모두 인덱스 안이면 DB 조회 없이 후보를 반환, 아니면 호출 측이 DB로 조회
+ * - 카탈로그 재생성(수집/큐레이션 배치 완료) 때 전체 재적재, 그 사이에는 PlaceCurationWriter 반영 결과로
+ *   바뀐 셀만 교체 (refresh-interval 주기 재적재는 누락 보정용)
+ * - 갱신할 때마다 새 스냅샷을 만들어 통째로 교체 (조회는 잠금 없음, 갱신끼리는 writeLock으로 직렬화)
+ */
+@Slf4j
+@Component
+public class PlaceSpatialIndex {
+
+    private final PlaceRepository placeRepository;
+    private final List<String> hotRegions;
+    private final double hotRadiusMeters;
+
+    // DB 적재부터 교체까지 잡아, 적재 중에 반영된 큐레이션 결과가 이전 스냅샷에 덮이지 않도록
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.of(Set.of(), Map.of());
+
+    public PlaceSpatialIndex(
+            PlaceRepository placeRepository,
+            @Value("${place.nearby.index.regions:홍대,강남,성수,연남,이태원}") List<String> hotRegions,
+            @Value("${place.nearby.index.radius-meters:3000}") double hotRadiusMeters) {
+        this.placeRepository = placeRepository;
+        this.hotRegions = hotRegions;
+        this.hotRadiusMeters = hotRadiusMeters;
+    }
+
+    /**
+     * 셀 목록 안의 장소 (모든 셀이 인덱스 범위 안일 때만)
+     */
+    public Optional<List<IndexedPlace>> candidates(List<Long> cells) {
+        Snapshot current = snapshot;
+        if (!current.coveredCells().containsAll(cells)) {
+            return Optional.empty();
+        }
+
+        List<IndexedPlace> candidates = new ArrayList<>();
+        for (Long cell : cells) {
+            candidates.addAll(current.placesByCell().getOrDefault(cell, List.of()));
+        }
+        return Optional.of(candidates);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${place.nearby.index.refresh-interval:300000}",
+            initialDelayString = "${place.nearby.index.refresh-interval:300000}")
+    public void refresh() {
+        writeLock.lock();
+        try {
+            Set<Long> cells = new HashSet<>();
+            for (String region : hotRegions) {
+                try {
+                    double[] coords = KakaoLocalService.RegionCoordinates.getCoordinates(region.trim());
+                    cells.addAll(GridCell.covering(coords[1], coords[0], hotRadiusMeters));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping unknown region for nearby place index: {}", region);
+                }
+            }
+
+            Map<Long, List<IndexedPlace>> placesByCell = new HashMap<>();
+            for (Place place : placeRepository.findCuratedInCells(cells, 0)) {
+                placesByCell.computeIfAbsent(place.getGridCell(), cell -> new ArrayList<>())
+                        .add(IndexedPlace.from(place));
+            }
+            placesByCell.replaceAll((cell, places) -> List.copyOf(places));
+
+            snapshot = Snapshot.of(Set.copyOf(cells), placesByCell);
+            log.info("Refreshed nearby place index: regions={}, cells={}, places={}",
+                    hotRegions.size(), cells.size(), placesByCell.values().stream().mapToInt(List::size).sum());
+
+        } catch (Exception e) {
+            // 이전 스냅샷 유지 (범위 밖 요청은 DB로 조회)
+            log.warn("Failed to refresh nearby place index", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 카탈로그 재생성 시 전체 재적재 (새 장소, 원본이 바뀌어 curated_at이 비워진 장소 반영)
+     */
+    @EventListener
+    public void onCatalogRebuilt(PlaceCatalogRebuiltEvent event) {
+        refresh();
+    }
+
+    /**
+     * 큐레이션 결과 반영
+     * - 인덱스에 있는 장소는 DB 조회 없이 결과 값만 바꿔 해당 셀 목록 교체
+     * - 인덱스에 없는 장소(새로 큐레이션된 장소)는 id로 조회해 범위 안 셀이면 추가
+     */
+    @EventListener
+    public void onCurationsWritten(PlaceCurationsWrittenEvent event) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current.coveredCells().isEmpty()) {
+                return;
+            }
+
+            // 같은 장소가 여러 번 있으면 마지막 결과
+            Map<Long, PlaceCurationResult> curations = new LinkedHashMap<>();
+            for (CurationUpdate update : event.updates()) {
+                curations.put(update.placeId(), update.curation());
+            }
+
+            Map<Long, List<IndexedPlace>> changedCells = new HashMap<>();
+            List<Long> missingIds = new ArrayList<>();
+            curations.forEach((placeId, curation) -> {
+                Long cell = current.cellByPlaceId().get(placeId);
+                if (cell == null) {
+                    missingIds.add(placeId);
+                    return;
+                }
+                List<IndexedPlace> places = changedCells.computeIfAbsent(cell,
+                        key -> new ArrayList<>(current.placesByCell().get(key)));
+                places.replaceAll(place -> place.id() == placeId ? place.withCuration(curation) : place);
+            });
+
+            if (!missingIds.isEmpty()) {
+                for (Place place : placeRepository.findAllById(missingIds)) {
+                    Long cell = place.getGridCell();
+                    if (cell == null || place.getCuratedAt() == null || !current.coveredCells().contains(cell)) {
+                        continue;
+                    }
+                    changedCells.computeIfAbsent(cell,
+                                    key -> new ArrayList<>(current.placesByCell().getOrDefault(key, List.of())))
+                            .add(IndexedPlace.from(place));
+                }
+            }
+
+            if (changedCells.isEmpty()) {
+                return;
+            }
+            Map<Long, List<IndexedPlace>> placesByCell = new HashMap<>(current.placesByCell());
+            changedCells.forEach((cell, places) -> placesByCell.put(cell, List.copyOf(places)));
+            snapshot = Snapshot.of(current.coveredCells(), placesByCell);
+            log.debug("Patched nearby place index: updates={}, cells={}", curations.size(), changedCells.size());
+
+        } catch (Exception e) {
+            // DB 반영은 끝났으므로 인덱스는 다음 재적재 때 맞춰짐
+            log.warn("Failed to update nearby place index incrementally", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 인덱스 스냅샷 (cellByPlaceId: 큐레이션 결과 반영 시 장소가 속한 셀 조회용)
+     */
+    private record Snapshot(Set<Long> coveredCells, Map<Long, List<IndexedPlace>> placesByCell,
+                            Map<Long, Long> cellByPlaceId) {
+
+        static Snapshot of(Set<Long> coveredCells, Map<Long, List<IndexedPlace>> placesByCell) {
+            Map<Long, Long> cellByPlaceId = new HashMap<>();
+            placesByCell.forEach((cell, places) -> places.forEach(place -> cellByPlaceId.put(place.id(), cell)));
+            return new Snapshot(coveredCells, placesByCell, cellByPlaceId);
+        }
+    }
+
+    /**
+     * 인덱스에 보관하는 장소 스냅샷 (엔티티 대신 불변 값)
+     */
+    record IndexedPlace(long id, String name, String categoryName, String region, double latitude,
+                        double longitude, int dateScore, List<String> moodTags, String priceRange,
+                        String bestTime, String recommendation) {
+
+        static IndexedPlace from(Place place) {
+            return new IndexedPlace(
+                    place.getId(),
+                    place.getName(),
+                    place.getCategoryName(),
+                    place.getRegion(),
+                    place.getLatitude(),
+                    place.getLongitude(),
+                    place.getDateScore() != null ? place.getDateScore() : 0,
+                    place.getMoodTags() != null ? List.of(place.getMoodTags()) : List.of(),
+                    place.getPriceRange(),
+                    place.getBestTime(),
+                    place.getRecommendation()
+            );
+        }
+
+        IndexedPlace withCuration(PlaceCurationResult curation) {
+            return new IndexedPlace(
+                    id,
+                    name,
+                    categoryName,
+                    region,
+                    latitude,
+                    longitude,
+                    curation.getDateScore() != null ? curation.getDateScore() : 0,
+                    curation.getMoodTags() != null ? List.of(curation.getMoodTags()) : List.of(),
+                    curation.getPriceRange(),
+                    curation.getBestTime(),
+                    curation.getRecommendation()
+            );
+        }
+
+        NearbyPlacesResponse.NearbyPlaceDto toDto(double distanceMeters) {
+            return NearbyPlacesResponse.NearbyPlaceDto.builder()
+                    .placeId(id)
+                    .name(name)
+                    .categoryName(categoryName)
+                    .region(region)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .distanceMeters((int) Math.round(distanceMeters))
+                    .dateScore(dateScore)
+                    .moodTags(moodTags)
+                    .priceRange(priceRange)
+                    .bestTime(bestTime)
+                    .recommendation(recommendation)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Redis Course Cache Store (L2)
+ * 노드 간 공유되는 코스 캐시 + L1 무효화 메시지 발행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "true", matchIfMissing = false)
+public class RedisCourseCacheStore {
+
+    public static final String INVALIDATION_CHANNEL = "course:invalidation";
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisCourseCacheStore(RedisTemplate<String, Object> redisTemplate,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                                 ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+                                 ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public CourseCacheEntry get(String cacheKey) {
+        Object cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached == null) {
+            return null;
+        }
+        return toEntry(cached);
+    }
+
+    public Mono<CourseCacheEntry> getReactive(String cacheKey) {
+        return reactiveRedisTemplate.opsForValue().get(cacheKey)
+                .mapNotNull(this::toEntry);
+    }
+
+    private CourseCacheEntry toEntry(Object cached) {
+        // Convert LinkedHashMap to CourseCacheEntry
+        try {
+            return objectMapper.convertValue(cached, CourseCacheEntry.class);
+        } catch (Exception e) {
+            log.error("Failed to convert cached value", e);
+            return null;
+        }
+    }
+
+    public void set(String cacheKey, CourseCacheEntry entry, Duration ttl) {
+        redisTemplate.opsForValue().set(cacheKey, entry, ttl);
+    }
+
+    public Mono<Boolean> setReactive(String cacheKey, CourseCacheEntry entry, Duration ttl) {
+        return reactiveRedisTemplate.opsForValue().set(cacheKey, entry, ttl);
+    }
+
+    public void delete(String cacheKey) {
+        redisTemplate.delete(cacheKey);
+    }
+
+    /**
+     * 다른 노드의 L1 캐시 무효화 요청 발행
+     */
+    public void publishInvalidation(String cacheKey) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + cacheKey);
+        } catch (Exception e) {
+            // 무효화 실패 시에도 L1 TTL 내에서 자연 만료되므로 요청은 실패시키지 않음
+            log.warn("Failed to publish cache invalidation for key: {}", cacheKey, e);
+        }
+    }
+
+    public Mono<Void> publishInvalidationReactive(String cacheKey) {
+        return reactiveStringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + cacheKey)
+                .onErrorResume(e -> {
+                    log.warn("Failed to publish cache invalidation for key: {}", cacheKey, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 무효화 메시지에서 캐시 키 추출 (자신이 발행한 메시지면 null)
+     */
+    public String parseInvalidation(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        String origin = message.substring(0, separator);
+        if (nodeId.equals(origin)) {
+            return null;
+        }
+        return message.substring(separator + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ddalkkak.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 방식 토큰 버킷 (스레드 안전하지 않음, 호출 측에서 잠금)
+ * - 잔량이 음수면 그만큼 이미 예약된 상태이며, take는 예약분이 충전될 때까지의 대기 시간을 반환
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double available;
+    private long updatedAt;
+
+    private TokenBucket(double capacity, double refillPerNano, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerNano;
+        this.available = capacity;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 분당 한도를 용량으로 하는 버킷
+     */
+    static TokenBucket perMinute(int perMinute, long now) {
+        return new TokenBucket(perMinute, perMinute / (double) TimeUnit.MINUTES.toNanos(1), now);
+    }
+
+    /**
+     * 초당 한도 버킷 (burst: 한 번에 몰아서 보낼 수 있는 최대 요청 수)
+     */
+    static TokenBucket perSecond(int perSecond, int burst, long now) {
+        return new TokenBucket(Math.max(1, burst), perSecond / (double) TimeUnit.SECONDS.toNanos(1), now);
+    }
+
+    /**
+     * @return 대기해야 하는 시간 (ns)
+     */
+    long take(long amount, long now) {
+        refill(now);
+        available -= amount;
+        return available >= 0 ? 0 : (long) Math.ceil(-available / refillPerNano);
+    }
+
+    void refund(long amount, long now) {
+        refill(now);
+        available = Math.min(capacity, available + amount);
+    }
+
+    private void refill(long now) {
+        if (now > updatedAt) {
+            available = Math.min(capacity, available + (now - updatedAt) * refillPerNano);
+            updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- V3: Create curation_batches table for Claude Message Batches API
+-- 제출한 배치 ID를 저장해 서버 재시작 후에도 결과 폴링을 이어서 진행
+
+CREATE TABLE IF NOT EXISTS curation_batches (
+    id BIGSERIAL PRIMARY KEY,
+    anthropic_batch_id VARCHAR(100) UNIQUE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    request_count INTEGER NOT NULL,
+    succeeded_count INTEGER,
+    errored_count INTEGER,
+    completed_at TIMESTAMP,
+
+    -- Metadata
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_curation_batches_status ON curation_batches(status);
+
+COMMENT ON TABLE curation_batches IS 'Claude Message Batches submitted for place curation';
+COMMENT ON COLUMN curation_batches.anthropic_batch_id IS 'Batch ID returned by POST /v1/messages/batches';
+COMMENT ON COLUMN curation_batches.status IS 'IN_PROGRESS, APPLIED (results written to places), FAILED';
@@ -0,0 +1,9 @@
+-- V4: Add indexes for keyset (id cursor) scans of places
+-- 재큐레이션/지역 스캔을 id > :afterId ORDER BY id LIMIT n 페이지로 읽을 때 정렬 없이 인덱스 순서대로 조회
+
+-- 미큐레이션 장소만 담는 부분 인덱스 (큐레이션이 끝나면 인덱스에서 빠짐)
+CREATE INDEX IF NOT EXISTS idx_places_uncurated_id ON places(id) WHERE curated_at IS NULL;
+
+-- 지역별 id 순 스캔 (기존 idx_places_region 대체)
+CREATE INDEX IF NOT EXISTS idx_places_region_id ON places(region, id);
+DROP INDEX IF EXISTS idx_places_region;
@@ -0,0 +1,52 @@
+-- V5: Create batch_jobs / batch_job_checkpoints tables for resumable place collection
+-- 수집 배치 진행 상황을 저장해 서버 재시작 후 마지막 체크포인트부터 이어서 실행하고 진행률 API로 조회
+
+CREATE TABLE IF NOT EXISTS batch_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    phase VARCHAR(20) NOT NULL,
+
+    -- Curation progress (keyset cursor over uncurated places)
+    curation_total INTEGER,
+    curation_processed INTEGER NOT NULL DEFAULT 0,
+    curation_succeeded INTEGER NOT NULL DEFAULT 0,
+    curation_cursor BIGINT,
+    curation_started_at TIMESTAMP,
+
+    error_message VARCHAR(500),
+    heartbeat_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+
+    -- Metadata
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_batch_jobs_status ON batch_jobs(job_type, status);
+
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL REFERENCES batch_jobs(id) ON DELETE CASCADE,
+    region VARCHAR(50) NOT NULL,
+    keyword VARCHAR(50) NOT NULL,
+    last_page INTEGER NOT NULL DEFAULT 0,
+    total_pages INTEGER,
+    collected_count INTEGER NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- Metadata
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_batch_job_checkpoints UNIQUE (job_id, region, keyword)
+);
+
+COMMENT ON TABLE batch_jobs IS 'Place collection batch runs (resumed from checkpoints after restart)';
+COMMENT ON COLUMN batch_jobs.phase IS 'SEARCH (Kakao search/save), CURATION (Claude curation), DONE';
+COMMENT ON COLUMN batch_jobs.curation_cursor IS 'Last place id whose curation was persisted or submitted';
+COMMENT ON COLUMN batch_jobs.heartbeat_at IS 'Updated on every checkpoint, stale RUNNING jobs are resumed';
+COMMENT ON TABLE batch_job_checkpoints IS 'Per region/keyword Kakao search progress of a batch job';
+COMMENT ON COLUMN batch_job_checkpoints.last_page IS 'Last page saved without gaps (0: not started)';
+COMMENT ON COLUMN batch_job_checkpoints.total_pages IS 'Pages to fetch, known after page 1';
@@ -0,0 +1,21 @@
+-- V6: Add content_fingerprint to places
+-- 카카오 원본 필드 fingerprint를 저장해 재수집 시 컬럼 하나로 변경 여부 비교 (변경 없는 장소는 쓰기/큐레이션 없음)
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS content_fingerprint BIGINT;
+
+-- 기존 장소 backfill (Place.computeContentFingerprint와 같은 계산식)
+-- MD5(필드를 0x1F로 연결, null은 빈 문자열, 좌표는 1e-7도 단위 정수)의 앞 8바이트를 signed bigint로
+UPDATE places
+SET content_fingerprint = ('x' || left(md5(concat_ws(chr(31),
+        name,
+        coalesce(address_name, ''),
+        coalesce(road_address_name, ''),
+        coalesce(category_name, ''),
+        coalesce(category_group_code, ''),
+        round(latitude * 1e7)::bigint::text,
+        round(longitude * 1e7)::bigint::text,
+        coalesce(place_url, ''),
+        coalesce(phone, ''))), 16))::bit(64)::bigint
+WHERE content_fingerprint IS NULL;
+
+COMMENT ON COLUMN places.content_fingerprint IS 'First 8 bytes of MD5 over Kakao-sourced fields (change detection on re-collection)';
@@ -0,0 +1,16 @@
+-- V7: Create place_curation_cache table
+-- 같은 입력(장소 정보 + 모델 + 프롬프트 템플릿)의 큐레이션 결과를 저장해 재큐레이션/재수집 시 Claude 호출 생략
+
+CREATE TABLE IF NOT EXISTS place_curation_cache (
+    cache_key CHAR(32) PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    template_version CHAR(16) NOT NULL,
+    result JSONB NOT NULL,
+
+    -- Metadata
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE place_curation_cache IS 'Claude curation results keyed by prompt inputs, model and template version';
+COMMENT ON COLUMN place_curation_cache.cache_key IS 'SHA-256 (first 16 bytes, hex) of model, template version, name, category, region, address';
+COMMENT ON COLUMN place_curation_cache.template_version IS 'SHA-256 (first 8 bytes, hex) of the curation prompt templates, rows of other versions are purged on startup';
@@ -0,0 +1,17 @@
+-- V8: Add grid_cell to places for radius (nearby) queries
+-- (latitude, longitude) B-tree는 반경 검색에 쓸 수 없으므로 0.01도 격자 셀 id로 후보를 좁힘
+
+ALTER TABLE places ADD COLUMN IF NOT EXISTS grid_cell BIGINT;
+
+-- 기존 장소 backfill (GridCell.of와 같은 계산식: (floor(lat*100) << 32) | (floor(lng*100) 하위 32비트))
+UPDATE places
+SET grid_cell = (floor(latitude * 100)::bigint << 32) | (floor(longitude * 100)::bigint & 4294967295)
+WHERE grid_cell IS NULL;
+
+-- 반경 검색: grid_cell IN (...) AND date_score >= ? (큐레이션된 장소만)
+CREATE INDEX IF NOT EXISTS idx_places_grid_cell ON places(grid_cell, date_score) WHERE curated_at IS NOT NULL;
+
+-- 셀 인덱스로 대체
+DROP INDEX IF EXISTS idx_places_location;
+
+COMMENT ON COLUMN places.grid_cell IS '0.01 degree grid cell id: (floor(lat*100) << 32) | (floor(lng*100) & 0xFFFFFFFF)';
@@ -0,0 +1,20 @@
+-- V9: Allow only one RUNNING batch job per job type
+-- 실행 중 작업 확인과 생성 사이에 다른 요청/인스턴스가 끼어들어도 RUNNING 작업이 둘 생기지 않도록 DB에서 보장
+
+-- 기존에 중복 실행 중인 작업이 있으면 가장 최근 작업만 남기고 중단 처리
+UPDATE batch_jobs j
+SET status = 'FAILED',
+    error_message = 'Superseded by a newer running job',
+    completed_at = CURRENT_TIMESTAMP,
+    updated_at = CURRENT_TIMESTAMP
+WHERE j.status = 'RUNNING'
+  AND EXISTS (
+      SELECT 1 FROM batch_jobs newer
+      WHERE newer.job_type = j.job_type
+        AND newer.status = 'RUNNING'
+        AND newer.id > j.id
+  );
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_batch_jobs_running ON batch_jobs(job_type) WHERE status = 'RUNNING';
+
+COMMENT ON INDEX uk_batch_jobs_running IS 'At most one RUNNING job per job_type (violation means a job is already running)';
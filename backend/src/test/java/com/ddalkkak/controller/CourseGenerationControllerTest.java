@@ -11,6 +11,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +20,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -44,12 +47,16 @@ class CourseGenerationControllerTest {
             .build();
 
         CourseGenerationResponse mockResponse = createMockResponse();
-        when(courseGenerationService.generateCourses(any())).thenReturn(mockResponse);
+        when(courseGenerationService.generateCoursesReactive(any())).thenReturn(Mono.just(mockResponse));
 
         // When & Then
-        mockMvc.perform(post("/api/v1/courses/generate")
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/courses/generate")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.requestId").exists())
             .andExpect(jsonPath("$.generatedAt").exists())
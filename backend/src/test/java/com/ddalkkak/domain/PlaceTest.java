@@ -0,0 +1,41 @@
+package com.ddalkkak.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceTest {
+
+    @Test
+    @DisplayName("fingerprint는 V6 마이그레이션 SQL 계산식과 같은 값이고, 카카오 필드가 바뀌면 달라짐")
+    void computeContentFingerprint_MatchesSqlAndDetectsChange() {
+        // Given
+        Place place = place("02-123-4567");
+        Place samePlace = place("02-123-4567");
+        Place phoneChanged = place("02-765-4321");
+
+        // When
+        long fingerprint = place("").computeContentFingerprint();
+
+        // Then: ('x' || left(md5(concat_ws(chr(31), ...)), 16))::bit(64)::bigint 결과
+        assertThat(fingerprint).isEqualTo(1707383019790083821L);
+        assertThat(place.computeContentFingerprint()).isEqualTo(samePlace.computeContentFingerprint());
+        assertThat(place.computeContentFingerprint()).isNotEqualTo(phoneChanged.computeContentFingerprint());
+    }
+
+    private static Place place(String phone) {
+        return Place.builder()
+                .name("카페 A")
+                .kakaoPlaceId("kakao-1")
+                .addressName("서울 마포구 서교동 1")
+                .categoryName("음식점 > 카페")
+                .categoryGroupCode("CE7")
+                .latitude(37.5563)
+                .longitude(126.9244)
+                .placeUrl("http://place.map.kakao.com/1")
+                .phone(phone)
+                .region("홍대")
+                .build();
+    }
+}
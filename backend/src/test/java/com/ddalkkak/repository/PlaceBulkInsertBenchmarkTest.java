@@ -0,0 +1,158 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.GridCell;
+import com.ddalkkak.domain.Place;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장소 저장 방식별 처리량 비교 (10,000곳)
+ * - 기존: 장소마다 findByKakaoPlaceId + save (IDENTITY라 insert 배치 불가)
+ * - 변경: IN 쿼리 1회로 중복 확인 + JDBC batch insert
+ * - upsert: INSERT ... ON CONFLICT DO UPDATE (배치당 1회 왕복, 신규/재실행 각각 측정)
+ *
+ * PostgreSQL 필요, @Disabled 제거하고 실행: ./gradlew test --tests PlaceBulkInsertBenchmarkTest
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Disabled("Requires PostgreSQL and should be run manually")
+class PlaceBulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceBulkInsertBenchmarkTest.class);
+    private static final int PLACE_COUNT = 10_000;
+    private static final String INSERT_SQL = """
+            INSERT INTO places (name, kakao_place_id, address_name, road_address_name, category_name,
+                                category_group_code, latitude, longitude, place_url, phone, region,
+                                content_fingerprint, grid_cell, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceBulkRepository placeBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM places WHERE kakao_place_id LIKE 'bench-%'");
+    }
+
+    @Test
+    void compareRowByRowAndBulkInsert() {
+        // 기존 방식
+        List<Place> rowPlaces = samplePlaces("bench-row-");
+        long rowStartedAt = System.nanoTime();
+        for (Place place : rowPlaces) {
+            if (placeRepository.findByKakaoPlaceId(place.getKakaoPlaceId()).isEmpty()) {
+                placeRepository.save(place);
+            }
+        }
+        double rowSeconds = (System.nanoTime() - rowStartedAt) / 1e9;
+
+        // 변경 방식
+        List<Place> bulkPlaces = samplePlaces("bench-bulk-");
+        long bulkStartedAt = System.nanoTime();
+        insertNewPlaces(bulkPlaces);
+        double bulkSeconds = (System.nanoTime() - bulkStartedAt) / 1e9;
+
+        Integer bulkCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM places WHERE kakao_place_id LIKE 'bench-bulk-%'", Integer.class);
+        assertThat(bulkCount).isEqualTo(PLACE_COUNT);
+
+        log.info("Row-by-row: {} rows in {}s ({} rows/s)",
+                PLACE_COUNT, String.format("%.2f", rowSeconds), String.format("%.0f", PLACE_COUNT / rowSeconds));
+        log.info("Bulk:       {} rows in {}s ({} rows/s)",
+                PLACE_COUNT, String.format("%.2f", bulkSeconds), String.format("%.0f", PLACE_COUNT / bulkSeconds));
+        assertThat(bulkSeconds).isLessThan(rowSeconds);
+    }
+
+    @Test
+    void upsertNewAndUnchangedRows() {
+        List<Place> places = samplePlaces("bench-upsert-");
+
+        long insertStartedAt = System.nanoTime();
+        PlaceBulkRepository.UpsertResult inserted = placeBulkRepository.upsertAll(places);
+        double insertSeconds = (System.nanoTime() - insertStartedAt) / 1e9;
+
+        long rerunStartedAt = System.nanoTime();
+        PlaceBulkRepository.UpsertResult rerun = placeBulkRepository.upsertAll(places);
+        double rerunSeconds = (System.nanoTime() - rerunStartedAt) / 1e9;
+
+        assertThat(inserted.insertedIds()).hasSize(PLACE_COUNT);
+        assertThat(rerun.unchangedCount()).isEqualTo(PLACE_COUNT);
+        assertThat(rerun.changedIds()).isEmpty();
+
+        log.info("Upsert (new):       {} rows in {}s ({} rows/s)",
+                PLACE_COUNT, String.format("%.2f", insertSeconds), String.format("%.0f", PLACE_COUNT / insertSeconds));
+        log.info("Upsert (unchanged): {} rows in {}s ({} rows/s)",
+                PLACE_COUNT, String.format("%.2f", rerunSeconds), String.format("%.0f", PLACE_COUNT / rerunSeconds));
+    }
+
+    /**
+     * 변경 방식 (upsert 도입 전): IN 쿼리 1회로 이미 저장된 id를 걸러내고 JDBC batch insert
+     */
+    private void insertNewPlaces(List<Place> places) {
+        String placeholders = String.join(", ", Collections.nCopies(places.size(), "?"));
+        Set<String> existingIds = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT kakao_place_id FROM places WHERE kakao_place_id IN (" + placeholders + ")",
+                String.class, places.stream().map(Place::getKakaoPlaceId).toArray()));
+        List<Place> newPlaces = places.stream()
+                .filter(place -> !existingIds.contains(place.getKakaoPlaceId()))
+                .toList();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, newPlaces, 500, (ps, place) -> {
+            ps.setString(1, place.getName());
+            ps.setString(2, place.getKakaoPlaceId());
+            ps.setString(3, place.getAddressName());
+            ps.setString(4, place.getRoadAddressName());
+            ps.setString(5, place.getCategoryName());
+            ps.setString(6, place.getCategoryGroupCode());
+            ps.setDouble(7, place.getLatitude());
+            ps.setDouble(8, place.getLongitude());
+            ps.setString(9, place.getPlaceUrl());
+            ps.setString(10, place.getPhone());
+            ps.setString(11, place.getRegion());
+            ps.setLong(12, place.computeContentFingerprint());
+            ps.setLong(13, GridCell.of(place.getLatitude(), place.getLongitude()));
+            ps.setTimestamp(14, now);
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    private static List<Place> samplePlaces(String idPrefix) {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            places.add(Place.builder()
+                    .name("벤치마크 장소 " + i)
+                    .kakaoPlaceId(idPrefix + i)
+                    .addressName("서울 마포구 서교동 " + i)
+                    .categoryName("음식점 > 카페")
+                    .categoryGroupCode("CE7")
+                    .latitude(37.55 + i * 1e-6)
+                    .longitude(126.92 + i * 1e-6)
+                    .region("홍대")
+                    .build());
+        }
+        return places;
+    }
+}
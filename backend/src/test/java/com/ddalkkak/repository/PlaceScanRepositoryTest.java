@@ -0,0 +1,62 @@
+package com.ddalkkak.repository;
+
+import com.ddalkkak.domain.Place;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlaceScanRepositoryTest {
+
+    @Test
+    @DisplayName("마지막 id 다음부터 페이지를 이어 읽고, 처리한 페이지는 영속성 컨텍스트에서 분리")
+    void scanUncurated_MultiplePages_AdvancesCursorAndDetaches() {
+        // Given: id 1~5, 페이지 크기 2
+        List<Place> places = LongStream.rangeClosed(1, 5).mapToObj(PlaceScanRepositoryTest::place).toList();
+        PlaceRepository placeRepository = mock(PlaceRepository.class);
+        when(placeRepository.findUncuratedPlacesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int pageSize = invocation.<Pageable>getArgument(1).getPageSize();
+            return places.stream().filter(place -> place.getId() > afterId).limit(pageSize).toList();
+        });
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.contains(any())).thenReturn(true);
+
+        PlaceScanRepository scanRepository = new PlaceScanRepository(placeRepository, entityManager);
+        List<List<Long>> pages = new ArrayList<>();
+
+        // When
+        long scanned = scanRepository.scanUncurated(2,
+                page -> pages.add(page.stream().map(Place::getId).toList()));
+
+        // Then: 마지막 페이지가 덜 차면 추가 조회 없이 종료
+        assertThat(scanned).isEqualTo(5);
+        assertThat(pages).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        verify(placeRepository, times(3)).findUncuratedPlacesAfter(anyLong(), any(Pageable.class));
+        verify(entityManager, times(5)).detach(any());
+    }
+
+    private static Place place(long id) {
+        return Place.builder()
+                .id(id)
+                .name("장소" + id)
+                .kakaoPlaceId("kakao-" + id)
+                .region("홍대")
+                .addressName("서울 마포구")
+                .latitude(37.55)
+                .longitude(126.92)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.BatchJob;
+import com.ddalkkak.domain.BatchJobCheckpoint;
+import com.ddalkkak.dto.BatchJobProgressResponse;
+import com.ddalkkak.repository.BatchJobCheckpointRepository;
+import com.ddalkkak.repository.BatchJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchJobServiceTest {
+
+    private final BatchJobRepository batchJobRepository = mock(BatchJobRepository.class);
+    private final BatchJobService batchJobService = new BatchJobService(
+            batchJobRepository, mock(BatchJobCheckpointRepository.class));
+
+    @Test
+    @DisplayName("앞 페이지가 빠지면 체크포인트를 진행하지 않아 재개 시 빠진 페이지부터 다시 조회")
+    void advance_PageGap_KeepsCheckpoint() {
+        // Given
+        BatchJobCheckpoint checkpoint = checkpoint();
+
+        // When: 1페이지 저장 후 2페이지 실패, 3페이지 도착
+        boolean first = checkpoint.advance(1, 3, 15);
+        boolean third = checkpoint.advance(3, 3, 15);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(third).isFalse();
+        assertThat(checkpoint.getLastPage()).isEqualTo(1);
+        assertThat(checkpoint.nextPage()).isEqualTo(2);
+        assertThat(checkpoint.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("큐레이션 단계 진행률은 단계 시작 이후 평균 속도로 남은 시간을 추정")
+    void toProgress_CurationPhase_EstimatesEta() {
+        // Given: 10분 전 시작, 5분 전 큐레이션 시작, 5분간 100곳 처리 (분당 20곳), 남은 200곳
+        LocalDateTime now = LocalDateTime.of(2025, 10, 13, 15, 0);
+        BatchJob job = BatchJob.builder()
+                .id(1L)
+                .jobType(BatchJob.JobType.PLACE_COLLECTION)
+                .status(BatchJob.Status.RUNNING)
+                .phase(BatchJob.Phase.CURATION)
+                .curationTotal(300)
+                .curationStartedAt(now.minusMinutes(5))
+                .startedAt(now.minusMinutes(10))
+                .heartbeatAt(now)
+                .build();
+        job.recordCuration(100L, 100, 98);
+
+        BatchJobCheckpoint completed = checkpoint();
+        completed.advance(1, 2, 15);
+        completed.advance(2, 2, 10);
+
+        // When
+        BatchJobProgressResponse progress = batchJobService.toProgress(job, List.of(completed, checkpoint()), now);
+
+        // Then
+        assertThat(progress.getPhase()).isEqualTo("CURATION");
+        assertThat(progress.getElapsedSeconds()).isEqualTo(600);
+        assertThat(progress.getSearch().getTotalSearches()).isEqualTo(2);
+        assertThat(progress.getSearch().getCompletedSearches()).isEqualTo(1);
+        assertThat(progress.getSearch().getCollectedPlaces()).isEqualTo(25);
+        assertThat(progress.getSearch().getPagesPerMinute()).isEqualTo(0.4);
+        assertThat(progress.getCuration().getProcessed()).isEqualTo(100);
+        assertThat(progress.getCuration().getSucceeded()).isEqualTo(98);
+        assertThat(progress.getCuration().getPlacesPerMinute()).isEqualTo(20.0);
+        assertThat(progress.getEtaSeconds()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에서 실행 중인 작업은 heartbeat가 끊겨 보여도 재개하지 않고, 주기적으로 heartbeat만 갱신")
+    void claimStaleJobs_LocallyRunning_SkipsAndHeartbeats() {
+        // Given: 작업 1은 이 인스턴스에서 실행 중, 작업 2는 중단됨
+        BatchJob running = staleJob(1L);
+        BatchJob interrupted = staleJob(2L);
+        when(batchJobRepository.findStaleRunningJobs(any())).thenReturn(List.of(running, interrupted));
+        when(batchJobRepository.claimStaleJob(anyLong(), any(), any())).thenReturn(1);
+        batchJobService.markLocalRunning(1L);
+
+        // When
+        List<BatchJob> claimed = batchJobService.claimStaleJobs();
+        batchJobService.heartbeatLocalRunningJobs();
+
+        // Then
+        assertThat(claimed).containsExactly(interrupted);
+        verify(batchJobRepository, never()).claimStaleJob(eq(1L), any(), any());
+        verify(batchJobRepository).touchHeartbeat(eq(1L), any());
+        verify(batchJobRepository, never()).touchHeartbeat(eq(2L), any());
+        assertThat(batchJobService.markLocalRunning(1L)).isFalse();
+    }
+
+    private static BatchJob staleJob(Long id) {
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
+        return BatchJob.builder()
+                .id(id)
+                .jobType(BatchJob.JobType.PLACE_COLLECTION)
+                .status(BatchJob.Status.RUNNING)
+                .phase(BatchJob.Phase.CURATION)
+                .startedAt(startedAt)
+                .heartbeatAt(startedAt)
+                .build();
+    }
+
+    private static BatchJobCheckpoint checkpoint() {
+        return BatchJobCheckpoint.builder()
+                .jobId(1L)
+                .region("홍대")
+                .keyword("카페")
+                .build();
+    }
+}
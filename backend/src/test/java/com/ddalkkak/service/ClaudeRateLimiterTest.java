@@ -0,0 +1,54 @@
+package com.ddalkkak.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ClaudeRateLimiterTest {
+
+    @Test
+    @DisplayName("분당 요청 한도를 다 쓰면 이후 예약은 충전 간격만큼 순서대로 대기")
+    void reserve_RequestLimitExhausted_QueuesAtRefillInterval() {
+        // Given: 분당 60건 (1초에 1건 충전)
+        ClaudeRateLimiter limiter = new ClaudeRateLimiter(60, 1_000_000, new SimpleMeterRegistry());
+        long now = System.nanoTime();
+        for (int i = 0; i < 60; i++) {
+            assertThat(limiter.reserve(1, now)).isZero();
+        }
+
+        // When
+        long firstWait = limiter.reserve(1, now);
+        long secondWait = limiter.reserve(1, now);
+
+        // Then
+        long tolerance = TimeUnit.MILLISECONDS.toNanos(50);
+        assertThat(firstWait).isCloseTo(TimeUnit.SECONDS.toNanos(1), within(tolerance));
+        assertThat(secondWait).isCloseTo(TimeUnit.SECONDS.toNanos(2), within(tolerance));
+    }
+
+    @Test
+    @DisplayName("예상보다 적게 쓴 토큰은 반환되고, 429 backoff 동안은 한도와 무관하게 대기")
+    void reconcileAndBackoff() {
+        // Given: 분당 1,000 토큰
+        ClaudeRateLimiter limiter = new ClaudeRateLimiter(1_000, 1_000, new SimpleMeterRegistry());
+        assertThat(limiter.reserve(1_000, System.nanoTime())).isZero();
+
+        // When: 실제 사용 400 토큰 → 600 반환
+        limiter.reconcile(1_000, 400);
+
+        // Then
+        assertThat(limiter.reserve(600, System.nanoTime())).isZero();
+
+        // When
+        limiter.backoff(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(limiter.reserve(0, System.nanoTime())).isGreaterThan(TimeUnit.SECONDS.toNanos(4));
+    }
+}
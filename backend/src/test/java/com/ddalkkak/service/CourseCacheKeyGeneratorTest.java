@@ -0,0 +1,64 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+import com.ddalkkak.dto.CourseGenerationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCacheKeyGeneratorTest {
+
+    private final CourseCacheKeyGenerator generator = new CourseCacheKeyGenerator(true, 1.25);
+
+    @Test
+    @DisplayName("같은 예산 밴드와 지역 별칭은 같은 캐시 키를 사용")
+    void generate_SameBandAndAlias_SameKey() {
+        String key1 = generator.generate(request("홍대", 100000));
+        String key2 = generator.generate(request(" 홍대입구 ", 100500));
+
+        assertThat(key1).isEqualTo(key2);
+        assertThat(generator.generate(request("강남", 100000))).isNotEqualTo(key1);
+    }
+
+    @Test
+    @DisplayName("예산 밴드는 로그 스케일로 증가")
+    void budgetBand_LogarithmicBands() {
+        assertThat(generator.budgetBand(10000)).isEqualTo(0);
+        assertThat(generator.budgetBand(12499)).isEqualTo(0);
+        assertThat(generator.budgetBand(12500)).isEqualTo(1);
+        assertThat(generator.bandLowerBound(2)).isEqualTo(15625);
+    }
+
+    @Test
+    @DisplayName("다른 예산의 캐시 결과는 요청 예산에 맞게 비용 조정")
+    void rescale_DifferentBudget_ScalesCosts() {
+        CourseGenerationResponse cached = CourseGenerationResponse.builder()
+                .requestId("r1")
+                .courses(List.of(CourseGenerationResponse.CourseDto.builder()
+                        .courseId("c1")
+                        .places(List.of(CourseGenerationResponse.PlaceDto.builder()
+                                .placeId("p1")
+                                .estimatedCost(20000)
+                                .build()))
+                        .totalCost(90000)
+                        .build()))
+                .build();
+
+        CourseGenerationResponse rescaled = CourseBudgetRescaler.rescale(cached, 100000, 110000);
+
+        assertThat(rescaled.getCourses().get(0).getTotalCost()).isEqualTo(99000);
+        assertThat(rescaled.getCourses().get(0).getPlaces().get(0).getEstimatedCost()).isEqualTo(22000);
+        assertThat(cached.getCourses().get(0).getTotalCost()).isEqualTo(90000);
+    }
+
+    private CourseGenerationRequest request(String region, int budget) {
+        return CourseGenerationRequest.builder()
+                .region(region)
+                .dateType("문화데이트")
+                .budget(budget)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCacheRefreshPolicyTest {
+
+    private static final long SOFT = 1_000_000L;
+    private static final long HARD = 2_000_000L;
+
+    private final CourseCacheEntry entry = CourseCacheEntry.builder()
+            .softExpiresAt(SOFT)
+            .hardExpiresAt(HARD)
+            .computeTimeMs(10_000L)
+            .build();
+
+    @Test
+    @DisplayName("soft expiry 이후는 stale, hard expiry 이후는 만료")
+    void evaluate_AfterSoftOrHardExpiry() {
+        assertThat(CourseCacheRefreshPolicy.evaluate(entry, SOFT, 1.0, 0.5))
+                .isEqualTo(CourseCacheRefreshPolicy.Decision.STALE);
+        assertThat(CourseCacheRefreshPolicy.evaluate(entry, HARD, 1.0, 0.5))
+                .isEqualTo(CourseCacheRefreshPolicy.Decision.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("soft expiry에 가까울수록 조기 갱신, 멀면 유지")
+    void evaluate_BeforeSoftExpiry_RefreshesProbabilisticallyNearExpiry() {
+        // Given: delta=10초, random=0.5 → gap ≈ 6.9초
+
+        // When & Then
+        assertThat(CourseCacheRefreshPolicy.evaluate(entry, SOFT - 1_000, 1.0, 0.5))
+                .isEqualTo(CourseCacheRefreshPolicy.Decision.EARLY_REFRESH);
+        assertThat(CourseCacheRefreshPolicy.evaluate(entry, SOFT - 60_000, 1.0, 0.5))
+                .isEqualTo(CourseCacheRefreshPolicy.Decision.FRESH);
+    }
+
+    @Test
+    @DisplayName("만료 정보가 없는 이전 형식 항목은 갱신하지 않음")
+    void evaluate_LegacyEntry_Fresh() {
+        CourseCacheEntry legacy = CourseCacheEntry.builder().budget(50000).build();
+
+        assertThat(CourseCacheRefreshPolicy.evaluate(legacy, HARD * 10, 1.0, 0.01))
+                .isEqualTo(CourseCacheRefreshPolicy.Decision.FRESH);
+    }
+}
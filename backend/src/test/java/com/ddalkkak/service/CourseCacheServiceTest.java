@@ -0,0 +1,121 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseCacheEntry;
+import com.ddalkkak.dto.CourseGenerationRequest;
+import com.ddalkkak.dto.CourseGenerationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourseCacheServiceTest {
+
+    private final CourseCacheKeyGenerator cacheKeyGenerator = new CourseCacheKeyGenerator(true, 1.25);
+    private final CourseGenerationRequest request = CourseGenerationRequest.builder()
+            .region("홍대")
+            .dateType("카페투어")
+            .budget(100_000)
+            .build();
+
+    private RedisCourseCacheStore redisStore;
+    private CourseCacheService cacheService;
+    private String cacheKey;
+
+    @BeforeEach
+    void setUp() {
+        redisStore = mock(RedisCourseCacheStore.class);
+        cacheService = new CourseCacheService(redisStore, cacheKeyGenerator, new SimpleMeterRegistry(),
+                mock(ApplicationEventPublisher.class), 1000, 0, false, 72_000_000, 1.0);
+        cacheKey = cacheKeyGenerator.generate(request);
+    }
+
+    @Test
+    @DisplayName("L1 미스 시 Redis(L2)에서 조회해 L1에 올리고, 다음 조회는 L1에서 응답")
+    void getFromCache_L1Miss_FallsBackToRedisAndPromotes() {
+        // Given
+        when(redisStore.get(cacheKey)).thenReturn(entry("remote"));
+
+        // When
+        CourseGenerationResponse first = cacheService.getFromCache(request);
+        CourseGenerationResponse second = cacheService.getFromCache(request);
+
+        // Then
+        assertThat(first.getRequestId()).isEqualTo("remote");
+        assertThat(second.getRequestId()).isEqualTo("remote");
+        verify(redisStore, times(1)).get(cacheKey);
+    }
+
+    @Test
+    @DisplayName("L1에 있으면 Redis를 조회하지 않음")
+    void getFromCache_L1Hit_SkipsRedis() {
+        // Given
+        cacheService.saveToCache(request, response("local"), 1_000);
+
+        // When
+        CourseGenerationResponse cached = cacheService.getFromCache(request);
+
+        // Then
+        assertThat(cached.getRequestId()).isEqualTo("local");
+        verify(redisStore).set(any(), any(), any());
+        verify(redisStore, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1에서만 제거하고 다음 조회는 Redis로")
+    void onMessage_RemoteInvalidation_EvictsLocalEntry() {
+        // Given
+        cacheService.saveToCache(request, response("stale"), 1_000);
+        String payload = "other-node|" + cacheKey;
+        when(redisStore.parseInvalidation(payload)).thenReturn(cacheKey);
+        when(redisStore.get(cacheKey)).thenReturn(entry("fresh"));
+
+        CourseCacheInvalidationListener listener = new CourseCacheInvalidationListener(
+                mock(RedisMessageListenerContainer.class), redisStore, cacheService);
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(payload.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        listener.onMessage(message, null);
+        CourseGenerationResponse cached = cacheService.getFromCache(request);
+
+        // Then
+        assertThat(cached.getRequestId()).isEqualTo("fresh");
+        verify(redisStore, times(1)).get(cacheKey);
+        verify(redisStore, never()).delete(anyString());
+    }
+
+    private CourseCacheEntry entry(String requestId) {
+        long now = System.currentTimeMillis();
+        return CourseCacheEntry.builder()
+                .response(response(requestId))
+                .budget(request.getBudget())
+                .softExpiresAt(now + 3_600_000)
+                .hardExpiresAt(now + 7_200_000)
+                .computeTimeMs(1_000L)
+                .build();
+    }
+
+    private CourseGenerationResponse response(String requestId) {
+        return CourseGenerationResponse.builder()
+                .requestId(requestId)
+                .generatedAt(LocalDateTime.now())
+                .courses(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ddalkkak.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseDemandSketchTest {
+
+    @Test
+    @DisplayName("잡음 속에서도 빈도 상위 키를 순서대로 유지")
+    void add_HeavyHittersAmongNoise_TopKOrdered() {
+        // Given
+        CourseDemandSketch sketch = new CourseDemandSketch(256, 4, 3);
+        Random random = new Random(1);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("noise-" + random.nextInt(2_000));
+            if (i % 10 == 0) {
+                sketch.add("hot-1");
+            }
+            if (i % 20 == 0) {
+                sketch.add("hot-2");
+            }
+            if (i % 40 == 0) {
+                sketch.add("hot-3");
+            }
+        }
+
+        // Then
+        List<Map.Entry<String, Long>> top = sketch.top();
+        assertThat(top).extracting(Map.Entry::getKey).containsExactly("hot-1", "hot-2", "hot-3");
+        // Count-Min은 과대 추정만 발생
+        assertThat(sketch.estimate("hot-1")).isGreaterThanOrEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("감쇠 시 모든 빈도가 절반으로 줄어듦")
+    void decay_HalvesCounts() {
+        // Given
+        CourseDemandSketch sketch = new CourseDemandSketch(64, 2, 2);
+        for (int i = 0; i < 8; i++) {
+            sketch.add("key");
+        }
+
+        // When
+        sketch.decay();
+
+        // Then
+        assertThat(sketch.estimate("key")).isEqualTo(4);
+        assertThat(sketch.top()).extracting(Map.Entry::getValue).containsExactly(4L);
+    }
+}
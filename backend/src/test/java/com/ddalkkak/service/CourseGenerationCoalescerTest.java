@@ -0,0 +1,199 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseGenerationCoalescerTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 리더 1회 호출 결과를 공유")
+    void execute_SameKey_LoaderCalledOnce() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(meterRegistry, 5000);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CourseGenerationResponse expected = CourseGenerationResponse.builder().requestId("leader").build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<CourseGenerationResponse>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> coalescer.execute("course:key", () -> {
+                loaderCalls.incrementAndGet();
+                awaitQuietly(release);
+                return expected;
+            }, () -> null)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        for (Future<CourseGenerationResponse> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("course.generation.coalescing.waiters").summary().totalAmount())
+                .isEqualTo(7.0);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("팔로워 대기 시간 초과 시 fallback 응답 반환")
+    void execute_FollowerTimeout_ReturnsFallback() throws Exception {
+        // Given
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(new SimpleMeterRegistry(), 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CourseGenerationResponse fallback = CourseGenerationResponse.builder().requestId("fallback").build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> coalescer.execute("course:key", () -> {
+            awaitQuietly(release);
+            return CourseGenerationResponse.builder().requestId("leader").build();
+        }, () -> fallback));
+        Thread.sleep(50);
+
+        // When
+        CourseGenerationResponse response = coalescer.execute("course:key", () -> null, () -> fallback);
+
+        // Then
+        assertThat(response).isSameAs(fallback);
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Reactive: 같은 키의 팔로워는 리더를 다시 호출하지 않고 리더 결과를 구독")
+    void executeReactive_SameKey_FollowerSharesLeaderResult() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(meterRegistry, 5000);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        Sinks.One<CourseGenerationResponse> leaderResult = Sinks.one();
+        CourseGenerationResponse expected = CourseGenerationResponse.builder().requestId("leader").build();
+        CourseGenerationResponse fallback = CourseGenerationResponse.builder().requestId("fallback").build();
+        Supplier<Mono<CourseGenerationResponse>> loader = () -> {
+            loaderCalls.incrementAndGet();
+            return leaderResult.asMono();
+        };
+
+        // When: 리더 구독 후 팔로워 구독, 그 다음 리더 결과 도착
+        Mono<CourseGenerationResponse> leader = coalescer.executeReactive("course:key", loader, () -> fallback);
+        Mono<CourseGenerationResponse> follower = coalescer.executeReactive("course:key", loader, () -> fallback);
+
+        // Then
+        StepVerifier.create(Mono.zip(leader, follower))
+                .then(() -> leaderResult.tryEmitValue(expected))
+                .assertNext(responses -> {
+                    assertThat(responses.getT1()).isSameAs(expected);
+                    assertThat(responses.getT2()).isSameAs(expected);
+                })
+                .verifyComplete();
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(coalescer.getWaitersByKey()).isEmpty();
+        assertThat(meterRegistry.get("course.generation.coalescing.waiters").summary().totalAmount())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Reactive: 팔로워 대기 시간 초과 시 fallback 응답을 방출하고 리더 결과는 취소하지 않음")
+    void executeReactive_FollowerTimeout_EmitsFallback() {
+        // Given: 결과를 내지 않는 리더
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(meterRegistry, 35_000);
+        Sinks.One<CourseGenerationResponse> leaderResult = Sinks.one();
+        CourseGenerationResponse fallback = CourseGenerationResponse.builder().requestId("fallback").build();
+        AtomicReference<CourseGenerationResponse> leaderReceived = new AtomicReference<>();
+        coalescer.executeReactive("course:key", leaderResult::asMono, () -> fallback)
+                .subscribe(leaderReceived::set);
+
+        // When & Then
+        StepVerifier.withVirtualTime(() -> coalescer.executeReactive("course:key",
+                        () -> Mono.error(new IllegalStateException("follower must not call loader")), () -> fallback))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(34_999))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext(fallback)
+                .verifyComplete();
+        assertThat(meterRegistry.get("course.generation.coalescing.timeouts").counter().count()).isEqualTo(1.0);
+
+        // 팔로워 타임아웃 후에도 리더는 자기 결과를 받음
+        CourseGenerationResponse expected = CourseGenerationResponse.builder().requestId("leader").build();
+        leaderResult.tryEmitValue(expected);
+        assertThat(leaderReceived.get()).isSameAs(expected);
+    }
+
+    @Test
+    @DisplayName("Reactive: 리더 요청이 취소돼도 리더 작업은 계속되고 대기 중인 팔로워는 결과를 받음")
+    void executeReactive_LeaderCancelled_FollowerStillReceivesResult() {
+        // Given
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(new SimpleMeterRegistry(), 5000);
+        Sinks.One<CourseGenerationResponse> leaderResult = Sinks.one();
+        AtomicInteger loaderCancels = new AtomicInteger();
+        CourseGenerationResponse expected = CourseGenerationResponse.builder().requestId("leader").build();
+        CourseGenerationResponse fallback = CourseGenerationResponse.builder().requestId("fallback").build();
+        Disposable leader = coalescer.executeReactive("course:key",
+                        () -> leaderResult.asMono().doOnCancel(loaderCancels::incrementAndGet), () -> fallback)
+                .subscribe();
+        Mono<CourseGenerationResponse> follower = coalescer.executeReactive("course:key",
+                () -> Mono.error(new IllegalStateException("follower must not call loader")), () -> fallback);
+
+        // When & Then: 팔로워 대기 중 리더 클라이언트 연결 종료
+        StepVerifier.create(follower)
+                .then(leader::dispose)
+                .then(() -> leaderResult.tryEmitValue(expected))
+                .expectNext(expected)
+                .verifyComplete();
+        assertThat(loaderCancels.get()).isZero();
+        assertThat(coalescer.getWaitersByKey()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Reactive: loader가 동기적으로 예외를 던져도 진행 중 키를 해제")
+    void executeReactive_LoaderThrows_ReleasesKey() {
+        // Given
+        CourseGenerationCoalescer coalescer = new CourseGenerationCoalescer(new SimpleMeterRegistry(), 5000);
+        CourseGenerationResponse expected = CourseGenerationResponse.builder().requestId("retry").build();
+        Supplier<Mono<CourseGenerationResponse>> throwing = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // When & Then
+        StepVerifier.create(coalescer.executeReactive("course:key", throwing, () -> null))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(coalescer.getWaitersByKey()).isEmpty();
+        StepVerifier.create(coalescer.executeReactive("course:key", () -> Mono.just(expected), () -> null))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationRequest;
+import com.ddalkkak.dto.CourseGenerationResponse;
+import com.ddalkkak.dto.CourseStreamEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourseGenerationServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClaudeApiService claudeApiService;
+    private CourseCacheService cacheService;
+    private CourseGenerationService generationService;
+
+    @BeforeEach
+    void setUp() {
+        CourseCacheKeyGenerator cacheKeyGenerator = new CourseCacheKeyGenerator(true, 1.25);
+        claudeApiService = mock(ClaudeApiService.class);
+        cacheService = new CourseCacheService(null, cacheKeyGenerator, meterRegistry,
+                mock(ApplicationEventPublisher.class), 1000, 0, true, 72_000_000, 1.0);
+        generationService = new CourseGenerationService(cacheService, claudeApiService,
+                mock(LangfuseTraceService.class), cacheKeyGenerator,
+                new CourseGenerationCoalescer(meterRegistry, 5000),
+                new CourseDemandTracker(cacheKeyGenerator, 2048, 4, 50),
+                mock(LocalCoursePlanner.class), meterRegistry, null, "claude");
+    }
+
+    @Test
+    @DisplayName("Reactive: 첫 요청은 Claude로 생성해 캐시에 저장하고, 같은 요청은 캐시에서 응답")
+    void generateCoursesReactive_SecondRequest_ServedFromCache() {
+        // Given
+        CourseGenerationRequest request = CourseGenerationRequest.builder()
+                .region("홍대")
+                .dateType("카페투어")
+                .budget(100_000)
+                .build();
+        CourseGenerationResponse generated = CourseGenerationResponse.builder()
+                .requestId("generated")
+                .generatedAt(LocalDateTime.now())
+                .courses(List.of())
+                .build();
+        when(claudeApiService.generateCoursesReactive(any())).thenReturn(Mono.just(generated));
+
+        // When & Then: 미스 → 생성 후 저장
+        StepVerifier.create(generationService.generateCoursesReactive(request))
+                .assertNext(response -> assertThat(response.getRequestId()).isEqualTo("generated"))
+                .verifyComplete();
+        assertThat(cacheService.peekEntry(request)).isNotNull();
+
+        // When & Then: 히트 → Claude 재호출 없음
+        StepVerifier.create(generationService.generateCoursesReactive(request))
+                .assertNext(response -> assertThat(response.getRequestId()).isEqualTo("generated"))
+                .verifyComplete();
+        verify(claudeApiService, times(1)).generateCoursesReactive(any());
+        assertThat(cacheRequests("miss")).isEqualTo(1.0);
+        assertThat(cacheRequests("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스에서 fallback 응답을 받으면 응답은 하되 캐시에 저장하지 않음")
+    void generateCourses_FallbackResponse_NotCached() {
+        // Given
+        CourseGenerationRequest request = CourseGenerationRequest.builder()
+                .region("강남")
+                .dateType("맛집탐방")
+                .budget(80_000)
+                .build();
+        CourseGenerationResponse fallback = CourseGenerationResponse.builder()
+                .requestId("fallback")
+                .generatedAt(LocalDateTime.now())
+                .courses(List.of())
+                .build();
+        when(claudeApiService.generateCourses(any())).thenReturn(fallback);
+        when(claudeApiService.generateCoursesReactive(any())).thenReturn(Mono.just(fallback));
+        when(claudeApiService.isFallbackResponse(fallback)).thenReturn(true);
+
+        // When & Then
+        assertThat(generationService.generateCourses(request).getRequestId()).isEqualTo("fallback");
+        StepVerifier.create(generationService.generateCoursesReactive(request))
+                .assertNext(response -> assertThat(response.getRequestId()).isEqualTo("fallback"))
+                .verifyComplete();
+        assertThat(cacheService.peekEntry(request)).isNull();
+        assertThat(cacheRequests("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 같은 요청이 동시에 들어오면 Claude 스트리밍은 1회만 호출하고 팔로워는 리더의 응답을 받음")
+    void streamCourses_ConcurrentMisses_CoalescedIntoOneStream() {
+        // Given
+        CourseGenerationRequest request = CourseGenerationRequest.builder()
+                .region("성수")
+                .dateType("카페투어")
+                .budget(60_000)
+                .build();
+        Sinks.Many<CourseGenerationResponse.CourseDto> claudeStream = Sinks.many().unicast().onBackpressureBuffer();
+        when(claudeApiService.streamCourses(any())).thenReturn(claudeStream.asFlux());
+        CourseGenerationResponse.CourseDto course = CourseGenerationResponse.CourseDto.builder()
+                .courseId("c1")
+                .title("성수 카페 코스")
+                .places(List.of())
+                .totalCost(50_000)
+                .build();
+
+        // When: 리더 스트리밍 중 팔로워 합류, 그 다음 코스 도착
+        List<CourseStreamEvent> follower = new ArrayList<>();
+        StepVerifier.create(generationService.streamCourses(request))
+                .then(() -> generationService.streamCourses(request).subscribe(follower::add))
+                .then(() -> claudeStream.tryEmitNext(course))
+                .assertNext(event -> assertThat(event.getType()).isEqualTo(CourseStreamEvent.TYPE_COURSE))
+                .then(claudeStream::tryEmitComplete)
+                .assertNext(event -> assertThat(event.getType()).isEqualTo(CourseStreamEvent.TYPE_COMPLETE))
+                .verifyComplete();
+
+        // Then
+        verify(claudeApiService, times(1)).streamCourses(any());
+        assertThat(follower).extracting(CourseStreamEvent::getType)
+                .containsExactly(CourseStreamEvent.TYPE_COURSE, CourseStreamEvent.TYPE_COMPLETE);
+        assertThat(cacheService.peekEntry(request)).isNotNull();
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.get("course.cache.requests").tag("result", result).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
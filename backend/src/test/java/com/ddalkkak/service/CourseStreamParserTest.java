@@ -0,0 +1,38 @@
+package com.ddalkkak.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseStreamParserTest {
+
+    @Test
+    @DisplayName("조각난 스트리밍 텍스트에서 코스 객체가 닫히는 즉시 추출")
+    void feed_ChunkedText_EmitsEachCourseWhenClosed() {
+        // Given
+        String text = """
+            ```json
+            {"courses": [
+              {"courseId": "c1", "title": "중괄호 { 포함 \\"제목\\"", "places": [{"placeId": "p1"}]},
+              {"courseId": "c2", "title": "두번째", "places": []}
+            ]}
+            ```""";
+        CourseStreamParser parser = new CourseStreamParser();
+        List<String> courses = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < text.length(); i += 7) {
+            courses.addAll(parser.feed(text.substring(i, Math.min(text.length(), i + 7))));
+        }
+
+        // Then
+        assertThat(courses).hasSize(2);
+        assertThat(courses.get(0)).startsWith("{\"courseId\": \"c1\"").endsWith("}]}");
+        assertThat(courses.get(1)).contains("\"c2\"");
+        assertThat(parser.isComplete()).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ddalkkak.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KakaoRateLimiterTest {
+
+    @Test
+    @DisplayName("동시 요청은 100ms 간격으로 예약되고, 일일 쿼터를 넘으면 거부")
+    void reserve_SpacesRequestsAndEnforcesDailyQuota() {
+        // Given: 10 req/s, burst 1, 일일 3건
+        KakaoRateLimiter limiter = new KakaoRateLimiter(10, 1, 3, new SimpleMeterRegistry());
+        long now = System.nanoTime();
+
+        // When
+        long first = limiter.reserve(now);
+        long second = limiter.reserve(now);
+        long third = limiter.reserve(now);
+        long fourth = limiter.reserve(now);
+
+        // Then
+        long tolerance = TimeUnit.MILLISECONDS.toNanos(5);
+        assertThat(first).isZero();
+        assertThat(second).isCloseTo(TimeUnit.MILLISECONDS.toNanos(100), within(tolerance));
+        assertThat(third).isCloseTo(TimeUnit.MILLISECONDS.toNanos(200), within(tolerance));
+        assertThat(fourth).isEqualTo(-1);
+        assertThat(limiter.getUsedToday()).isEqualTo(3);
+    }
+}
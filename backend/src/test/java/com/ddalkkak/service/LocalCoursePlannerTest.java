@@ -0,0 +1,88 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.CourseGenerationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCoursePlannerTest {
+
+    private static final String[] CATEGORIES = {"카페", "음식점", "바", "디저트", "문화시설"};
+    private static final String[] TIMES = {"아침", "점심", "저녁", "야간"};
+
+    @Test
+    @DisplayName("예산 안에서 서로 다른 장소로 3~5곳짜리 코스 3개 생성")
+    void planCourses_WithinBudget_ThreeDistinctCourses() {
+        // Given
+        List<LocalCoursePlanner.PlannerPlace> places = randomPlaces(100, new Random(7));
+
+        // When
+        List<CourseGenerationResponse.CourseDto> courses =
+                LocalCoursePlanner.planCourses(places, "홍대", "문화데이트", 100_000);
+
+        // Then
+        assertThat(courses).hasSize(3);
+        Set<String> usedPlaceIds = new HashSet<>();
+        for (CourseGenerationResponse.CourseDto course : courses) {
+            assertThat(course.getCourseId()).startsWith(LocalCoursePlanner.COURSE_ID_PREFIX);
+            assertThat(course.getPlaces()).hasSizeBetween(3, 5);
+            assertThat(course.getTotalCost()).isLessThanOrEqualTo(100_000);
+            course.getPlaces().forEach(place -> assertThat(usedPlaceIds.add(place.getPlaceId())).isTrue());
+            // 후보가 충분하면 코스 내 카테고리 중복 없음
+            assertThat(course.getPlaces()).extracting(CourseGenerationResponse.PlaceDto::getCategory)
+                    .doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("최소 3곳을 담을 수 없는 예산이면 코스를 만들지 않음")
+    void planCourses_BudgetTooSmall_Empty() {
+        List<LocalCoursePlanner.PlannerPlace> places = randomPlaces(50, new Random(3));
+
+        assertThat(LocalCoursePlanner.planCourses(places, "홍대", "문화데이트", 50_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("직선상의 장소는 거리순으로 방문")
+    void shortestRoute_CollinearPlaces_VisitsInOrder() {
+        // Given
+        List<LocalCoursePlanner.PlannerPlace> places = List.of(
+                place(1, "카페", 37.5530, "점심"),
+                place(2, "음식점", 37.5500, "점심"),
+                place(3, "바", 37.5520, "점심"),
+                place(4, "디저트", 37.5510, "점심"));
+
+        // When
+        List<LocalCoursePlanner.PlannerPlace> route = LocalCoursePlanner.shortestRoute(places);
+
+        // Then
+        List<Long> ids = route.stream().map(LocalCoursePlanner.PlannerPlace::id).toList();
+        assertThat(ids).isIn(List.of(2L, 4L, 3L, 1L), List.of(1L, 3L, 4L, 2L));
+    }
+
+    private static List<LocalCoursePlanner.PlannerPlace> randomPlaces(int count, Random random) {
+        List<LocalCoursePlanner.PlannerPlace> places = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String priceRange = random.nextBoolean() ? "₩" : "₩₩";
+            places.add(new LocalCoursePlanner.PlannerPlace(i, "장소" + i, category, category,
+                    LocalCoursePlanner.PlannerPlace.costForTwo(priceRange, category),
+                    LocalCoursePlanner.PlannerPlace.durationMinutes(category),
+                    37.55 + random.nextDouble() * 0.02, 126.92 + random.nextDouble() * 0.02,
+                    1 + random.nextInt(10), List.of("로맨틱"), TIMES[random.nextInt(TIMES.length)], null));
+        }
+        return places;
+    }
+
+    private static LocalCoursePlanner.PlannerPlace place(long id, String category, double latitude, String bestTime) {
+        return new LocalCoursePlanner.PlannerPlace(id, "장소" + id, category, category, 20_000, 60,
+                latitude, 126.92, 5, List.of(), bestTime, null);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.repository.PlaceBulkRepository;
+import com.ddalkkak.repository.PlaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지역 장소 조회 방식 비교 (100,000곳, 한 지역)
+ * - JPA: findByRegionAndMinDateScore (엔티티 생성)
+ * - 카탈로그: PlaceCatalogSnapshot 지역 파티션 필터 + LocalCoursePlanner 후보 변환
+ * - 메모리: 조회 결과를 들고 있는 동안의 힙 증가량 (GC 후 측정이라 근사치)
+ *
+ * PostgreSQL 필요, @Disabled 제거하고 실행: ./gradlew test --tests PlaceCatalogBenchmarkTest
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Disabled("Requires PostgreSQL and should be run manually")
+class PlaceCatalogBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceCatalogBenchmarkTest.class);
+    private static final int PLACE_COUNT = 100_000;
+    private static final int QUERY_RUNS = 20;
+    private static final String REGION = "벤치마크";
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceBulkRepository placeBulkRepository;
+
+    @Autowired
+    private PlaceCatalog placeCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM places WHERE kakao_place_id LIKE 'bench-catalog-%'");
+    }
+
+    @Test
+    void compareJpaAndCatalogRegionQuery() {
+        seedCuratedPlaces();
+
+        // 메모리
+        long beforeEntities = usedHeap();
+        List<Place> entities = placeRepository.findByRegionAndMinDateScore(REGION, 1);
+        long entityBytes = usedHeap() - beforeEntities;
+
+        long beforeSnapshot = usedHeap();
+        placeCatalog.rebuild("benchmark");
+        PlaceCatalogSnapshot snapshot = placeCatalog.snapshot();
+        long snapshotBytes = usedHeap() - beforeSnapshot;
+        assertThat(snapshot.region(REGION).size()).isEqualTo(PLACE_COUNT);
+        assertThat(entities).hasSize(PLACE_COUNT);
+
+        // 조회 지연 (점수 7 이상 필터)
+        long jpaNanos = 0;
+        for (int run = 0; run < QUERY_RUNS; run++) {
+            long startedAt = System.nanoTime();
+            placeRepository.findByRegionAndMinDateScore(REGION, 7);
+            jpaNanos += System.nanoTime() - startedAt;
+        }
+
+        long catalogNanos = 0;
+        for (int run = 0; run < QUERY_RUNS; run++) {
+            long startedAt = System.nanoTime();
+            PlaceCatalogSnapshot.Region region = placeCatalog.snapshot().region(REGION);
+            List<LocalCoursePlanner.PlannerPlace> places = new ArrayList<>();
+            for (int i : region.indexesWithMinScore(7)) {
+                places.add(LocalCoursePlanner.PlannerPlace.from(region, i));
+            }
+            catalogNanos += System.nanoTime() - startedAt;
+            assertThat(places).isNotEmpty();
+        }
+
+        log.info("Memory  JPA entities: {} MB, catalog: {} MB (estimated {} MB) per {} places",
+                mb(entityBytes), mb(snapshotBytes), mb(snapshot.estimatedBytes()), PLACE_COUNT);
+        log.info("Query   JPA: {} ms, catalog: {} ms (avg of {} runs)",
+                String.format("%.2f", jpaNanos / 1e6 / QUERY_RUNS),
+                String.format("%.2f", catalogNanos / 1e6 / QUERY_RUNS), QUERY_RUNS);
+        assertThat(catalogNanos).isLessThan(jpaNanos);
+    }
+
+    private void seedCuratedPlaces() {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            places.add(Place.builder()
+                    .name("벤치마크 장소 " + i)
+                    .kakaoPlaceId("bench-catalog-" + i)
+                    .addressName("서울 마포구 서교동 " + i)
+                    .categoryName(i % 2 == 0 ? "음식점 > 카페" : "음식점 > 양식")
+                    .categoryGroupCode(i % 2 == 0 ? "CE7" : "FD6")
+                    .latitude(37.55 + i * 1e-7)
+                    .longitude(126.92 + i * 1e-7)
+                    .region(REGION)
+                    .build());
+        }
+        placeBulkRepository.upsertAll(places);
+        jdbcTemplate.update("""
+                UPDATE places
+                SET date_score = 1 + id % 10, mood_tags = ARRAY['로맨틱', '조용한'], price_range = '₩₩',
+                    best_time = '저녁', recommendation = '창가 자리에서 보는 야경이 좋은 곳', curated_at = now()
+                WHERE kakao_place_id LIKE 'bench-catalog-%'
+                """);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String mb(long bytes) {
+        return String.format("%.1f", bytes / 1024.0 / 1024.0);
+    }
+}
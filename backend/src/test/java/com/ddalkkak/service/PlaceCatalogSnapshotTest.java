@@ -0,0 +1,87 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.repository.PlaceCatalogRepository.CatalogRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceCatalogSnapshotTest {
+
+    @Test
+    @DisplayName("지역별로 나눠 저장하고 사전 코드로 바꾼 카테고리/태그/시간대를 원래 값으로 복원")
+    void build_PartitionsByRegionAndDecodesDictionaries() {
+        // Given
+        PlaceCatalogSnapshot snapshot = new PlaceCatalogSnapshot.Builder(3)
+                .add(row(1, "홍대", "음식점 > 카페", 8, new String[]{"로맨틱", "조용한"}, "₩₩", "저녁"))
+                .add(row(2, "강남", "음식점 > 양식", 6, new String[]{"로맨틱"}, "₩₩₩", "점심"))
+                .add(row(3, "홍대", "음식점 > 카페", 0, null, null, null))
+                .build();
+
+        // When
+        PlaceCatalogSnapshot.Region hongdae = snapshot.region("홍대");
+
+        // Then
+        assertThat(snapshot.version()).isEqualTo(3);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(hongdae.size()).isEqualTo(2);
+        assertThat(hongdae.id(0)).isEqualTo(1);
+        assertThat(hongdae.categoryName(0)).isEqualTo("음식점 > 카페");
+        assertThat(hongdae.categoryGroupCode(0)).isEqualTo("CE7");
+        assertThat(hongdae.moodTags(0)).containsExactly("로맨틱", "조용한");
+        assertThat(hongdae.priceTier(0)).isEqualTo(2);
+        assertThat(hongdae.bestTime(0)).isEqualTo("저녁");
+
+        // 미큐레이션 장소는 점수 0, 큐레이션 필드 없음
+        assertThat(hongdae.moodTags(1)).isEmpty();
+        assertThat(hongdae.priceTier(1)).isZero();
+        assertThat(hongdae.bestTime(1)).isNull();
+
+        assertThat(snapshot.region("강남").moodTags(0)).containsExactly("로맨틱");
+        assertThat(snapshot.region("성수").size()).isZero();
+        assertThat(snapshot.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("최소 점수 필터는 조건을 만족하는 장소 인덱스만 id 순서대로 반환")
+    void indexesWithMinScore_FiltersByDateScore() {
+        // Given
+        PlaceCatalogSnapshot.Builder builder = new PlaceCatalogSnapshot.Builder(1);
+        for (int i = 0; i < 10; i++) {
+            builder.add(row(i, "성수", "음식점 > 카페", i, new String[]{"힙한"}, "₩", "오후"));
+        }
+        PlaceCatalogSnapshot.Region seongsu = builder.build().region("성수");
+
+        // When
+        int[] indexes = seongsu.indexesWithMinScore(7);
+
+        // Then
+        assertThat(indexes).containsExactly(7, 8, 9);
+        assertThat(seongsu.dateScore(indexes[0])).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("추천 시간대 값이 127가지를 넘어도 스냅샷을 만들고 값을 복원")
+    void build_ManyDistinctBestTimes_DoesNotOverflow() {
+        // Given: 큐레이션 결과의 자유 형식 시간대 ("오후 3시~5시" 등)
+        PlaceCatalogSnapshot.Builder builder = new PlaceCatalogSnapshot.Builder(1);
+        for (int i = 0; i < 300; i++) {
+            builder.add(row(i, "연남", "음식점 > 카페", 5, null, "₩", "시간대" + i));
+        }
+
+        // When
+        PlaceCatalogSnapshot.Region yeonnam = builder.build().region("연남");
+
+        // Then
+        assertThat(yeonnam.size()).isEqualTo(300);
+        assertThat(yeonnam.bestTime(299)).isEqualTo("시간대299");
+    }
+
+    private static CatalogRow row(long id, String region, String categoryName, int dateScore, String[] moodTags,
+                                  String priceRange, String bestTime) {
+        return new CatalogRow(id, region, "장소" + id, categoryName, "CE7", 37.55, 126.92, dateScore,
+                moodTags, priceRange, bestTime, null);
+    }
+}
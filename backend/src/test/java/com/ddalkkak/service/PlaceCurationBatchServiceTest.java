@@ -0,0 +1,183 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.config.ClaudeApiConfig;
+import com.ddalkkak.domain.CurationBatch;
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.CurationBatchRepository;
+import com.ddalkkak.repository.PlaceBulkRepository;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import com.ddalkkak.repository.PlaceCurationCacheRepository;
+import com.ddalkkak.support.ClaudeApiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceCurationBatchServiceTest {
+
+    private ClaudeApiStubServer stubServer;
+    private ClaudeApiConfig config;
+    private PlaceCurationService placeCurationService;
+    private PlaceCurationWriter placeCurationWriter;
+    private CurationBatchRepository curationBatchRepository;
+    private PlaceCurationCacheRepository curationCacheRepository;
+    private final List<CurationBatch> savedBatches = new ArrayList<>();
+    private final List<CurationUpdate> flushedUpdates = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new ClaudeApiStubServer(0, 0);
+        stubServer.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        config = new ClaudeApiConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", "http://localhost:" + stubServer.getPort());
+        ReflectionTestUtils.setField(config, "apiKey", "test-key");
+
+        curationCacheRepository = mock(PlaceCurationCacheRepository.class);
+        placeCurationService = new PlaceCurationService(WebClient.create(), objectMapper,
+                new ClaudeUsageRecorder(new SimpleMeterRegistry(), objectMapper),
+                new ClaudeRateLimiter(50, 30_000, new SimpleMeterRegistry()), curationCacheRepository);
+        ReflectionTestUtils.setField(placeCurationService, "model", "claude-sonnet-4-20250514");
+        ReflectionTestUtils.setField(placeCurationService, "maxTokens", 1024);
+
+        PlaceBulkRepository placeBulkRepository = mock(PlaceBulkRepository.class);
+        doAnswer(invocation -> flushedUpdates.addAll(invocation.getArgument(0)))
+                .when(placeBulkRepository).updateCurations(anyList());
+        placeCurationWriter = new PlaceCurationWriter(placeBulkRepository,
+                mock(ApplicationEventPublisher.class), 100, 3, 0, new SimpleMeterRegistry());
+
+        curationBatchRepository = mock(CurationBatchRepository.class);
+        when(curationBatchRepository.save(any())).thenAnswer(invocation -> {
+            CurationBatch batch = invocation.getArgument(0);
+            if (!savedBatches.contains(batch)) {
+                savedBatches.add(batch);
+            }
+            return batch;
+        });
+        when(curationBatchRepository.findByStatus(CurationBatch.Status.IN_PROGRESS)).thenAnswer(invocation ->
+                savedBatches.stream().filter(batch -> batch.getStatus() == CurationBatch.Status.IN_PROGRESS).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+    }
+
+    @Test
+    @DisplayName("배치 제출 후 처리가 끝나면 결과를 장소에 반영하고, 재시작한 인스턴스도 폴링을 이어감")
+    void submitAndPoll_BatchEnded_AppliesCurationAfterRestart() {
+        // Given
+        List<Place> places = List.of(place(1L, "카페"), place(2L, "바"), place(3L, "음식점"));
+
+        PlaceCurationBatchService service = newService(2);
+
+        // When: 2건 단위로 나눠 제출, 첫 폴링은 처리 중
+        int submitted = service.submit(places);
+        service.pollPendingBatches();
+
+        // Then
+        assertThat(submitted).isEqualTo(3);
+        assertThat(savedBatches).hasSize(2)
+                .allMatch(batch -> batch.getStatus() == CurationBatch.Status.IN_PROGRESS);
+        assertThat(flushedUpdates).isEmpty();
+
+        // When: 재시작 후 새 인스턴스가 저장된 배치를 폴링
+        newService(2).pollPendingBatches();
+
+        // Then
+        assertThat(savedBatches).allMatch(batch -> batch.getStatus() == CurationBatch.Status.APPLIED);
+        assertThat(savedBatches).extracting(CurationBatch::getSucceededCount).containsExactly(2, 1);
+        assertThat(flushedUpdates).extracting(CurationUpdate::placeId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(flushedUpdates).allSatisfy(update -> {
+            assertThat(update.curatedAt()).isNotNull();
+            assertThat(update.curation().getDateScore()).isEqualTo(8);
+            assertThat(update.curation().getBestTime()).isEqualTo("저녁");
+        });
+        assertThat(placeCurationWriter.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 장소는 제출하지 않고 바로 반영하고, 배치 결과는 캐시에 저장")
+    void submit_CachedPlace_AppliesWithoutSubmittingAndCachesBatchResults() {
+        // Given: 1번 장소만 캐시에 있음
+        ReflectionTestUtils.setField(placeCurationService, "cacheEnabled", true);
+        List<Place> places = List.of(place(1L, "카페"), place(2L, "바"), place(3L, "음식점"));
+        PlaceCurationResult cachedResult = PlaceCurationResult.builder()
+                .dateScore(9)
+                .moodTags(new String[]{"아늑한"})
+                .priceRange("₩")
+                .bestTime("아침")
+                .recommendation("캐시된 추천")
+                .build();
+        String cachedKey = placeCurationService.cacheKey(places.get(0));
+        when(curationCacheRepository.findAll(anyCollection())).thenReturn(Map.of(cachedKey, cachedResult));
+
+        List<String> cachedKeys = new ArrayList<>();
+        doAnswer(invocation -> cachedKeys.addAll(invocation.<Map<String, PlaceCurationResult>>getArgument(0).keySet()))
+                .when(curationCacheRepository).saveAll(anyMap(), eq("claude-sonnet-4-20250514"),
+                        eq(PlaceCurationService.TEMPLATE_VERSION));
+
+        PlaceCurationBatchService service = newService(10);
+
+        // When
+        int submitted = service.submit(places);
+
+        // Then: 캐시 적중 1건은 바로 반영, 나머지 2건만 배치 제출
+        assertThat(submitted).isEqualTo(3);
+        assertThat(flushedUpdates).extracting(CurationUpdate::placeId).containsExactly(1L);
+        assertThat(flushedUpdates.get(0).curation().getRecommendation()).isEqualTo("캐시된 추천");
+        assertThat(savedBatches).singleElement()
+                .extracting(CurationBatch::getRequestCount).isEqualTo(2);
+
+        // When: 배치 종료 후 결과 반영
+        service.pollPendingBatches();
+        service.pollPendingBatches();
+
+        // Then
+        assertThat(flushedUpdates).extracting(CurationUpdate::placeId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(cachedKeys).containsExactlyInAnyOrder(
+                placeCurationService.cacheKey(places.get(1)), placeCurationService.cacheKey(places.get(2)));
+    }
+
+    private PlaceCurationBatchService newService(int maxRequestsPerBatch) {
+        PlaceCurationBatchService service = new PlaceCurationBatchService(config, placeCurationService,
+                placeCurationWriter, curationBatchRepository, new ObjectMapper(), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(service, "maxRequestsPerBatch", maxRequestsPerBatch);
+        service.initWebClient();
+        return service;
+    }
+
+    private static Place place(long id, String category) {
+        return Place.builder()
+                .id(id)
+                .name("장소" + id)
+                .kakaoPlaceId("kakao-" + id)
+                .categoryName(category)
+                .region("홍대")
+                .addressName("서울 마포구")
+                .latitude(37.55)
+                .longitude(126.92)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceCurationCacheRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PlaceCurationServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PlaceCurationService placeCurationService = new PlaceCurationService(WebClient.create(),
+            objectMapper, new ClaudeUsageRecorder(new SimpleMeterRegistry(), objectMapper),
+            new ClaudeRateLimiter(50, 30_000, new SimpleMeterRegistry()), mock(PlaceCurationCacheRepository.class));
+
+    @Test
+    @DisplayName("다건 응답에서 place_id별 결과를 매칭하고 형식이 잘못된 항목은 제외")
+    void parseMultiResults_MixedEntries_KeepsOnlyValid() throws Exception {
+        // Given: 정상 2건, 점수 범위 초과 1건, place_id 누락 1건, 필드 타입 오류 1건
+        String text = """
+                ```json
+                [
+                  {"place_id": 1, "date_score": 8, "mood_tags": ["로맨틱"], "price_range": "₩₩", "best_time": "저녁", "recommendation": "추천1"},
+                  {"place_id": 2, "date_score": 11, "mood_tags": [], "price_range": "₩", "best_time": "점심", "recommendation": "추천2"},
+                  {"date_score": 7, "mood_tags": [], "price_range": "₩", "best_time": "점심", "recommendation": "추천3"},
+                  {"place_id": 4, "date_score": "높음", "mood_tags": [], "price_range": "₩", "best_time": "점심", "recommendation": "추천4"},
+                  {"place_id": "5", "date_score": 6, "mood_tags": ["조용한"], "price_range": "₩", "best_time": "아침", "recommendation": "추천5"}
+                ]
+                ```""";
+
+        // When
+        Map<Long, PlaceCurationResult> results = placeCurationService.parseMultiResults(text);
+
+        // Then
+        assertThat(results).containsOnlyKeys(1L, 5L);
+        assertThat(results.get(1L).getDateScore()).isEqualTo(8);
+        assertThat(results.get(5L).getBestTime()).isEqualTo("아침");
+    }
+}
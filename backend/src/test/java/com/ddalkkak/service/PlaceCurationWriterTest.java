@@ -0,0 +1,107 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PlaceCurationWriterTest {
+
+    private PlaceBulkRepository placeBulkRepository;
+    private final List<List<CurationUpdate>> flushedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        placeBulkRepository = mock(PlaceBulkRepository.class);
+        doAnswer(invocation -> flushedBatches.add(List.copyOf(invocation.getArgument(0))))
+                .when(placeBulkRepository).updateCurations(anyList());
+    }
+
+    @Test
+    @DisplayName("batch-size에 도달하면 모아둔 결과를 한 번에 반영하고, 나머지는 flush 시 반영")
+    void enqueue_BatchSizeReached_FlushesInOneBatch() {
+        // Given
+        PlaceCurationWriter writer = new PlaceCurationWriter(placeBulkRepository,
+                mock(ApplicationEventPublisher.class), 3, 3, 0, new SimpleMeterRegistry());
+
+        // When
+        for (long id = 1; id <= 4; id++) {
+            writer.enqueue(id, curation());
+        }
+
+        // Then
+        assertThat(flushedBatches).hasSize(1);
+        assertThat(flushedBatches.get(0)).extracting(CurationUpdate::placeId).containsExactly(1L, 2L, 3L);
+        assertThat(writer.getPendingCount()).isEqualTo(1);
+
+        // When
+        int flushed = writer.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(flushedBatches.get(1)).extracting(CurationUpdate::placeId).containsExactly(4L);
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch 반영이 계속 실패하면 행 단위로 반영하고, 실패한 행은 버린 뒤 넣은 호출 측에만 알림")
+    void flush_BatchKeepsFailing_FallsBackToPerRowAndDropsBadRow() {
+        // Given: 장소 2의 결과는 어떤 방식으로도 반영 불가
+        PlaceCurationWriter writer = new PlaceCurationWriter(placeBulkRepository,
+                mock(ApplicationEventPublisher.class), 100, 3, 0, new SimpleMeterRegistry());
+        doAnswer(invocation -> {
+            List<CurationUpdate> updates = invocation.getArgument(0);
+            if (updates.stream().anyMatch(update -> update.placeId() == 2L)) {
+                throw new IllegalStateException("value too long for type character varying(20)");
+            }
+            return flushedBatches.add(List.copyOf(updates));
+        }).when(placeBulkRepository).updateCurations(anyList());
+        for (long id = 1; id <= 3; id++) {
+            writer.enqueue(id, curation());
+        }
+
+        // When
+        Set<Long> otherCallerFailed = writer.flush(List.of(3L));
+        Set<Long> failed = writer.flush(List.of(1L, 2L));
+
+        // Then: batch 3회 시도 후 행 단위 3회, 실패 행은 버퍼에 남지 않음
+        verify(placeBulkRepository, times(6)).updateCurations(anyList());
+        assertThat(flushedBatches).extracting(batch -> batch.get(0).placeId()).containsExactly(1L, 3L);
+        assertThat(writer.getPendingCount()).isZero();
+        assertThat(otherCallerFailed).isEmpty();
+        assertThat(failed).containsExactly(2L);
+
+        // When: 다음 flush는 막히지 않음
+        writer.enqueue(4L, curation());
+        int flushed = writer.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(flushedBatches.get(2)).extracting(CurationUpdate::placeId).containsExactly(4L);
+    }
+
+    private static PlaceCurationResult curation() {
+        return PlaceCurationResult.builder()
+                .dateScore(8)
+                .moodTags(new String[]{"로맨틱"})
+                .priceRange("중간")
+                .bestTime("저녁")
+                .recommendation("분위기 좋은 곳")
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import com.ddalkkak.repository.PlaceCatalogRepository.CatalogRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceFilterIndexTest {
+
+    private final PlaceFilterIndex index = new PlaceFilterIndex();
+
+    @Test
+    @DisplayName("태그는 AND, 제외 태그는 ANDNOT, 가격대/시간대는 값 중 하나(OR)로 거르고 항목별 건수를 결과 기준으로 계산")
+    void query_CombinesFacets() {
+        // Given
+        index.onCatalogRebuilt(new PlaceCatalogRebuiltEvent(snapshot(
+                row(1, "홍대", 9, "₩₩", "저녁", "로맨틱", "조용한"),
+                row(2, "홍대", 7, "₩₩", "야간", "로맨틱", "조용한", "활기찬"),
+                row(3, "강남", 8, "₩₩₩", "저녁", "로맨틱", "조용한"),
+                row(4, "홍대", 6, "₩", "저녁", "로맨틱"),
+                row(5, "홍대", 0, null, null)), System.nanoTime()));
+
+        // When: 로맨틱 + 조용한, 활기찬 제외, ₩₩ 또는 ₩₩₩, 저녁
+        PlaceFilterIndex.Result result = index.query(new PlaceFilterIndex.Filter(
+                List.of("로맨틱", "조용한"), List.of("활기찬"), List.of("₩₩", "₩₩₩"), List.of("저녁"), List.of(), 0), 10);
+
+        // Then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.placeIds()).containsExactly(1L, 3L);
+        assertThat(result.facets().get(PlaceFilterIndex.REGION)).containsOnly(
+                Map.entry("홍대", 1), Map.entry("강남", 1));
+        assertThat(result.facets().get(PlaceFilterIndex.PRICE_RANGE)).containsOnlyKeys("₩₩", "₩₩₩");
+        assertThat(result.facets().get(PlaceFilterIndex.MOOD_TAG)).containsOnlyKeys("로맨틱", "조용한");
+    }
+
+    @Test
+    @DisplayName("큐레이션 결과 반영 시 이전 값 비트를 지우고 새 값으로 증분 갱신, 재생성 중 반영분은 새 인덱스에도 유지")
+    void onCurationsWritten_UpdatesIncrementally() {
+        // Given: 2번은 아직 미큐레이션
+        long loadStartedNanos = System.nanoTime();
+        PlaceCatalogSnapshot snapshot = snapshot(
+                row(1, "성수", 8, "₩₩", "저녁", "힙한"),
+                row(2, "성수", 0, null, null));
+        index.onCatalogRebuilt(new PlaceCatalogRebuiltEvent(snapshot, loadStartedNanos));
+
+        // When: 1번 태그 변경, 2번 큐레이션
+        index.onCurationsWritten(new PlaceCurationsWrittenEvent(List.of(
+                update(1L, 6, "아늑한"),
+                update(2L, 9, "힙한"))));
+
+        // Then
+        assertThat(query("힙한").placeIds()).containsExactly(2L);
+        assertThat(query("아늑한").placeIds()).containsExactly(1L);
+        assertThat(query().facets().get(PlaceFilterIndex.DATE_SCORE)).containsOnlyKeys("9", "6");
+
+        // 반영 전에 적재를 시작한 스냅샷으로 재생성해도 증분 결과 유지
+        index.onCatalogRebuilt(new PlaceCatalogRebuiltEvent(snapshot, loadStartedNanos));
+        assertThat(query("힙한").placeIds()).containsExactly(2L);
+        assertThat(query("아늑한").placeIds()).containsExactly(1L);
+    }
+
+    private PlaceFilterIndex.Result query(String... moodTags) {
+        return index.query(new PlaceFilterIndex.Filter(
+                List.of(moodTags), List.of(), List.of(), List.of(), List.of(), 0), 10);
+    }
+
+    private static PlaceCatalogSnapshot snapshot(CatalogRow... rows) {
+        PlaceCatalogSnapshot.Builder builder = new PlaceCatalogSnapshot.Builder(1);
+        for (CatalogRow row : rows) {
+            builder.add(row);
+        }
+        return builder.build();
+    }
+
+    private static CatalogRow row(long id, String region, int dateScore, String priceRange, String bestTime,
+                                  String... moodTags) {
+        return new CatalogRow(id, region, "장소" + id, "음식점 > 카페", "CE7", 37.55, 126.92, dateScore,
+                moodTags.length > 0 ? moodTags : null, priceRange, bestTime, null);
+    }
+
+    private static CurationUpdate update(Long placeId, int dateScore, String moodTag) {
+        return new CurationUpdate(placeId, PlaceCurationResult.builder()
+                .dateScore(dateScore)
+                .moodTags(new String[]{moodTag})
+                .priceRange("₩₩")
+                .bestTime("저녁")
+                .build(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,130 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.domain.GridCell;
+import com.ddalkkak.domain.Place;
+import com.ddalkkak.dto.NearbyPlacesResponse;
+import com.ddalkkak.dto.PlaceCurationResult;
+import com.ddalkkak.repository.PlaceBulkRepository.CurationUpdate;
+import com.ddalkkak.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlaceNearbyServiceTest {
+
+    // 홍대 중심 (KakaoLocalService.RegionCoordinates)
+    private static final double LAT = 37.5563;
+    private static final double LNG = 126.9244;
+
+    private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("격자 셀 id는 V8 마이그레이션 SQL 계산식과 같고, 반경을 덮는 셀에 경계 너머 장소의 셀도 포함")
+    void gridCell_MatchesSqlAndCoversRadius() {
+        // (floor(37.5563 * 100)::bigint << 32) | (floor(126.9244 * 100)::bigint & 4294967295)
+        assertThat(GridCell.of(LAT, LNG)).isEqualTo((3755L << 32) | 12692L);
+        assertThat(GridCell.of(-0.001, -0.001)).isEqualTo((-1L << 32) | 0xFFFFFFFFL);
+
+        // 북동쪽 약 900m 지점은 다른 셀이지만 1km 반경 셀 목록에 포함
+        assertThat(GridCell.covering(LAT, LNG, 1000)).contains(GridCell.of(LAT + 0.006, LNG + 0.006));
+    }
+
+    @Test
+    @DisplayName("인덱스 범위 안 검색은 DB 조회 없이 반경/점수로 거르고 가까운 순으로 반환")
+    void findNearby_HotRegion_UsesMemoryIndex() {
+        // Given
+        Place near = place(1L, "가까운 카페", LAT + 0.001, LNG, 8);        // 약 110m
+        Place far = place(2L, "먼 카페", LAT + 0.006, LNG + 0.006, 9);     // 약 860m
+        Place lowScore = place(3L, "점수 낮은 카페", LAT, LNG + 0.001, 3);  // 약 90m
+        Place outside = place(4L, "반경 밖 카페", LAT + 0.012, LNG, 9);     // 약 1.3km
+        when(placeRepository.findCuratedInCells(anyCollection(), anyInt()))
+                .thenReturn(List.of(far, lowScore, outside, near));
+
+        PlaceSpatialIndex index = new PlaceSpatialIndex(placeRepository, List.of("홍대", "없는지역"), 3000);
+        index.refresh();
+        PlaceNearbyService service = new PlaceNearbyService(index, placeRepository, meterRegistry);
+
+        // When
+        NearbyPlacesResponse response = service.findNearby(LAT, LNG, 1000, 5, 50);
+
+        // Then
+        assertThat(response.getPlaces())
+                .extracting(NearbyPlacesResponse.NearbyPlaceDto::getPlaceId)
+                .containsExactly(1L, 2L);
+        assertThat(response.getPlaces().get(0).getDistanceMeters()).isBetween(100, 120);
+        verify(placeRepository, times(1)).findCuratedInCells(anyCollection(), any());
+        assertThat(meterRegistry.counter("place.nearby.requests", "source", "memory").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인덱스 범위 밖 검색은 grid_cell 조회 결과로 응답")
+    void findNearby_OutsideIndex_FallsBackToDatabase() {
+        // Given: 인덱스를 채우지 않음
+        Place place = place(1L, "카페", LAT, LNG, 7);
+        when(placeRepository.findCuratedInCells(anyCollection(), anyInt())).thenReturn(List.of(place));
+        PlaceSpatialIndex index = new PlaceSpatialIndex(placeRepository, List.of(), 3000);
+        PlaceNearbyService service = new PlaceNearbyService(index, placeRepository, meterRegistry);
+
+        // When
+        NearbyPlacesResponse response = service.findNearby(LAT, LNG, 500, 0, 50);
+
+        // Then
+        assertThat(response.getCount()).isEqualTo(1);
+        assertThat(response.getPlaces().get(0).getDistanceMeters()).isZero();
+        assertThat(meterRegistry.counter("place.nearby.requests", "source", "db").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐레이션 결과 반영 이벤트로 인덱스 장소의 점수를 바꾸고, 새로 큐레이션된 범위 안 장소를 추가")
+    void onCurationsWritten_PatchesIndexedAndAddsNewPlaces() {
+        // Given: 점수 8인 장소 하나만 인덱스에 있음
+        when(placeRepository.findCuratedInCells(anyCollection(), anyInt()))
+                .thenReturn(List.of(place(1L, "카페", LAT + 0.001, LNG, 8)));
+        PlaceSpatialIndex index = new PlaceSpatialIndex(placeRepository, List.of("홍대"), 3000);
+        index.refresh();
+        Place newlyCurated = place(2L, "새 카페", LAT, LNG + 0.001, 6);
+        when(placeRepository.findAllById(List.of(2L))).thenReturn(List.of(newlyCurated));
+        PlaceNearbyService service = new PlaceNearbyService(index, placeRepository, meterRegistry);
+
+        // When
+        index.onCurationsWritten(new PlaceCurationsWrittenEvent(List.of(
+                new CurationUpdate(1L, PlaceCurationResult.builder().dateScore(3).build(), LocalDateTime.now()),
+                new CurationUpdate(2L, PlaceCurationResult.builder().dateScore(6).build(), LocalDateTime.now()))));
+        NearbyPlacesResponse response = service.findNearby(LAT, LNG, 1000, 5, 50);
+
+        // Then: 점수가 3으로 내려간 장소는 빠지고 새 장소는 DB 재적재 없이 포함
+        assertThat(response.getPlaces())
+                .extracting(NearbyPlacesResponse.NearbyPlaceDto::getPlaceId)
+                .containsExactly(2L);
+        verify(placeRepository, times(1)).findCuratedInCells(anyCollection(), any());
+    }
+
+    private static Place place(Long id, String name, double latitude, double longitude, int dateScore) {
+        return Place.builder()
+                .id(id)
+                .name(name)
+                .kakaoPlaceId("kakao-" + id)
+                .categoryName("음식점 > 카페")
+                .latitude(latitude)
+                .longitude(longitude)
+                .region("홍대")
+                .gridCell(GridCell.of(latitude, longitude))
+                .dateScore(dateScore)
+                .moodTags(new String[]{"로맨틱"})
+                .curatedAt(LocalDateTime.now())
+                .build();
+    }
+}
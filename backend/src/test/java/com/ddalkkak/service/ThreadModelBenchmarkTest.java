@@ -0,0 +1,208 @@
+package com.ddalkkak.service;
+
+import com.ddalkkak.config.ClaudeApiConfig;
+import com.ddalkkak.dto.CourseGenerationRequest;
+import com.ddalkkak.support.ClaudeApiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스레드 모델별 코스 생성 처리량 비교 (동시 요청 500개, Claude API 스텁 지연 2초)
+ * - A. 플랫폼 스레드 200개(Tomcat 기본값) + blocking generateCourses
+ * - B. 요청마다 가상 스레드 + blocking generateCourses
+ * - C. 플랫폼 스레드에서 구독 + generateCoursesReactive
+ * - D. 요청마다 가상 스레드에서 구독 + generateCoursesReactive
+ * - HTTP 계층 없이 ClaudeApiService → WebClient → 스텁 서버 구간만 측정 (k6 절차는 docs/operations/virtual-threads-benchmark.md)
+ *
+ * Java 21 필요, @Disabled 제거하고 실행: ./gradlew test --tests ThreadModelBenchmarkTest
+ */
+@Disabled("Takes several minutes and should be run manually")
+class ThreadModelBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModelBenchmarkTest.class);
+    private static final int CONCURRENCY = 500;
+    private static final int REQUESTS = 2_000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long STUB_LATENCY_MS = 2_000;
+
+    private static ClaudeApiStubServer stubServer;
+    private static ClaudeApiService claudeApiService;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        // 커넥션 풀이 아니라 스레드 모델의 차이만 측정되도록 (기본값은 CPU 코어 수 비례)
+        System.setProperty("reactor.netty.pool.maxConnections", "600");
+        // 스텁(JDK HttpServer)이 유휴 연결을 200개까지만 유지해, 풀에서 재사용한 연결이 끊기지 않도록
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "1000");
+
+        stubServer = new ClaudeApiStubServer(0, STUB_LATENCY_MS);
+        stubServer.start();
+
+        ClaudeApiConfig config = new ClaudeApiConfig();
+        ReflectionTestUtils.setField(config, "baseUrl", "http://localhost:" + stubServer.getPort());
+        ReflectionTestUtils.setField(config, "apiKey", "stub");
+        ReflectionTestUtils.setField(config, "model", "stub");
+        ReflectionTestUtils.setField(config, "timeout", 70_000);
+        ReflectionTestUtils.setField(config, "maxTokens", 4096);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        claudeApiService = new ClaudeApiService(config, objectMapper, CircuitBreakerRegistry.ofDefaults(),
+                mock(LocalCoursePlanner.class), new ClaudeUsageRecorder(new SimpleMeterRegistry(), objectMapper));
+        claudeApiService.initWebClient();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        stubServer.stop();
+    }
+
+    @Test
+    void compareThreadModels() throws Exception {
+        ExecutorService tomcat = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+
+        try {
+            run("A. platform + blocking", blocking(tomcat), WARMUP_REQUESTS);
+            List<Result> results = List.of(
+                    run("A. platform + blocking", blocking(tomcat), REQUESTS),
+                    run("B. virtual + blocking", blocking(virtual), REQUESTS),
+                    run("C. platform + reactive", reactive(), REQUESTS),
+                    run("D. virtual + reactive", reactiveOn(virtual), REQUESTS));
+
+            log.info("| 조합 | req/s | p50 (ms) | p99 (ms) | 오류율 | 최대 힙 (MB) | pinned 이벤트 수 |");
+            results.forEach(result -> log.info(result.toString()));
+        } finally {
+            tomcat.shutdownNow();
+            virtual.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청 스레드에서 blocking 호출 (실행기 큐 대기 시간 포함, Tomcat accept 큐 대기에 해당)
+     */
+    private Function<Integer, Mono<Long>> blocking(ExecutorService executor) {
+        return index -> Mono.create(sink -> {
+            long startedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    claudeApiService.generateCourses(request(index));
+                    sink.success(System.nanoTime() - startedAt);
+                } catch (Exception e) {
+                    sink.error(e);
+                }
+            });
+        });
+    }
+
+    private Function<Integer, Mono<Long>> reactive() {
+        return index -> Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return claudeApiService.generateCoursesReactive(request(index))
+                    .map(response -> System.nanoTime() - startedAt);
+        });
+    }
+
+    private Function<Integer, Mono<Long>> reactiveOn(ExecutorService executor) {
+        return index -> Mono.create(sink -> {
+            long startedAt = System.nanoTime();
+            executor.execute(() -> claudeApiService.generateCoursesReactive(request(index))
+                    .subscribe(response -> sink.success(System.nanoTime() - startedAt), sink::error));
+        });
+    }
+
+    private Result run(String name, Function<Integer, Mono<Long>> call, int requests) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger pinned = new AtomicInteger();
+        CountDownLatch pinnedStarted = new CountDownLatch(1);
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned");
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.incrementAndGet());
+            recording.onFlush(pinnedStarted::countDown);
+            recording.startAsync();
+            pinnedStarted.await(5, TimeUnit.SECONDS);
+
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long startedAt = System.nanoTime();
+            Flux.range(0, requests)
+                    .flatMap(index -> call.apply(index)
+                            .doOnNext(latencies::add)
+                            .onErrorResume(e -> {
+                                errors.incrementAndGet();
+                                return Mono.empty();
+                            }), CONCURRENCY)
+                    .blockLast();
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            return new Result(name, requests, elapsedNanos, latencies, errors.get(), peakHeap, pinned.get());
+        }
+    }
+
+    private static CourseGenerationRequest request(int index) {
+        // 캐시/요청 병합과 무관하게 매번 새 요청
+        return CourseGenerationRequest.builder()
+                .region("홍대")
+                .dateType("bench-" + index)
+                .budget(100_000)
+                .build();
+    }
+
+    private record Result(String name, int requests, long elapsedNanos, List<Long> latencies, int errors,
+                          long peakHeapBytes, int pinnedEvents) {
+
+        @Override
+        public String toString() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format("| %s | %.1f | %d | %d | %.2f%% | %d | %d |",
+                    name,
+                    requests / (elapsedNanos / 1e9),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    errors * 100.0 / requests,
+                    peakHeapBytes / (1024 * 1024),
+                    pinnedEvents);
+        }
+
+        private static long percentileMillis(List<Long> sorted, double percentile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+        }
+    }
+}
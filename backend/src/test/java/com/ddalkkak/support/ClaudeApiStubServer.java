@@ -0,0 +1,175 @@
+package com.ddalkkak.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Claude Messages API 스텁 서버 (부하 테스트용)
+ * - POST /v1/messages 에 고정 지연 후 코스 3개를 담은 응답 반환
+ * - Message Batches: POST /v1/messages/batches, GET /v1/messages/batches/{id}, GET .../{id}/results
+ *   배치는 상태 조회 2회째에 ended, 모든 요청이 고정 큐레이션 결과로 succeeded
+ * - 실제 API 비용/레이트 리밋 없이 스레드 모델별 처리량 비교에 사용
+ *
+ * 실행: java ClaudeApiStubServer.java [port] [latencyMs]
+ */
+public class ClaudeApiStubServer {
+
+    private static final String COURSES_JSON = """
+            {"courses": [%s, %s, %s]}""".formatted(course("c1"), course("c2"), course("c3"));
+
+    private static final String CURATION_JSON = """
+            {"date_score": 8, "mood_tags": ["로맨틱", "조용한"], "price_range": "₩₩", "best_time": "저녁", "recommendation": "스텁 추천"}""";
+
+    private static final Pattern CUSTOM_ID = Pattern.compile("\"custom_id\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String BATCHES_PATH = "/v1/messages/batches";
+
+    private final HttpServer server;
+    private final long latencyMs;
+    private final AtomicInteger batchSequence = new AtomicInteger();
+    private final Map<String, List<String>> batchCustomIds = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> batchPolls = new ConcurrentHashMap<>();
+
+    public ClaudeApiStubServer(int port, long latencyMs) throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.server.createContext("/v1/messages", this::handleMessages);
+        this.server.createContext(BATCHES_PATH, this::handleBatches);
+        // 지연 구간 동안 연결을 많이 붙잡아도 스텁 자체가 병목이 되지 않도록
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+
+        ClaudeApiStubServer stub = new ClaudeApiStubServer(port, latencyMs);
+        stub.start();
+        System.out.printf("Claude API stub listening on :%d (latency=%dms)%n", port, latencyMs);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleMessages(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            sleep(latencyMs);
+
+            String body = """
+                    {"id": "msg_stub", "type": "message", "role": "assistant",
+                     "content": [{"type": "text", "text": %s}],
+                     "usage": {"input_tokens": 800, "output_tokens": 1200}}"""
+                    .formatted(jsonString(COURSES_JSON));
+            respond(exchange, 200, "application/json", body);
+        }
+    }
+
+    private void handleBatches(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            if ("POST".equals(method) && path.equals(BATCHES_PATH)) {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                List<String> customIds = new ArrayList<>();
+                Matcher matcher = CUSTOM_ID.matcher(body);
+                while (matcher.find()) {
+                    customIds.add(matcher.group(1));
+                }
+                String batchId = "msgbatch_stub_" + batchSequence.incrementAndGet();
+                batchCustomIds.put(batchId, customIds);
+                batchPolls.put(batchId, new AtomicInteger());
+                respond(exchange, 200, "application/json", batchJson(batchId, "in_progress", null));
+                return;
+            }
+
+            String batchId = path.substring(BATCHES_PATH.length() + 1).replace("/results", "");
+            List<String> customIds = batchCustomIds.get(batchId);
+            if (!"GET".equals(method) || customIds == null) {
+                respond(exchange, 404, "application/json", "{\"type\": \"error\"}");
+                return;
+            }
+
+            if (path.endsWith("/results")) {
+                StringBuilder lines = new StringBuilder();
+                String message = """
+                        {"id": "msg_stub", "type": "message", "role": "assistant", "content": [{"type": "text", "text": %s}]}"""
+                        .formatted(jsonString(CURATION_JSON));
+                for (String customId : customIds) {
+                    lines.append("{\"custom_id\": \"").append(customId)
+                            .append("\", \"result\": {\"type\": \"succeeded\", \"message\": ")
+                            .append(message).append("}}\n");
+                }
+                respond(exchange, 200, "application/binary", lines.toString());
+                return;
+            }
+
+            boolean ended = batchPolls.get(batchId).incrementAndGet() >= 2;
+            String resultsUrl = "http://localhost:" + getPort() + BATCHES_PATH + "/" + batchId + "/results";
+            respond(exchange, 200, "application/json",
+                    batchJson(batchId, ended ? "ended" : "in_progress", ended ? resultsUrl : null));
+        }
+    }
+
+    private String batchJson(String batchId, String processingStatus, String resultsUrl) {
+        int count = batchCustomIds.get(batchId).size();
+        boolean ended = "ended".equals(processingStatus);
+        return """
+                {"id": "%s", "type": "message_batch", "processing_status": "%s",
+                 "request_counts": {"processing": %d, "succeeded": %d, "errored": 0, "canceled": 0, "expired": 0},
+                 "results_url": %s}"""
+                .formatted(batchId, processingStatus, ended ? 0 : count, ended ? count : 0,
+                        resultsUrl == null ? "null" : jsonString(resultsUrl));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String course(String courseId) {
+        return """
+                {"courseId": "%s", "title": "스텁 코스 %s", "places": [
+                  {"placeId": "p1", "name": "스텁 카페", "category": "카페", "estimatedCost": 15000, "estimatedDuration": 60, "description": "스텁"},
+                  {"placeId": "p2", "name": "스텁 식당", "category": "음식점", "estimatedCost": 40000, "estimatedDuration": 90, "description": "스텁"}
+                ], "totalCost": 55000, "totalTime": "2.5시간"}""".formatted(courseId, courseId);
+    }
+
+    private static String jsonString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}